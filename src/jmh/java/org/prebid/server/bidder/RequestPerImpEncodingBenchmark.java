@@ -0,0 +1,89 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding of requests made for each imp (as done by {@link OpenrtbBidder} with
+ * {@link OpenrtbBidder.RequestCreationStrategy#REQUEST_PER_IMP}) as whole requests and with shared
+ * {@link BidRequestEnvelope}.
+ * <p>
+ * Requests are built from the bid request of Sonobi integration test with imp replicated the given number of times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestPerImpEncodingBenchmark {
+
+    private static final String BID_REQUEST_RESOURCE =
+            "/org/prebid/server/it/openrtb2/sonobi/test-sonobi-bid-request-1.json";
+
+    @Param({"1", "5", "20"})
+    private int imps;
+
+    private JacksonMapper mapper;
+    private List<BidRequest> outgoingRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+        final BidRequest bidRequest;
+        try (InputStream inputStream = getClass().getResourceAsStream(BID_REQUEST_RESOURCE)) {
+            bidRequest = mapper.mapper().readValue(inputStream, BidRequest.class);
+        }
+
+        final Imp imp = bidRequest.getImp().get(0);
+        outgoingRequests = new ArrayList<>(imps);
+        for (int i = 0; i < imps; i++) {
+            outgoingRequests.add(bidRequest.toBuilder()
+                    .imp(Collections.singletonList(imp.toBuilder().id("impId" + i).build()))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void encodeWholeRequests(Blackhole blackhole) {
+        for (BidRequest outgoingRequest : outgoingRequests) {
+            final Buffer body = mapper.encodeToBuffer(outgoingRequest);
+            blackhole.consume(body);
+        }
+    }
+
+    @Benchmark
+    public void encodeWithSharedEnvelope(Blackhole blackhole) {
+        final BidRequestEnvelope envelope = BidRequestEnvelope.of(mapper, outgoingRequests.get(0));
+        for (BidRequest outgoingRequest : outgoingRequests) {
+            final Buffer body = envelope.matches(outgoingRequest)
+                    ? envelope.encode(outgoingRequest.getImp())
+                    : mapper.encodeToBuffer(outgoingRequest);
+            blackhole.consume(body);
+        }
+    }
+}
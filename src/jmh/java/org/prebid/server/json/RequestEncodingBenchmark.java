@@ -0,0 +1,141 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+import org.prebid.server.proto.openrtb.ext.request.ExtUser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding of requests to all bidders of one auction, which differ in imps only, with and without
+ * {@link RequestEncodingCache}.
+ * <p>
+ * Run with {@code -prof gc} to see allocation per auction along with CPU time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestEncodingBenchmark {
+
+    @Param({"1", "10", "30"})
+    private int bidders;
+
+    private JacksonMapper mapper;
+    private List<BidRequest> bidderRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+        final BidRequest bidRequest = givenBidRequest();
+        bidderRequests = new ArrayList<>(bidders);
+        for (int i = 0; i < bidders; i++) {
+            final ObjectNode impExt = mapper.mapper().createObjectNode();
+            impExt.putObject("bidder").put("placementId", 1000 + i);
+            bidderRequests.add(bidRequest.toBuilder()
+                    .imp(Collections.singletonList(Imp.builder()
+                            .id("imp-1")
+                            .banner(Banner.builder()
+                                    .format(Arrays.asList(Format.builder().w(300).h(250).build(),
+                                            Format.builder().w(300).h(600).build()))
+                                    .build())
+                            .ext(impExt)
+                            .build()))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void encodeWithoutCache(Blackhole blackhole) {
+        encodeAll(blackhole);
+    }
+
+    @Benchmark
+    public void encodeWithCache(Blackhole blackhole) {
+        try (RequestEncodingCache ignored = RequestEncodingCache.open()) {
+            encodeAll(blackhole);
+        }
+    }
+
+    private void encodeAll(Blackhole blackhole) {
+        for (BidRequest bidderRequest : bidderRequests) {
+            final Buffer body = mapper.encodeToBuffer(bidderRequest);
+            blackhole.consume(body);
+        }
+    }
+
+    private BidRequest givenBidRequest() {
+        final ObjectNode siteData = mapper.mapper().createObjectNode()
+                .put("section", "sports")
+                .put("keywords", "football,soccer,league,results,fixtures,transfers");
+        final ObjectNode userData = mapper.mapper().createObjectNode()
+                .put("segments", "1001,1002,1003,1004,1005,1006,1007,1008,1009,1010");
+
+        return BidRequest.builder()
+                .id("7f2a5c8e-3b1d-4e6f-9a0c-1d2e3f4a5b6c")
+                .site(Site.builder()
+                        .id("site-id")
+                        .domain("news.example.com")
+                        .page("https://news.example.com/sports/football/2020/05/match-report-and-highlights.html")
+                        .ref("https://www.search-engine.example/search?q=match+report")
+                        .cat(Arrays.asList("IAB17", "IAB17-44", "IAB12"))
+                        .keywords("football,match,report,highlights")
+                        .publisher(Publisher.builder().id("publisher-id").name("Example News").build())
+                        .ext(ExtSite.of(0, siteData))
+                        .build())
+                .device(Device.builder()
+                        .ua("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_4) AppleWebKit/537.36 (KHTML, like Gecko)"
+                                + " Chrome/81.0.4044.138 Safari/537.36")
+                        .ip("203.0.113.42")
+                        .language("en")
+                        .devicetype(2)
+                        .os("Mac OS X")
+                        .osv("10.15.4")
+                        .geo(Geo.builder().country("USA").region("CA").city("San Francisco").zip("94105")
+                                .lat(37.7897F).lon(-122.3942F).type(2).build())
+                        .build())
+                .user(User.builder()
+                        .id("user-id")
+                        .buyeruid("buyer-uid")
+                        .ext(ExtUser.builder().consent("BOEFEAyOEFEAyAHABDENAI4AAAB9vABAASA").data(userData).build())
+                        .build())
+                .source(Source.builder().tid("5e6f7a8b-9c0d-4e1f-a2b3-c4d5e6f7a8b9").build())
+                .regs(Regs.of(null, ExtRegs.of(1, "1YNN")))
+                .tmax(1000L)
+                .cur(Collections.singletonList("USD"))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cost of calls made through {@link VertxCircuitBreaker} and {@link SlidingWindowCircuitBreaker}.
+ * <p>
+ * Opening threshold is high enough to keep circuit closed, so failed calls show the cost of failure accounting
+ * (which for {@link VertxCircuitBreaker} includes submitting task to the worker pool).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CircuitBreakerBenchmark {
+
+    private static final RuntimeException EXCEPTION = new RuntimeException("failure");
+
+    @Param({"vertx", "sliding-window"})
+    private String type;
+
+    private Vertx vertx;
+    private CircuitBreaker circuitBreaker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vertx = Vertx.vertx();
+        circuitBreaker = CircuitBreaker.create("benchmark", vertx, Integer.MAX_VALUE, 60000L, 1000L,
+                "sliding-window".equals(type), Clock.systemUTC());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public Future<String> succeededCall() {
+        return circuitBreaker.execute(promise -> promise.complete("result"));
+    }
+
+    @Benchmark
+    public Future<String> failedCall() {
+        return circuitBreaker.execute(promise -> promise.fail(EXCEPTION));
+    }
+}
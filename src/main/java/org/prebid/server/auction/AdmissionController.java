@@ -0,0 +1,143 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.EventLoopLagProbe;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether there is capacity to run one more auction, so excess traffic is shed instead of making every
+ * auction time out.
+ * <p>
+ * Auction is shed once number of in-flight auctions or queue delay of the event loop handling the request passes its
+ * limit. Queue delay is the event loop lag measured by {@link EventLoopLagProbe}, so it is not checked unless the
+ * probe is enabled. Auctions of standard priority are shed once the configured share of limits is passed, so auctions
+ * requested via premium endpoint or by premium account are shed last.
+ * <p>
+ * Instance is shared between event loops, so its state is thread-safe.
+ */
+public class AdmissionController {
+
+    private final int maxInFlight;
+    private final long maxQueueDelayMs;
+    private final double standardShare;
+    private final Set<String> premiumEndpoints;
+    private final Set<String> premiumAccounts;
+    private final EventLoopLagProbe eventLoopLagProbe;
+    private final Metrics metrics;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AdmissionController(int maxInFlight, long maxQueueDelayMs, double standardShare,
+                               Set<String> premiumEndpoints, Set<String> premiumAccounts,
+                               EventLoopLagProbe eventLoopLagProbe, Metrics metrics) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum in-flight auctions should be positive");
+        }
+        if (maxQueueDelayMs < 1) {
+            throw new IllegalArgumentException("Maximum queue delay should be positive");
+        }
+        if (standardShare <= 0 || standardShare > 1) {
+            throw new IllegalArgumentException("Standard priority share should be in range (0..1]");
+        }
+
+        this.maxInFlight = maxInFlight;
+        this.maxQueueDelayMs = maxQueueDelayMs;
+        this.standardShare = standardShare;
+        this.premiumEndpoints = new HashSet<>(Objects.requireNonNull(premiumEndpoints));
+        this.premiumAccounts = new HashSet<>(Objects.requireNonNull(premiumAccounts));
+        this.eventLoopLagProbe = eventLoopLagProbe;
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Tries to admit auction requested via the given endpoint by the given account (if known).
+     * <p>
+     * Returns null if auction should be shed, otherwise {@link Permit} which must be released once auction is done.
+     * <p>
+     * Expected to be called on event loop thread handling the request.
+     */
+    public Permit tryAdmit(String endpoint, String accountId) {
+        final Priority priority = premiumEndpoints.contains(endpoint)
+                || (accountId != null && premiumAccounts.contains(accountId))
+                ? Priority.premium
+                : Priority.standard;
+        final double share = priority == Priority.premium ? 1.0 : standardShare;
+
+        final boolean admitted = queueDelay() <= maxQueueDelayMs * share
+                && tryAcquire((int) Math.ceil(maxInFlight * share));
+
+        metrics.updateAdmissionMetric(priority.name(), admitted ? MetricName.admitted : MetricName.shed);
+        return admitted ? new Permit(inFlight) : null;
+    }
+
+    private long queueDelay() {
+        if (eventLoopLagProbe == null) {
+            return 0L;
+        }
+
+        final long queueDelayMs = eventLoopLagProbe.currentEventLoopLag();
+        metrics.updateAdmissionQueueDelayMetric(queueDelayMs);
+        return queueDelayMs;
+    }
+
+    private boolean tryAcquire(int limit) {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns true if priority of auctions may depend on account, so it is worth to resolve account before admission.
+     */
+    public boolean hasPremiumAccounts() {
+        return !premiumAccounts.isEmpty();
+    }
+
+    /**
+     * Returns number of currently in-flight auctions.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Priority classes of auctions.
+     */
+    enum Priority {
+        standard, premium
+    }
+
+    /**
+     * Holds a place of admitted auction among in-flight ones.
+     */
+    public static class Permit {
+
+        private final AtomicInteger inFlight;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AtomicInteger inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        /**
+         * Frees the place of auction, repeated calls have no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import org.prebid.server.auction.model.BidderResponse;
+
+/**
+ * Decides whether auction can proceed before all bidders responded.
+ */
+public interface AuctionCompletionTracker {
+
+    /**
+     * Returns {@link Future} which succeeds when auction should stop waiting for remaining bidders.
+     */
+    Future<Void> future();
+
+    /**
+     * Takes into account response of one of the bidders.
+     */
+    void processBidderResponse(BidderResponse bidderResponse);
+}
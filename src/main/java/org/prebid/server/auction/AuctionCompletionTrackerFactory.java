@@ -0,0 +1,9 @@
+package org.prebid.server.auction;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface AuctionCompletionTrackerFactory {
+
+    AuctionCompletionTracker create(List<String> bidders);
+}
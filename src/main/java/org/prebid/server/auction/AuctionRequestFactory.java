@@ -100,6 +100,7 @@ public class AuctionRequestFactory {
     private final InterstitialProcessor interstitialProcessor;
     private final TimeoutResolver timeoutResolver;
     private final TimeoutFactory timeoutFactory;
+    private final StageBudgetAllocator stageBudgetAllocator;
     private final ApplicationSettings applicationSettings;
     private final IdGenerator idGenerator;
     private final PrivacyEnforcementService privacyEnforcementService;
@@ -122,6 +123,7 @@ public class AuctionRequestFactory {
                                  OrtbTypesResolver ortbTypesResolver,
                                  TimeoutResolver timeoutResolver,
                                  TimeoutFactory timeoutFactory,
+                                 StageBudgetAllocator stageBudgetAllocator,
                                  ApplicationSettings applicationSettings,
                                  IdGenerator idGenerator,
                                  PrivacyEnforcementService privacyEnforcementService,
@@ -143,6 +145,7 @@ public class AuctionRequestFactory {
         this.ortbTypesResolver = Objects.requireNonNull(ortbTypesResolver);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.stageBudgetAllocator = Objects.requireNonNull(stageBudgetAllocator);
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
@@ -190,6 +193,8 @@ public class AuctionRequestFactory {
     /**
      * Returns filled out {@link AuctionContext} based on given arguments.
      * <p>
+     * Account fetching and privacy context resolving are limited by their {@link StageBudgetAllocator} budgets.
+     * <p>
      * Note: {@link TimeoutResolver} used here as argument because this method is utilized in AMP processing.
      */
     Future<AuctionContext> toAuctionContext(RoutingContext routingContext,
@@ -200,10 +205,13 @@ public class AuctionRequestFactory {
                                             TimeoutResolver timeoutResolver) {
 
         final Timeout timeout = timeout(bidRequest, startTime, timeoutResolver);
+        final Long tmax = bidRequest.getTmax();
 
-        return accountFrom(bidRequest, timeout, routingContext)
-                .compose(account -> privacyEnforcementService.contextFromBidRequest(
-                        bidRequest, account, requestTypeMetric, timeout)
+        return stageBudgetAllocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, tmax,
+                accountTimeout -> accountFrom(bidRequest, accountTimeout, routingContext))
+                .compose(account -> stageBudgetAllocator.runWithinBudget(StageBudgetAllocator.Stage.privacy,
+                        timeout, tmax, privacyTimeout -> privacyEnforcementService.contextFromBidRequest(
+                                bidRequest, account, requestTypeMetric, privacyTimeout))
                         .map(privacyContext -> AuctionContext.builder()
                                 .routingContext(routingContext)
                                 .uidsCookie(uidsCookieService.parseFromRequest(routingContext))
@@ -211,6 +219,7 @@ public class AuctionRequestFactory {
                                         bidRequest, account, privacyContext))
                                 .requestTypeMetric(requestTypeMetric)
                                 .timeout(timeout)
+                                .startTime(startTime)
                                 .account(account)
                                 .prebidErrors(errors)
                                 .privacyContext(privacyContext)
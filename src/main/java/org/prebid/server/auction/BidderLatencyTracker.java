@@ -0,0 +1,83 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of recent response times of bidders.
+ * <p>
+ * Response times are kept within sliding time window, so percentiles reflect current behavior of bidder. Taking
+ * snapshot of the window is not cheap, so it is refreshed not more often than once per given interval.
+ */
+public class BidderLatencyTracker {
+
+    private final long windowMs;
+    private final long refreshIntervalMs;
+    private final int minSamples;
+    private final Clock clock;
+
+    private final Map<String, BidderLatency> bidderLatencies = new ConcurrentHashMap<>();
+
+    public BidderLatencyTracker(long windowMs, long refreshIntervalMs, int minSamples, Clock clock) {
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Window should be positive");
+        }
+        if (refreshIntervalMs < 0) {
+            throw new IllegalArgumentException("Refresh interval should be non-negative");
+        }
+
+        this.windowMs = windowMs;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.minSamples = minSamples;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Records response time of the given bidder.
+     */
+    public void record(String bidder, long millis) {
+        bidderLatencies.computeIfAbsent(bidder, ignored -> new BidderLatency(windowMs)).histogram.update(millis);
+    }
+
+    /**
+     * Returns response time (in milliseconds) of the given bidder at the given quantile (in range [0..1]) or null
+     * if there are not enough samples recorded within the window.
+     */
+    public Long percentile(String bidder, double quantile) {
+        final BidderLatency bidderLatency = bidderLatencies.get(bidder);
+        if (bidderLatency == null) {
+            return null;
+        }
+
+        final Snapshot snapshot = bidderLatency.snapshot(clock.millis(), refreshIntervalMs);
+        return snapshot.size() >= minSamples ? Math.round(snapshot.getValue(quantile)) : null;
+    }
+
+    private static class BidderLatency {
+
+        final Histogram histogram;
+
+        volatile Snapshot snapshot;
+        volatile long snapshotTime;
+
+        BidderLatency(long windowMs) {
+            histogram = new Histogram(new SlidingTimeWindowArrayReservoir(windowMs, TimeUnit.MILLISECONDS));
+        }
+
+        Snapshot snapshot(long now, long refreshIntervalMs) {
+            // concurrent refresh is harmless here, the latest computed snapshot wins
+            if (snapshot == null || now - snapshotTime >= refreshIntervalMs) {
+                snapshot = histogram.getSnapshot();
+                snapshotTime = now;
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+
+/**
+ * Allocates timeout for each bidder participating in auction based on its recent response times.
+ * <p>
+ * Bidder gets its response time at configured percentile plus padding, but never more than remains from auction
+ * timeout. Until enough response times are collected bidder gets the whole auction timeout. This way auction
+ * doesn't wait for bidders which are already late comparing to their usual behavior.
+ */
+public class BidderTimeoutAllocator {
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long paddingMs;
+    private final long minTimeoutMs;
+    private final BidderLatencyTracker latencyTracker;
+    private final Metrics metrics;
+
+    public BidderTimeoutAllocator(boolean enabled,
+                                  double percentile,
+                                  long paddingMs,
+                                  long minTimeoutMs,
+                                  BidderLatencyTracker latencyTracker,
+                                  Metrics metrics) {
+
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile should be in range (0..1]");
+        }
+        if (paddingMs < 0 || minTimeoutMs < 0) {
+            throw new IllegalArgumentException("Padding and min timeout should be non-negative");
+        }
+
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.paddingMs = paddingMs;
+        this.minTimeoutMs = minTimeoutMs;
+        this.latencyTracker = Objects.requireNonNull(latencyTracker);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns {@link Timeout} the given bidder should fit in, it never exceeds given auction {@link Timeout}.
+     */
+    public Timeout allocate(String bidder, Timeout auctionTimeout) {
+        if (!enabled) {
+            return auctionTimeout;
+        }
+
+        final long remaining = auctionTimeout.remaining();
+        final Long expectedResponseTime = latencyTracker.percentile(bidder, percentile);
+        final long budget = expectedResponseTime != null
+                ? Math.min(Math.max(expectedResponseTime + paddingMs, minTimeoutMs), remaining)
+                : remaining;
+
+        metrics.updateAdapterTimeoutBudgetMetric(bidder, budget);
+
+        return budget < remaining ? auctionTimeout.minus(remaining - budget) : auctionTimeout;
+    }
+
+    /**
+     * Records response time of the given bidder to be taken into account for next allocations.
+     */
+    public void recordResponseTime(String bidder, long millis) {
+        if (enabled) {
+            latencyTracker.record(bidder, millis);
+        }
+    }
+}
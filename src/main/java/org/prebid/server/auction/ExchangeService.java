@@ -14,6 +14,7 @@ import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
@@ -28,19 +29,22 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderImpExt;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cache.CacheRequestTimeEstimator;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.RequestEncodingCache;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
-import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.ExtPrebidBidders;
 import org.prebid.server.proto.openrtb.ext.request.ExtApp;
 import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigFpd;
@@ -71,6 +75,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -82,6 +87,7 @@ public class ExchangeService {
 
     private static final String PREBID_EXT = "prebid";
     private static final String CONTEXT_EXT = "context";
+    private static final String BIDDER_EXT = "bidder";
     private static final String DATA = "data";
     private static final String ALL_BIDDERS_CONFIG = "*";
     private static final String GENERIC_SCHAIN_KEY = "*";
@@ -89,30 +95,40 @@ public class ExchangeService {
     private static final BigDecimal THOUSAND = BigDecimal.valueOf(1000);
 
     private final long expectedCacheTime;
+    private final CacheRequestTimeEstimator cacheRequestTimeEstimator;
     private final BidderCatalog bidderCatalog;
     private final StoredResponseProcessor storedResponseProcessor;
     private final PrivacyEnforcementService privacyEnforcementService;
     private final FpdResolver fpdResolver;
     private final HttpBidderRequester httpBidderRequester;
+    private final BidderTimeoutAllocator bidderTimeoutAllocator;
+    private final StageBudgetAllocator stageBudgetAllocator;
+    private final AuctionCompletionTrackerFactory completionTrackerFactory;
     private final ResponseBidValidator responseBidValidator;
     private final CurrencyConversionService currencyService;
     private final BidResponseCreator bidResponseCreator;
     private final BidResponsePostProcessor bidResponsePostProcessor;
     private final Metrics metrics;
+    private final AggregatedErrorLogger errorLogger;
     private final Clock clock;
     private final JacksonMapper mapper;
 
     public ExchangeService(long expectedCacheTime,
+                           CacheRequestTimeEstimator cacheRequestTimeEstimator,
                            BidderCatalog bidderCatalog,
                            StoredResponseProcessor storedResponseProcessor,
                            PrivacyEnforcementService privacyEnforcementService,
                            FpdResolver fpdResolver,
                            HttpBidderRequester httpBidderRequester,
+                           BidderTimeoutAllocator bidderTimeoutAllocator,
+                           StageBudgetAllocator stageBudgetAllocator,
+                           AuctionCompletionTrackerFactory completionTrackerFactory,
                            ResponseBidValidator responseBidValidator,
                            CurrencyConversionService currencyService,
                            BidResponseCreator bidResponseCreator,
                            BidResponsePostProcessor bidResponsePostProcessor,
                            Metrics metrics,
+                           AggregatedErrorLogger errorLogger,
                            Clock clock,
                            JacksonMapper mapper) {
 
@@ -120,16 +136,21 @@ public class ExchangeService {
             throw new IllegalArgumentException("Expected cache time should be positive");
         }
         this.expectedCacheTime = expectedCacheTime;
+        this.cacheRequestTimeEstimator = cacheRequestTimeEstimator;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.storedResponseProcessor = Objects.requireNonNull(storedResponseProcessor);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.fpdResolver = Objects.requireNonNull(fpdResolver);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
+        this.bidderTimeoutAllocator = Objects.requireNonNull(bidderTimeoutAllocator);
+        this.stageBudgetAllocator = Objects.requireNonNull(stageBudgetAllocator);
+        this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.responseBidValidator = Objects.requireNonNull(responseBidValidator);
         this.currencyService = Objects.requireNonNull(currencyService);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
         this.bidResponsePostProcessor = Objects.requireNonNull(bidResponsePostProcessor);
         this.metrics = Objects.requireNonNull(metrics);
+        this.errorLogger = Objects.requireNonNull(errorLogger);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -160,19 +181,21 @@ public class ExchangeService {
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedResponse))
                 .compose(impsRequiredRequest ->
                         extractBidderRequests(context, impsRequiredRequest, aliases))
-                .map(bidderRequests ->
-                        updateRequestMetric(bidderRequests, uidsCookie, aliases, publisherId, requestTypeMetric))
-                .compose(bidderRequests -> CompositeFuture.join(bidderRequests.stream()
-                        .map(bidderRequest -> requestBids(
-                                bidderRequest,
-                                auctionTimeout(timeout, cacheInfo.isDoCaching()),
+                .map(pendingBidderRequests -> updateAccountRequestMetric(pendingBidderRequests, publisherId,
+                        requestTypeMetric))
+                // send all the requests to the bidders and gathers results
+                .compose(pendingBidderRequests -> stageBudgetAllocator.runWithinBudget(
+                        StageBudgetAllocator.Stage.bidders,
+                        auctionTimeout(timeout, cacheInfo.isDoCaching()),
+                        bidRequest.getTmax(),
+                        biddersTimeout -> requestAllBids(
+                                pendingBidderRequests,
+                                context.getStartTime(),
+                                biddersTimeout,
                                 debugEnabled,
                                 aliases,
                                 bidAdjustments(requestExt),
-                                currencyRates(requestExt), usepbsrates(requestExt)))
-                        .collect(Collectors.toList())))
-                // send all the requests to the bidders and gathers results
-                .map(CompositeFuture::<BidderResponse>list)
+                                currencyRates(requestExt), usepbsrates(requestExt))))
                 // produce response from bidder results
                 .map(bidderResponses -> updateMetricsFromResponses(bidderResponses, publisherId, aliases))
                 .map(bidderResponses ->
@@ -313,9 +336,9 @@ public class ExchangeService {
      * NOTE: the return list will only contain entries for bidders that both have the extension field in at least one
      * {@link Imp}, and are known to {@link BidderCatalog} or aliases from bidRequest.ext.prebid.aliases.
      */
-    private Future<List<BidderRequest>> extractBidderRequests(AuctionContext context,
-                                                              List<Imp> requestedImps,
-                                                              BidderAliases aliases) {
+    private Future<List<PendingBidderRequest>> extractBidderRequests(AuctionContext context,
+                                                                     List<Imp> requestedImps,
+                                                                     BidderAliases aliases) {
         // sanity check: discard imps without extension
         final List<Imp> imps = requestedImps.stream()
                 .filter(imp -> imp.getExt() != null)
@@ -353,11 +376,15 @@ public class ExchangeService {
      * <p>
      * - bidrequest.user.ext.data, bidrequest.app.ext.data and bidrequest.site.ext.data will be removed for bidders
      * that don't have first party data allowed.
+     * <p>
+     * Privacy enforcement is done for all bidders at once before any of them is called: TCF enforcement is resolved
+     * asynchronously for the whole set of bidders and decides which of them take part in the auction, which is
+     * needed up front to track auction completion.
      */
-    private Future<List<BidderRequest>> makeBidderRequests(List<String> bidders,
-                                                           AuctionContext context,
-                                                           BidderAliases aliases,
-                                                           List<Imp> imps) {
+    private Future<List<PendingBidderRequest>> makeBidderRequests(List<String> bidders,
+                                                                  AuctionContext context,
+                                                                  BidderAliases aliases,
+                                                                  List<Imp> imps) {
 
         final BidRequest bidRequest = context.getBidRequest();
         final User user = bidRequest.getUser();
@@ -373,7 +400,7 @@ public class ExchangeService {
         return privacyEnforcementService
                 .mask(context, bidderToUser, bidders, aliases)
                 .map(bidderToPrivacyResult ->
-                        getBidderRequests(bidderToPrivacyResult, bidRequest, imps, biddersToConfigs));
+                        getBidderRequests(bidderToPrivacyResult, context, aliases, imps, biddersToConfigs));
     }
 
     private Map<String, ExtBidderConfigFpd> getBiddersToConfigs(ExtRequest requestExt) {
@@ -515,28 +542,36 @@ public class ExchangeService {
     }
 
     /**
-     * Returns shuffled list of {@link BidderRequest}.
+     * Returns shuffled list of {@link PendingBidderRequest}s for bidders allowed to take part in the auction.
+     * <p>
+     * {@link BidderRequest}s are created right before they are sent, so the first bidder is called without waiting
+     * for requests to all the others being prepared.
      */
-    private List<BidderRequest> getBidderRequests(List<BidderPrivacyResult> bidderPrivacyResults,
-                                                  BidRequest bidRequest,
-                                                  List<Imp> imps,
-                                                  Map<String, ExtBidderConfigFpd> biddersToConfigs) {
+    private List<PendingBidderRequest> getBidderRequests(List<BidderPrivacyResult> bidderPrivacyResults,
+                                                         AuctionContext context,
+                                                         BidderAliases aliases,
+                                                         List<Imp> imps,
+                                                         Map<String, ExtBidderConfigFpd> biddersToConfigs) {
 
+        final BidRequest bidRequest = context.getBidRequest();
         final ExtRequest requestExt = bidRequest.getExt();
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(requestExt);
         final Map<String, ExtRequestPrebidSchainSchain> bidderToPrebidSchains = bidderToPrebidSchains(requestExt);
-        final List<BidderRequest> bidderRequests = bidderPrivacyResults.stream()
+        final List<PendingBidderRequest> pendingBidderRequests = bidderPrivacyResults.stream()
+                .filter(bidderPrivacyResult -> isBidderAllowed(bidderPrivacyResult, bidRequest, biddersToConfigs))
                 // for each bidder create a new request that is a copy of original request except buyerid, imp
                 // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
                 // Also, check whether to pass user.ext.data, app.ext.data and site.ext.data or not.
-                .map(bidderPrivacyResult -> createBidderRequest(bidderPrivacyResult, bidRequest, imps,
-                        biddersToConfigs, bidderToPrebidBidders, bidderToPrebidSchains))
-                .filter(Objects::nonNull)
+                .map(bidderPrivacyResult -> new PendingBidderRequest(bidderPrivacyResult.getRequestBidder(),
+                        () -> updateRequestMetric(
+                                createBidderRequest(bidderPrivacyResult, bidRequest, imps, biddersToConfigs,
+                                        bidderToPrebidBidders, bidderToPrebidSchains),
+                                context.getUidsCookie(), aliases, context.getRequestTypeMetric())))
                 .collect(Collectors.toList());
 
-        Collections.shuffle(bidderRequests);
+        Collections.shuffle(pendingBidderRequests);
 
-        return bidderRequests;
+        return pendingBidderRequests;
     }
 
     /**
@@ -587,6 +622,35 @@ public class ExchangeService {
         return bidderToPrebidSchains;
     }
 
+    /**
+     * Returns false if request to the given bidder is blocked by TCF or would have both site and app after first
+     * party data is merged.
+     */
+    private boolean isBidderAllowed(BidderPrivacyResult bidderPrivacyResult,
+                                    BidRequest bidRequest,
+                                    Map<String, ExtBidderConfigFpd> biddersToConfigs) {
+
+        if (bidderPrivacyResult.isBlockedRequestByTcf()) {
+            return false;
+        }
+
+        final String bidder = bidderPrivacyResult.getRequestBidder();
+        final ExtBidderConfigFpd fpdConfig = fpdConfig(bidder, biddersToConfigs);
+        final ObjectNode fpdSite = fpdConfig != null ? fpdConfig.getSite() : null;
+        final ObjectNode fpdApp = fpdConfig != null ? fpdConfig.getApp() : null;
+
+        if (bidRequest.getSite() != null && fpdApp != null || bidRequest.getApp() != null && fpdSite != null) {
+            errorLogger.log(bidder, "fpd_conflict", null, "Request to bidder rejected as both bidRequest.site and"
+                    + " bidRequest.app are present after fpd data have been merged");
+            return false;
+        }
+        return true;
+    }
+
+    private static ExtBidderConfigFpd fpdConfig(String bidder, Map<String, ExtBidderConfigFpd> biddersToConfigs) {
+        return ObjectUtils.firstNonNull(biddersToConfigs.get(bidder), biddersToConfigs.get(ALL_BIDDERS_CONFIG));
+    }
+
     /**
      * Returns {@link BidderRequest} for the given bidder.
      */
@@ -598,27 +662,15 @@ public class ExchangeService {
                                               Map<String, ExtRequestPrebidSchainSchain> bidderToPrebidSchains) {
 
         final String bidder = bidderPrivacyResult.getRequestBidder();
-        if (bidderPrivacyResult.isBlockedRequestByTcf()) {
-            return null;
-        }
-
         final List<String> firstPartyDataBidders = firstPartyDataBidders(bidRequest.getExt());
         final boolean useFirstPartyData = firstPartyDataBidders == null || firstPartyDataBidders.contains(bidder);
 
-        final ExtBidderConfigFpd fpdConfig = ObjectUtils.firstNonNull(biddersToConfigs.get(bidder),
-                biddersToConfigs.get(ALL_BIDDERS_CONFIG));
-
+        final ExtBidderConfigFpd fpdConfig = fpdConfig(bidder, biddersToConfigs);
         final Site bidRequestSite = bidRequest.getSite();
         final App bidRequestApp = bidRequest.getApp();
         final ObjectNode fpdSite = fpdConfig != null ? fpdConfig.getSite() : null;
         final ObjectNode fpdApp = fpdConfig != null ? fpdConfig.getApp() : null;
 
-        if (bidRequestSite != null && fpdApp != null || bidRequestApp != null && fpdSite != null) {
-            logger.info("Request to bidder {0} rejected as both bidRequest.site and bidRequest.app are present"
-                    + " after fpd data have been merged", bidder);
-            return null;
-        }
-
         return BidderRequest.of(bidder, bidRequest.toBuilder()
                 // User was already prepared above
                 .user(bidderPrivacyResult.getUser())
@@ -653,17 +705,21 @@ public class ExchangeService {
      * </ul>
      */
     private ObjectNode prepareImpExt(String bidder, ObjectNode impExt, boolean useFirstPartyData) {
+        final ObjectNode result = new BidderImpExt(mapper.mapper().getNodeFactory());
+
+        // nodes which stay unchanged are shared by all bidders rather than copied, bidders must not modify them
         final JsonNode impExtPrebid = prepareImpExtPrebid(bidder, impExt.get(PREBID_EXT));
-        final ObjectNode result = mapper.mapper().valueToTree(ExtPrebid.of(impExtPrebid, impExt.get(bidder)));
+        if (impExtPrebid != null) {
+            result.set(PREBID_EXT, impExtPrebid);
+        }
+        result.set(BIDDER_EXT, impExt.get(bidder));
 
         final JsonNode contextNode = impExt.get(CONTEXT_EXT);
         final boolean isContextNodePresent = contextNode != null && !contextNode.isNull();
         if (isContextNodePresent) {
-            final JsonNode contextNodeCopy = contextNode.deepCopy();
-            if (!useFirstPartyData && contextNodeCopy.isObject()) {
-                ((ObjectNode) contextNodeCopy).remove(DATA);
-            }
-            result.set(CONTEXT_EXT, contextNodeCopy);
+            result.set(CONTEXT_EXT, !useFirstPartyData && contextNode.has(DATA)
+                    ? ((ObjectNode) contextNode).deepCopy().without(DATA)
+                    : contextNode);
         }
         return result;
     }
@@ -793,22 +849,28 @@ public class ExchangeService {
     }
 
     /**
-     * Updates 'account.*.request', 'request' and 'no_cookie_requests' metrics for each {@link BidderRequest}.
+     * Updates 'account.*.request' metrics.
      */
-    private List<BidderRequest> updateRequestMetric(List<BidderRequest> bidderRequests, UidsCookie uidsCookie,
-                                                    BidderAliases aliases, String publisherId,
-                                                    MetricName requestTypeMetric) {
+    private List<PendingBidderRequest> updateAccountRequestMetric(List<PendingBidderRequest> pendingBidderRequests,
+                                                                  String publisherId,
+                                                                  MetricName requestTypeMetric) {
         metrics.updateAccountRequestMetrics(publisherId, requestTypeMetric);
+        return pendingBidderRequests;
+    }
+
+    /**
+     * Updates 'request' and 'no_cookie_requests' metrics for the given {@link BidderRequest}.
+     */
+    private BidderRequest updateRequestMetric(BidderRequest bidderRequest, UidsCookie uidsCookie,
+                                              BidderAliases aliases, MetricName requestTypeMetric) {
 
-        for (BidderRequest bidderRequest : bidderRequests) {
-            final String bidder = aliases.resolveBidder(bidderRequest.getBidder());
-            final boolean isApp = bidderRequest.getBidRequest().getApp() != null;
-            final boolean noBuyerId = !bidderCatalog.isActive(bidder) || StringUtils.isBlank(
-                    uidsCookie.uidFrom(bidderCatalog.usersyncerByName(bidder).getCookieFamilyName()));
+        final String bidder = aliases.resolveBidder(bidderRequest.getBidder());
+        final boolean isApp = bidderRequest.getBidRequest().getApp() != null;
+        final boolean noBuyerId = !bidderCatalog.isActive(bidder) || StringUtils.isBlank(
+                uidsCookie.uidFrom(bidderCatalog.usersyncerByName(bidder).getCookieFamilyName()));
 
-            metrics.updateAdapterRequestTypeAndNoCookieMetrics(bidder, requestTypeMetric, !isApp && noBuyerId);
-        }
-        return bidderRequests;
+        metrics.updateAdapterRequestTypeAndNoCookieMetrics(bidder, requestTypeMetric, !isApp && noBuyerId);
+        return bidderRequest;
     }
 
     /**
@@ -820,6 +882,109 @@ public class ExchangeService {
         return bidAdjustmentFactors != null ? bidAdjustmentFactors : Collections.emptyMap();
     }
 
+    /**
+     * Sends requests to all bidders and gathers their responses.
+     * <p>
+     * {@link AuctionCompletionTracker} may let auction proceed before all bidders have responded. Such bidders get
+     * timeout error and their responses arrived later are only recorded in metrics.
+     * <p>
+     * Each bidder is called as soon as its request is prepared, responses are returned in the order of
+     * {@link PendingBidderRequest}s regardless of the order they arrived in.
+     */
+    private Future<List<BidderResponse>> requestAllBids(List<PendingBidderRequest> pendingBidderRequests,
+                                                        long requestStartTime, Timeout timeout,
+                                                        boolean debugEnabled, BidderAliases aliases,
+                                                        Map<String, BigDecimal> bidAdjustments,
+                                                        Map<String, Map<String, BigDecimal>> currencyConversionRates,
+                                                        Boolean usepbsrates) {
+
+        final List<String> bidders = pendingBidderRequests.stream()
+                .map(PendingBidderRequest::getBidder)
+                .collect(Collectors.toList());
+        final AuctionCompletionTracker completionTracker = completionTrackerFactory.create(bidders);
+        final long startTime = clock.millis();
+
+        // bidder requests are encoded synchronously, so parts shared by them are encoded once
+        final List<Future<BidderResponse>> bidderResponseFutures = new ArrayList<>(pendingBidderRequests.size());
+        try (RequestEncodingCache ignored = RequestEncodingCache.open()) {
+            for (PendingBidderRequest pendingBidderRequest : pendingBidderRequests) {
+                final BidderRequest bidderRequest = pendingBidderRequest.create();
+                if (bidderResponseFutures.isEmpty()) {
+                    metrics.updateAuctionFirstDispatchTimeMetric(clock.millis() - requestStartTime);
+                }
+
+                bidderResponseFutures.add(requestBids(bidderRequest, timeout, debugEnabled, aliases, bidAdjustments,
+                        currencyConversionRates, usepbsrates)
+                        .map(bidderResponse -> trackBidderResponse(bidderResponse, completionTracker, aliases)));
+            }
+        }
+
+        final Promise<Void> completionPromise = Promise.promise();
+        CompositeFuture.join(new ArrayList<>(bidderResponseFutures)).setHandler(result -> {
+            if (result.succeeded()) {
+                completionPromise.tryComplete();
+            } else {
+                completionPromise.tryFail(result.cause());
+            }
+        });
+        completionTracker.future().setHandler(result -> {
+            if (result.succeeded()) {
+                completionPromise.tryComplete();
+            }
+        });
+
+        return completionPromise.future()
+                .compose(ignored -> collectBidderResponses(bidders, bidderResponseFutures, startTime));
+    }
+
+    /**
+     * Passes {@link BidderResponse} to {@link AuctionCompletionTracker} or records it as late if auction has
+     * already proceeded without it.
+     */
+    private BidderResponse trackBidderResponse(BidderResponse bidderResponse,
+                                               AuctionCompletionTracker completionTracker,
+                                               BidderAliases aliases) {
+
+        if (completionTracker.future().succeeded()) {
+            metrics.updateAdapterLateResponseMetric(aliases.resolveBidder(bidderResponse.getBidder()));
+        } else {
+            completionTracker.processBidderResponse(bidderResponse);
+        }
+        return bidderResponse;
+    }
+
+    /**
+     * Returns {@link BidderResponse}s in the order of bidders, substituting the ones still in progress with timeout
+     * error.
+     */
+    private Future<List<BidderResponse>> collectBidderResponses(List<String> bidders,
+                                                                List<Future<BidderResponse>> bidderResponseFutures,
+                                                                long startTime) {
+
+        final List<BidderResponse> bidderResponses = new ArrayList<>(bidderResponseFutures.size());
+        boolean closedEarly = false;
+        for (int i = 0; i < bidderResponseFutures.size(); i++) {
+            final Future<BidderResponse> bidderResponseFuture = bidderResponseFutures.get(i);
+
+            if (bidderResponseFuture.failed()) {
+                return Future.failedFuture(bidderResponseFuture.cause());
+            } else if (bidderResponseFuture.succeeded()) {
+                bidderResponses.add(bidderResponseFuture.result());
+            } else {
+                closedEarly = true;
+                bidderResponses.add(BidderResponse.of(bidders.get(i),
+                        BidderSeatBid.of(Collections.emptyList(), Collections.emptyList(), Collections.singletonList(
+                                BidderError.timeout("Auction has been closed before bidder responded"))),
+                        responseTime(startTime)));
+            }
+        }
+
+        if (closedEarly) {
+            metrics.updateAuctionEarlyClosedMetric();
+        }
+        return Future.succeededFuture(bidderResponses);
+    }
+
     /**
      * Passes the request to a corresponding bidder and wraps response in {@link BidderResponse} which also holds
      * recorded response time.
@@ -833,14 +998,36 @@ public class ExchangeService {
         final BigDecimal bidPriceAdjustmentFactor = bidAdjustments.get(bidderName);
         final List<String> cur = bidderRequest.getBidRequest().getCur();
         final String adServerCurrency = cur.get(0);
-        final Bidder<?> bidder = bidderCatalog.bidderByName(aliases.resolveBidder(bidderName));
+        final String resolvedBidderName = aliases.resolveBidder(bidderName);
+        final Bidder<?> bidder = bidderCatalog.bidderByName(resolvedBidderName);
+        final Timeout bidderTimeout = bidderTimeoutAllocator.allocate(resolvedBidderName, timeout);
+        final long timeoutMs = bidderTimeout.remaining();
         final long startTime = clock.millis();
 
-        return httpBidderRequester.requestBids(bidder, bidderRequest.getBidRequest(), timeout, debugEnabled)
+        return httpBidderRequester.requestBids(bidder, resolvedBidderName, bidderRequest.getBidRequest(),
+                bidderTimeout, debugEnabled)
                 .map(bidderSeatBid -> validBidderSeatBid(bidderSeatBid, cur))
                 .map(seat -> applyBidPriceChanges(seat, currencyConversionRates, adServerCurrency,
                         bidPriceAdjustmentFactor, usepbsrates))
-                .map(result -> BidderResponse.of(bidderName, result, responseTime(startTime)));
+                .map(result -> toBidderResponse(bidderName, resolvedBidderName, result, startTime, timeoutMs));
+    }
+
+    /**
+     * Wraps result in {@link BidderResponse} and records bidder's response time for timeout allocation.
+     * <p>
+     * Call that timed out was cut off at its budget and would have taken at least the time it was given.
+     */
+    private BidderResponse toBidderResponse(String bidderName, String resolvedBidderName, BidderSeatBid seatBid,
+                                            long startTime, long timeoutMs) {
+        final int responseTime = responseTime(startTime);
+        bidderTimeoutAllocator.recordResponseTime(resolvedBidderName, hasTimeoutError(seatBid)
+                ? Math.max(responseTime, timeoutMs)
+                : responseTime);
+        return BidderResponse.of(bidderName, seatBid, responseTime);
+    }
+
+    private static boolean hasTimeoutError(BidderSeatBid seatBid) {
+        return seatBid.getErrors().stream().anyMatch(error -> error.getType() == BidderError.Type.timeout);
     }
 
     /**
@@ -930,14 +1117,18 @@ public class ExchangeService {
     /**
      * If we need to cache bids, then it will take some time to call prebid cache.
      * We should reduce the amount of time the bidders have, to compensate.
+     * <p>
+     * The time is estimated from recent cache response times if {@link CacheRequestTimeEstimator} is configured,
+     * static expected cache time is used otherwise.
      */
     private Timeout auctionTimeout(Timeout timeout, boolean shouldCacheBids) {
-        // A static timeout here is not ideal. This is a hack because we have some aggressive timelines for OpenRTB
-        // support.
-        // In reality, the cache response time will probably fluctuate with the traffic over time. Someday, this
-        // should be replaced by code which tracks the response time of recent cache calls and adjusts the time
-        // dynamically.
-        return shouldCacheBids ? timeout.minus(expectedCacheTime) : timeout;
+        if (!shouldCacheBids) {
+            return timeout;
+        }
+
+        return timeout.minus(cacheRequestTimeEstimator != null
+                ? cacheRequestTimeEstimator.expectedRequestTime()
+                : expectedCacheTime);
     }
 
     /**
@@ -1001,10 +1192,59 @@ public class ExchangeService {
             case timeout:
                 errorMetric = MetricName.timeout;
                 break;
+            case concurrency_limited:
+                errorMetric = MetricName.concurrency_limited;
+                break;
+            case response_too_large:
+                errorMetric = MetricName.response_too_large;
+                break;
             case generic:
             default:
                 errorMetric = MetricName.unknown_error;
         }
         return errorMetric;
     }
+
+    private static AuctionCompletionTrackerFactory completionTrackerFactoryOrFallback(
+            AuctionCompletionTrackerFactory completionTrackerFactory) {
+
+        return completionTrackerFactory != null
+                ? completionTrackerFactory
+                : bidders -> new NoOpCompletionTracker();
+    }
+
+    /**
+     * Request to the bidder which is created right before it is sent.
+     */
+    private static class PendingBidderRequest {
+
+        private final String bidder;
+        private final Supplier<BidderRequest> bidderRequestCreator;
+
+        PendingBidderRequest(String bidder, Supplier<BidderRequest> bidderRequestCreator) {
+            this.bidder = bidder;
+            this.bidderRequestCreator = bidderRequestCreator;
+        }
+
+        String getBidder() {
+            return bidder;
+        }
+
+        BidderRequest create() {
+            return bidderRequestCreator.get();
+        }
+    }
+
+    private static class NoOpCompletionTracker implements AuctionCompletionTracker {
+
+        @Override
+        public Future<Void> future() {
+            return Future.failedFuture("No-op");
+        }
+
+        @Override
+        public void processBidderResponse(BidderResponse bidderResponse) {
+            // no need to process responses for no operation tracker
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.auction.model.BidderResponse;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates {@link AuctionCompletionTracker}s letting auction proceed when quorum of bidders has responded and grace
+ * period after that has passed.
+ * <p>
+ * Quorum is given as a fraction of bidders participating in auction. Auctions with less than configured minimum
+ * of bidders always wait for all of them.
+ */
+public class QuorumAuctionCompletionTrackerFactory implements AuctionCompletionTrackerFactory {
+
+    private final double quorum;
+    private final long gracePeriodMs;
+    private final int minBidders;
+    private final Vertx vertx;
+
+    public QuorumAuctionCompletionTrackerFactory(double quorum, long gracePeriodMs, int minBidders, Vertx vertx) {
+        if (quorum <= 0 || quorum > 1) {
+            throw new IllegalArgumentException("Quorum should be in range (0..1]");
+        }
+        if (gracePeriodMs <= 0) {
+            throw new IllegalArgumentException("Grace period should be positive");
+        }
+
+        this.quorum = quorum;
+        this.gracePeriodMs = gracePeriodMs;
+        this.minBidders = minBidders;
+        this.vertx = Objects.requireNonNull(vertx);
+    }
+
+    @Override
+    public AuctionCompletionTracker create(List<String> bidderNames) {
+        final int bidders = bidderNames.size();
+        final int required = bidders < minBidders ? bidders : Math.max((int) Math.ceil(quorum * bidders), 1);
+        return new QuorumAuctionCompletionTracker(bidders, required);
+    }
+
+    private class QuorumAuctionCompletionTracker implements AuctionCompletionTracker {
+
+        private final Promise<Void> promise = Promise.promise();
+        private final int bidders;
+        private final int required;
+        private int responded;
+
+        QuorumAuctionCompletionTracker(int bidders, int required) {
+            this.bidders = bidders;
+            this.required = required;
+        }
+
+        @Override
+        public Future<Void> future() {
+            return promise.future();
+        }
+
+        @Override
+        public void processBidderResponse(BidderResponse bidderResponse) {
+            responded++;
+
+            // there is no need to wait when all bidders have responded
+            if (responded == required && responded < bidders) {
+                vertx.setTimer(gracePeriodMs, ignored -> promise.tryComplete());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.prebid.server.auction.model.StageBudget;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Limits time each stage of auction request processing may take, so a slow stage (e.g. settings database) doesn't
+ * eat time left for the following ones.
+ * <p>
+ * Stage budget is the configured fraction of request timeout capped by configured maximum, but never more than
+ * remains from request timeout. Stage gets {@link Timeout} expiring once its budget is spent and degrades the way it
+ * does on timeout, stages completed later than their budget are counted in metrics.
+ */
+public class StageBudgetAllocator {
+
+    private final boolean enabled;
+    private final Map<Stage, StageBudget> budgets;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public StageBudgetAllocator(boolean enabled, Map<Stage, StageBudget> budgets, Metrics metrics, Clock clock) {
+        for (StageBudget budget : budgets.values()) {
+            if (budget.getFraction() <= 0 || budget.getFraction() > 1) {
+                throw new IllegalArgumentException("Stage budget fraction should be in range (0..1]");
+            }
+            if (budget.getMaxMs() <= 0) {
+                throw new IllegalArgumentException("Stage budget maximum should be positive");
+            }
+        }
+
+        this.enabled = enabled;
+        this.budgets = new EnumMap<>(Stage.class);
+        this.budgets.putAll(budgets);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Runs the given stage with {@link Timeout} limited by the stage budget.
+     * <p>
+     * Request timeout (tmax) is taken into account to calculate the budget, remaining time of the given
+     * {@link Timeout} is used if it is not known.
+     */
+    public <T> Future<T> runWithinBudget(Stage stage, Timeout timeout, Long tmax,
+                                         Function<Timeout, Future<T>> stageRunner) {
+
+        final StageBudget budget = enabled ? budgets.get(stage) : null;
+        if (budget == null) {
+            return stageRunner.apply(timeout);
+        }
+
+        final long remaining = timeout.remaining();
+        final long requestTimeout = tmax != null ? tmax : remaining;
+        final long budgetMs = Math.min(Math.round(requestTimeout * budget.getFraction()), budget.getMaxMs());
+        final Timeout stageTimeout = budgetMs < remaining ? timeout.minus(remaining - budgetMs) : timeout;
+
+        final long startTime = clock.millis();
+        final Promise<T> promise = Promise.promise();
+        stageRunner.apply(stageTimeout).setHandler(result -> {
+            if (clock.millis() - startTime >= budgetMs) {
+                metrics.updateAuctionStageOverrunMetric(stage.name());
+            }
+            promise.handle(result);
+        });
+        return promise.future();
+    }
+
+    /**
+     * Stages of auction request processing which time can be limited.
+     */
+    public enum Stage {
+
+        /**
+         * Fetching account, {@link org.prebid.server.settings.model.Account} is treated as unknown if it is not
+         * fetched in time.
+         */
+        account,
+
+        /**
+         * Resolving privacy context, geo location is skipped and host defaults are used if it is not resolved
+         * in time.
+         */
+        privacy,
+
+        /**
+         * Requesting bidders, late bidders get timeout error and auction proceeds without them.
+         */
+        bidders,
+
+        /**
+         * Caching bids, response is returned without cache ids and with cache error if bids are not cached in time.
+         */
+        cache
+    }
+}
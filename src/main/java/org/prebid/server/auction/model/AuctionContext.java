@@ -31,6 +31,12 @@ public class AuctionContext {
     @JsonIgnore
     Timeout timeout;
 
+    /**
+     * Time the request was received at, in milliseconds.
+     */
+    @JsonIgnore
+    long startTime;
+
     Account account;
 
     MetricName requestTypeMetric;
@@ -0,0 +1,22 @@
+package org.prebid.server.auction.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Holds the amount of time a stage of auction request processing may take.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class StageBudget {
+
+    /**
+     * Share (in range (0..1]) of request timeout the stage may take.
+     */
+    double fraction;
+
+    /**
+     * The maximum time in milliseconds the stage may take regardless of request timeout.
+     */
+    long maxMs;
+}
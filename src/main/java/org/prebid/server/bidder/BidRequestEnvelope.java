@@ -0,0 +1,112 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.json.JacksonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JSON of {@link BidRequest} without imps split around the imp array, so requests which differ in imps only are
+ * encoded by writing just their imps between the shared prefix and suffix.
+ */
+class BidRequestEnvelope {
+
+    private static final byte[] EMPTY_IMP_FIELD = "\"imp\":[]".getBytes(StandardCharsets.UTF_8);
+    private static final int IMP_FIELD_NAME_LENGTH = EMPTY_IMP_FIELD.length - 2;
+
+    private final JacksonMapper mapper;
+    private final BidRequest bidRequest;
+    private final Buffer prefix;
+    private final Buffer suffix;
+
+    private BidRequestEnvelope(JacksonMapper mapper, BidRequest bidRequest, Buffer prefix, Buffer suffix) {
+        this.mapper = mapper;
+        this.bidRequest = bidRequest;
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Encodes the given request without imps, returns null if imp array cannot be found in the encoded request.
+     */
+    static BidRequestEnvelope of(JacksonMapper mapper, BidRequest bidRequest) {
+        final Buffer encoded = mapper.encodeToBuffer(bidRequest.toBuilder().imp(Collections.emptyList()).build());
+
+        final int impFieldIndex = indexOfEmptyImpField(encoded);
+        if (impFieldIndex == -1) {
+            return null;
+        }
+
+        return new BidRequestEnvelope(mapper, bidRequest,
+                encoded.slice(0, impFieldIndex + IMP_FIELD_NAME_LENGTH),
+                encoded.slice(impFieldIndex + EMPTY_IMP_FIELD.length, encoded.length()));
+    }
+
+    /**
+     * Looks for "imp":[] preceded by start of object or field separator. Quotes are escaped within JSON strings,
+     * so the sequence found this way cannot be a part of string value.
+     */
+    private static int indexOfEmptyImpField(Buffer encoded) {
+        final int lastIndex = encoded.length() - EMPTY_IMP_FIELD.length;
+        for (int i = 1; i <= lastIndex; i++) {
+            final byte previous = encoded.getByte(i - 1);
+            if ((previous == '{' || previous == ',') && startsWithEmptyImpField(encoded, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWithEmptyImpField(Buffer encoded, int index) {
+        for (int i = 0; i < EMPTY_IMP_FIELD.length; i++) {
+            if (encoded.getByte(index + i) != EMPTY_IMP_FIELD[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given request differs from the one envelope was created from in imps only.
+     * <p>
+     * Requests are built from the same incoming request, so fields left intact are the same objects and are
+     * compared by reference to avoid deep comparison per request. Field replaced even by an equal object makes
+     * requests differ, which costs encoding of the whole request but never produces wrong JSON.
+     */
+    boolean matches(BidRequest other) {
+        return bidRequest.getId() == other.getId()
+                && bidRequest.getSite() == other.getSite()
+                && bidRequest.getApp() == other.getApp()
+                && bidRequest.getDevice() == other.getDevice()
+                && bidRequest.getUser() == other.getUser()
+                && bidRequest.getTest() == other.getTest()
+                && bidRequest.getAt() == other.getAt()
+                && bidRequest.getTmax() == other.getTmax()
+                && bidRequest.getWseat() == other.getWseat()
+                && bidRequest.getBseat() == other.getBseat()
+                && bidRequest.getAllimps() == other.getAllimps()
+                && bidRequest.getCur() == other.getCur()
+                && bidRequest.getWlang() == other.getWlang()
+                && bidRequest.getBcat() == other.getBcat()
+                && bidRequest.getBadv() == other.getBadv()
+                && bidRequest.getBapp() == other.getBapp()
+                && bidRequest.getSource() == other.getSource()
+                && bidRequest.getRegs() == other.getRegs()
+                && bidRequest.getExt() == other.getExt();
+    }
+
+    /**
+     * Returns JSON of the request envelope was created from with the given imps.
+     */
+    Buffer encode(List<Imp> imps) {
+        final Buffer encodedImps = mapper.encodeToBuffer(imps);
+        return Buffer.buffer(prefix.length() + encodedImps.length() + suffix.length())
+                .appendBuffer(prefix)
+                .appendBuffer(encodedImps)
+                .appendBuffer(suffix);
+    }
+}
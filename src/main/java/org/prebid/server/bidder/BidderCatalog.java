@@ -1,5 +1,9 @@
 package org.prebid.server.bidder;
 
+import org.prebid.server.bidder.model.BidderCompressionConfig;
+import org.prebid.server.bidder.model.BidderHedgingConfig;
+import org.prebid.server.bidder.model.BidderHttpClientConfig;
+import org.prebid.server.bidder.model.TimeoutNotificationConfig;
 import org.prebid.server.proto.response.BidderInfo;
 
 import java.util.HashMap;
@@ -196,4 +200,49 @@ public class BidderCatalog {
         final BidderDeps bidderDeps = bidderDepsMap.get(name);
         return bidderDeps != null ? bidderDeps.getAdapter() : null;
     }
+
+    /**
+     * Returns an {@link BidderHttpClientConfig} registered by the given name or null if bidder uses shared
+     * HTTP client.
+     */
+    public BidderHttpClientConfig httpClientConfigByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getHttpClientConfig() : null;
+    }
+
+    /**
+     * Returns configured endpoint of the bidder registered by the given name or null if bidder is disabled
+     * or unknown.
+     */
+    public String endpointByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getEndpoint() : null;
+    }
+
+    /**
+     * Returns an {@link BidderHedgingConfig} registered by the given name or null if requests to the bidder
+     * should not be hedged.
+     */
+    public BidderHedgingConfig hedgingConfigByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getHedgingConfig() : null;
+    }
+
+    /**
+     * Returns an {@link TimeoutNotificationConfig} registered by the given name or null if bidder is disabled
+     * or unknown.
+     */
+    public TimeoutNotificationConfig timeoutNotificationConfigByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getTimeoutNotificationConfig() : null;
+    }
+
+    /**
+     * Returns an {@link BidderCompressionConfig} registered by the given name or null if bidder doesn't compress
+     * requests, is disabled or unknown.
+     */
+    public BidderCompressionConfig compressionConfigByName(String name) {
+        final BidderDeps bidderDeps = bidderDepsMap.get(name);
+        return bidderDeps != null ? bidderDeps.getCompressionConfig() : null;
+    }
 }
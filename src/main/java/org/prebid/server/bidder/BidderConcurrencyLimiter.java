@@ -0,0 +1,134 @@
+package org.prebid.server.bidder;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits number of in-flight requests per bidder with AIMD (additive increase, multiplicative decrease)
+ * algorithm.
+ * <p>
+ * Limit grows by one per window of successfully completed requests while it is utilized and shrinks by backoff
+ * ratio on each dropped request, i.e. failed by timeout, connection error or 5xx status or completed slower than
+ * latency threshold (if configured).
+ * <p>
+ * Limits are kept per bidder rather than per host, since hosts of templated bidder endpoints come from request data
+ * and number of them is not bounded.
+ * <p>
+ * Instance is shared between event loops, so state of each limit is thread-safe.
+ */
+public class BidderConcurrencyLimiter {
+
+    /**
+     * Permit to use when request is not a subject of limiting.
+     */
+    public static final Permit NO_LIMIT_PERMIT = dropped -> {
+    };
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdMs;
+    private final Clock clock;
+
+    private final Map<String, AimdLimit> limits = new ConcurrentHashMap<>();
+
+    public BidderConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                    long latencyThresholdMs, Clock clock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits should satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio should be in range (0..1)");
+        }
+
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdMs = latencyThresholdMs;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Tries to acquire permit for request to the given bidder.
+     * <p>
+     * Returns null if bidder has already reached its limit of in-flight requests.
+     */
+    public Permit tryAcquire(String bidder) {
+        final AimdLimit limit = limits.computeIfAbsent(bidder, ignored -> new AimdLimit(initialLimit));
+        return limit.tryAcquire();
+    }
+
+    /**
+     * Returns current state of limits sorted by bidder.
+     */
+    public Map<String, LimitState> limits() {
+        final Map<String, LimitState> result = new TreeMap<>();
+        limits.forEach((bidder, limit) ->
+                result.put(bidder, LimitState.of(limit.currentLimit(), limit.inFlight.get())));
+        return result;
+    }
+
+    /**
+     * Permit for single request which should be released once request is completed.
+     */
+    @FunctionalInterface
+    public interface Permit {
+
+        void release(boolean dropped);
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    public static class LimitState {
+
+        int limit;
+
+        int inFlight;
+    }
+
+    private class AimdLimit {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double limit;
+
+        AimdLimit(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized int currentLimit() {
+            return (int) limit;
+        }
+
+        Permit tryAcquire() {
+            final int currentLimit = currentLimit();
+            final int acquiredInFlight = inFlight.incrementAndGet();
+            if (acquiredInFlight > currentLimit) {
+                inFlight.decrementAndGet();
+                return null;
+            }
+
+            final long startTime = clock.millis();
+            return dropped -> release(acquiredInFlight, clock.millis() - startTime, dropped);
+        }
+
+        private synchronized void release(int acquiredInFlight, long latencyMs, boolean dropped) {
+            inFlight.decrementAndGet();
+
+            if (dropped || (latencyThresholdMs > 0 && latencyMs > latencyThresholdMs)) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (acquiredInFlight * 2 >= limit) {
+                // grow only if limit is really utilized, otherwise it would grow unbounded under light load
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+}
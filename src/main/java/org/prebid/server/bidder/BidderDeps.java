@@ -2,6 +2,10 @@ package org.prebid.server.bidder;
 
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.bidder.model.BidderCompressionConfig;
+import org.prebid.server.bidder.model.BidderHedgingConfig;
+import org.prebid.server.bidder.model.BidderHttpClientConfig;
+import org.prebid.server.bidder.model.TimeoutNotificationConfig;
 import org.prebid.server.proto.response.BidderInfo;
 
 import java.util.List;
@@ -56,4 +60,31 @@ public class BidderDeps {
      * Bidder's adapter is used in legacy auction handling.
      */
     Adapter<?, ?> adapter;
+
+    /**
+     * Bidder's HTTP client settings, if bidder should have its own connection pool.
+     * <p>
+     * Null means bidder shares HTTP client with others.
+     */
+    BidderHttpClientConfig httpClientConfig;
+
+    /**
+     * Bidder's endpoint as configured, may contain macros resolved per request.
+     */
+    String endpoint;
+
+    /**
+     * Bidder's hedged requests settings, null means requests to the bidder are never hedged.
+     */
+    BidderHedgingConfig hedgingConfig;
+
+    /**
+     * Bidder's timeout notification settings, applicable only if bidder is a {@link TimeoutBidder}.
+     */
+    TimeoutNotificationConfig timeoutNotificationConfig;
+
+    /**
+     * Bidder's request compression settings, null means requests are sent uncompressed.
+     */
+    BidderCompressionConfig compressionConfig;
 }
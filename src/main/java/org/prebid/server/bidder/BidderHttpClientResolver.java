@@ -0,0 +1,15 @@
+package org.prebid.server.bidder;
+
+import org.prebid.server.vertx.http.HttpClient;
+
+/**
+ * Resolves {@link HttpClient} dedicated to the bidder, i.e. having its own connection pool.
+ */
+@FunctionalInterface
+public interface BidderHttpClientResolver {
+
+    /**
+     * Returns {@link HttpClient} dedicated to the given bidder or null if bidder uses shared one.
+     */
+    HttpClient httpClientFor(String bidder);
+}
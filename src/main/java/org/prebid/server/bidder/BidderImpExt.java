@@ -0,0 +1,39 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Imp extension created by exchange for particular bidder of the auction, see
+ * {@link org.prebid.server.auction.ExchangeService}.
+ * <p>
+ * Holds typed extensions converted from this node by {@link BidderUtil}, so they are scoped to the bidder request
+ * and are gone along with it. Node must not be modified once converted.
+ */
+public class BidderImpExt extends ObjectNode {
+
+    private final transient Map<Type, Object> typedExts = new ConcurrentHashMap<>();
+    private final transient Map<Type, Object> typedBidderExts = new ConcurrentHashMap<>();
+
+    public BidderImpExt(JsonNodeFactory nodeFactory) {
+        super(nodeFactory);
+    }
+
+    /**
+     * Returns typed extensions converted from the whole node.
+     */
+    Map<Type, Object> typedExts() {
+        return typedExts;
+    }
+
+    /**
+     * Returns typed extensions converted from "bidder" field of the node.
+     */
+    Map<Type, Object> typedBidderExts() {
+        return typedBidderExts;
+    }
+}
@@ -0,0 +1,108 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import org.prebid.server.bidder.model.BidderCompressionConfig;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses bodies of requests to bidders having request compression configured.
+ */
+public class BidderRequestCompressor {
+
+    private final BidderCatalog bidderCatalog;
+    private final Metrics metrics;
+
+    public BidderRequestCompressor(BidderCatalog bidderCatalog, Metrics metrics) {
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Returns {@link Compression} of the given bidder's requests or null if bidder doesn't compress requests.
+     * <p>
+     * Returned instance remembers compressed bodies, so it is expected to be used for one call of the bidder only.
+     */
+    public Compression compressionFor(String bidder) {
+        final BidderCompressionConfig compressionConfig = bidderCatalog.compressionConfigByName(bidder);
+        return compressionConfig != null ? new Compression(bidder, compressionConfig) : null;
+    }
+
+    /**
+     * Compresses request bodies of a single bidder call, identical bodies are compressed once.
+     */
+    public class Compression {
+
+        private final String bidder;
+        private final BidderCompressionConfig config;
+        private final Map<Buffer, Buffer> compressedBodies = new HashMap<>();
+
+        private Compression(String bidder, BidderCompressionConfig config) {
+            this.bidder = bidder;
+            this.config = config;
+        }
+
+        /**
+         * Returns compressed body of the given request or null if body is too small to be compressed.
+         */
+        public Buffer compressBody(HttpRequest<?> httpRequest) {
+            final Buffer body = httpRequest.getBodyBuffer() != null
+                    ? httpRequest.getBodyBuffer()
+                    : Buffer.buffer(httpRequest.getBody() != null ? httpRequest.getBody() : "");
+
+            if (body.length() < config.getThresholdBytes() || body.length() == 0) {
+                return null;
+            }
+
+            return compressedBodies.computeIfAbsent(body, this::compress);
+        }
+
+        /**
+         * Returns headers of the given request with content encoding of compressed body.
+         */
+        public MultiMap headers(HttpRequest<?> httpRequest) {
+            final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+            if (httpRequest.getHeaders() != null) {
+                headers.addAll(httpRequest.getHeaders());
+            }
+            return headers.set(HttpHeaders.CONTENT_ENCODING, config.getType().name());
+        }
+
+        private Buffer compress(Buffer body) {
+            final long startTime = System.nanoTime();
+
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length() / 4);
+            try (OutputStream compressingStream = compressingStream(compressed)) {
+                compressingStream.write(body.getBytes());
+            } catch (IOException e) {
+                throw new PreBidException(String.format("Failed to compress request body: %s", e.getMessage()), e);
+            }
+            final byte[] compressedBytes = compressed.toByteArray();
+
+            metrics.updateAdapterRequestCompressionMetrics(bidder,
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime),
+                    body.length() - compressedBytes.length);
+
+            return Buffer.buffer(compressedBytes);
+        }
+
+        private OutputStream compressingStream(OutputStream outputStream) throws IOException {
+            return config.getType() == BidderCompressionConfig.Type.gzip
+                    ? new GZIPOutputStream(outputStream)
+                    : new DeflaterOutputStream(outputStream);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.prebid.server.bidder;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.BidderLatencyTracker;
+import org.prebid.server.bidder.model.BidderHedgingConfig;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends duplicate (hedged) request to a bidder if it has not responded within configured percentile of its recent
+ * response time, the first successful response (i.e. not a server error) wins.
+ * <p>
+ * Number of hedged requests is limited by per-bidder budget: each request to the bidder deposits configured share
+ * of a token and each hedged request withdraws the whole token, so hedged requests never exceed given percentage
+ * of the bidder's traffic. Unused tokens are accumulated up to a small burst. Hedged request also holds its own
+ * permit of {@link BidderConcurrencyLimiter} (if configured) and is not sent if bidder has reached its limit.
+ */
+public class BidderRequestHedger {
+
+    private static final long TOKEN = 100L;
+    private static final long MAX_BURST_TOKENS = 10L;
+
+    private final Vertx vertx;
+    private final BidderCatalog bidderCatalog;
+    private final BidderLatencyTracker latencyTracker;
+    private final BidderConcurrencyLimiter concurrencyLimiter;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, AtomicLong> budgets = new ConcurrentHashMap<>();
+
+    public BidderRequestHedger(Vertx vertx,
+                               BidderCatalog bidderCatalog,
+                               BidderLatencyTracker latencyTracker,
+                               BidderConcurrencyLimiter concurrencyLimiter,
+                               Metrics metrics,
+                               Clock clock) {
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.latencyTracker = Objects.requireNonNull(latencyTracker);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Sends request to the given uri using the given sender and hedges it if bidder is configured for that.
+     * <p>
+     * Hedged request is sent only if the remaining timeout allows it. The response that arrived later is ignored,
+     * the request stays bound to its own timeout.
+     */
+    public Future<HttpClientResponse> send(String bidder, String uri, long timeoutMs, Sender sender) {
+        final long startTime = clock.millis();
+        final Future<HttpClientResponse> responseFuture = sender.send(uri, timeoutMs)
+                .map(response -> recordResponseTime(bidder, startTime, response));
+
+        final BidderHedgingConfig hedgingConfig = bidderCatalog.hedgingConfigByName(bidder);
+        if (hedgingConfig == null) {
+            return responseFuture;
+        }
+
+        deposit(bidder, hedgingConfig.getMaxExtraTrafficPercent());
+
+        final Long hedgeDelay = latencyTracker.percentile(bidder, hedgingConfig.getPercentile());
+        if (hedgeDelay == null || hedgeDelay >= timeoutMs) {
+            return responseFuture;
+        }
+
+        final HedgedCall hedgedCall = new HedgedCall(bidder);
+        final long timerId = vertx.setTimer(Math.max(hedgeDelay, 1L), ignored -> hedge(hedgedCall, bidder,
+                hedgedUri(uri, hedgingConfig.getAlternateEndpoint()), timeoutMs - (clock.millis() - startTime),
+                sender));
+
+        responseFuture.setHandler(result -> {
+            vertx.cancelTimer(timerId);
+            hedgedCall.handle(result, false);
+        });
+
+        return hedgedCall.promise.future();
+    }
+
+    private HttpClientResponse recordResponseTime(String bidder, long startTime, HttpClientResponse response) {
+        latencyTracker.record(bidder, clock.millis() - startTime);
+        return response;
+    }
+
+    private void hedge(HedgedCall hedgedCall, String bidder, String uri, long remainingTimeoutMs, Sender sender) {
+        if (hedgedCall.promise.future().isComplete() || remainingTimeoutMs <= 0 || !withdraw(bidder)) {
+            return;
+        }
+
+        final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter != null
+                ? concurrencyLimiter.tryAcquire(bidder)
+                : BidderConcurrencyLimiter.NO_LIMIT_PERMIT;
+        if (permit == null) {
+            refund(bidder);
+            return;
+        }
+
+        metrics.updateAdapterHedgedRequestMetric(bidder);
+        hedgedCall.pending++;
+        sender.send(uri, remainingTimeoutMs).setHandler(result -> {
+            permit.release(result.failed() || isServerError(result.result()));
+            hedgedCall.handle(result, true);
+        });
+    }
+
+    private void deposit(String bidder, int maxExtraTrafficPercent) {
+        final AtomicLong budget = budgets.computeIfAbsent(bidder, ignored -> new AtomicLong());
+        budget.getAndUpdate(tokens -> Math.min(tokens + maxExtraTrafficPercent, MAX_BURST_TOKENS * TOKEN));
+    }
+
+    private boolean withdraw(String bidder) {
+        final AtomicLong budget = budgets.get(bidder);
+        return budget != null && budget.getAndUpdate(tokens -> tokens >= TOKEN ? tokens - TOKEN : tokens) >= TOKEN;
+    }
+
+    private void refund(String bidder) {
+        budgets.get(bidder).getAndUpdate(tokens -> Math.min(tokens + TOKEN, MAX_BURST_TOKENS * TOKEN));
+    }
+
+    private static boolean isServerError(HttpClientResponse response) {
+        return response.getStatusCode() >= HttpResponseStatus.INTERNAL_SERVER_ERROR.code();
+    }
+
+    /**
+     * Replaces origin of the given uri with alternate endpoint, if any.
+     */
+    static String hedgedUri(String uri, String alternateEndpoint) {
+        if (alternateEndpoint == null) {
+            return uri;
+        }
+
+        final int schemeEnd = uri.indexOf("://");
+        if (schemeEnd == -1) {
+            return uri;
+        }
+
+        final int authorityStart = schemeEnd + 3;
+        final int pathStart = StringUtils.indexOfAny(uri.substring(authorityStart), '/', '?', '#');
+        final String pathAndQuery = pathStart != -1 ? uri.substring(authorityStart + pathStart) : "";
+
+        return StringUtils.removeEnd(alternateEndpoint, "/") + pathAndQuery;
+    }
+
+    /**
+     * Sends request to the given uri within the given timeout.
+     */
+    @FunctionalInterface
+    public interface Sender {
+
+        Future<HttpClientResponse> send(String uri, long timeoutMs);
+    }
+
+    /**
+     * Holds state of original and hedged requests, accessed from the event loop thread only.
+     * <p>
+     * Server error response doesn't win the race, it is returned only if no other request succeeded.
+     */
+    private class HedgedCall {
+
+        final String bidder;
+        final Promise<HttpClientResponse> promise = Promise.promise();
+        int pending = 1;
+        HttpClientResponse errorResponse;
+
+        HedgedCall(String bidder) {
+            this.bidder = bidder;
+        }
+
+        void handle(AsyncResult<HttpClientResponse> result, boolean hedged) {
+            pending--;
+            if (result.succeeded() && !isServerError(result.result())) {
+                if (promise.tryComplete(result.result()) && hedged) {
+                    metrics.updateAdapterHedgeWinMetric(bidder);
+                }
+                return;
+            }
+
+            if (result.succeeded()) {
+                errorResponse = result.result();
+            }
+            if (pending == 0) {
+                if (errorResponse != null) {
+                    promise.tryComplete(errorResponse);
+                } else {
+                    promise.tryFail(result.cause());
+                }
+            }
+        }
+    }
+}
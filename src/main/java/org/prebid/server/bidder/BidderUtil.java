@@ -0,0 +1,81 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.iab.openrtb.request.Imp;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Helpers commonly used by {@link Bidder} implementations.
+ */
+public class BidderUtil {
+
+    private static final String BIDDER_EXT = "bidder";
+
+    private BidderUtil() {
+    }
+
+    /**
+     * Decodes {@link HttpResponse} body to the given type.
+     * <p>
+     * Parses received bytes directly if available, so no intermediate {@link String} is created.
+     */
+    public static <T> T decodeBody(JacksonMapper mapper, HttpResponse response, Class<T> type)
+            throws DecodeException {
+
+        return response.getBodyBuffer() != null
+                ? mapper.decodeValue(response.getBodyBuffer(), type)
+                : mapper.decodeValue(response.getBody(), type);
+    }
+
+    /**
+     * Converts imp.ext to the given type.
+     * <p>
+     * Result is cached in imp.ext node created by exchange for the bidder request (see {@link BidderImpExt}), so bidder
+     * gets the same instance without conversion when it needs extension of the same imp again (e.g. while making
+     * bids). Returned value must not be modified.
+     *
+     * @throws IllegalArgumentException if imp.ext cannot be converted to the given type
+     */
+    public static <T> T parseImpExt(JacksonMapper mapper, Imp imp, TypeReference<T> type) {
+        final JsonNode impExt = imp.getExt();
+        return cachedImpExt(impExt instanceof BidderImpExt ? ((BidderImpExt) impExt).typedExts() : null,
+                type.getType(), () -> mapper.mapper().convertValue(impExt, type));
+    }
+
+    /**
+     * Converts imp.ext.bidder to the given type, result is cached the same way as by
+     * {@link #parseImpExt(JacksonMapper, Imp, TypeReference)}.
+     *
+     * @throws IllegalArgumentException if imp.ext.bidder cannot be converted to the given type
+     */
+    public static <T> T parseImpExtBidder(JacksonMapper mapper, Imp imp, Class<T> type) {
+        final JsonNode impExt = imp.getExt();
+        return cachedImpExt(impExt instanceof BidderImpExt ? ((BidderImpExt) impExt).typedBidderExts() : null,
+                type, () -> mapper.mapper().convertValue(impExt.get(BIDDER_EXT), type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cachedImpExt(Map<Type, Object> typedExts, Type type, Supplier<T> converter) {
+        if (typedExts == null) {
+            return converter.get();
+        }
+
+        final Object cached = typedExts.get(type);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        final T converted = converter.get();
+        if (converted != null) {
+            typedExts.put(type, converted);
+        }
+        return converted;
+    }
+}
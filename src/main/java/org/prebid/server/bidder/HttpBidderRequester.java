@@ -5,6 +5,7 @@ import io.netty.channel.ConnectTimeoutException;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
@@ -16,14 +17,16 @@ import org.prebid.server.bidder.model.HttpCall;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.exception.ResponseTooLargeException;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,23 +47,41 @@ public class HttpBidderRequester {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpBidderRequester.class);
 
-    private static final int NOTIFICATION_TIMEOUT_MS = 200;
-
     private final HttpClient httpClient;
+    private final BidderHttpClientResolver bidderHttpClientResolver;
+    private final TimeoutNotificationDispatcher timeoutNotificationDispatcher;
+    private final AggregatedErrorLogger errorLogger;
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
+    private final BidderConcurrencyLimiter concurrencyLimiter;
+    private final BidderRequestHedger requestHedger;
+    private final BidderRequestCompressor requestCompressor;
 
     public HttpBidderRequester(HttpClient httpClient,
-                               BidderRequestCompletionTrackerFactory completionTrackerFactory) {
+                               BidderHttpClientResolver bidderHttpClientResolver,
+                               TimeoutNotificationDispatcher timeoutNotificationDispatcher,
+                               AggregatedErrorLogger errorLogger,
+                               BidderRequestCompletionTrackerFactory completionTrackerFactory,
+                               BidderConcurrencyLimiter concurrencyLimiter,
+                               BidderRequestHedger requestHedger,
+                               BidderRequestCompressor requestCompressor) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.bidderHttpClientResolver = Objects.requireNonNull(bidderHttpClientResolver);
+        this.timeoutNotificationDispatcher = Objects.requireNonNull(timeoutNotificationDispatcher);
+        this.errorLogger = Objects.requireNonNull(errorLogger);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.requestHedger = requestHedger;
+        this.requestCompressor = requestCompressor;
     }
 
     /**
      * Executes given request to a given bidder.
+     * <p>
+     * Bidder name is used to pick HTTP client dedicated to the bidder, if any.
      */
     public <T> Future<BidderSeatBid> requestBids(
-            Bidder<T> bidder, BidRequest bidRequest, Timeout timeout, boolean debugEnabled) {
+            Bidder<T> bidder, String bidderName, BidRequest bidRequest, Timeout timeout, boolean debugEnabled) {
 
         final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
 
@@ -74,11 +95,15 @@ public class HttpBidderRequester {
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
 
         final ResultBuilder<T> resultBuilder = new ResultBuilder<>(httpRequests, bidderErrors, completionTracker);
+        final HttpClient bidderHttpClient = httpClientFor(bidderName);
+        final BidderRequestCompressor.Compression compression = requestCompressor != null
+                ? requestCompressor.compressionFor(bidderName)
+                : null;
 
         final List<Future<Void>> httpRequestFutures = httpRequests.stream()
-                .map(httpRequest -> doRequest(httpRequest, timeout, bidder))
-                .map(httpCallFuture -> httpCallFuture
-                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpCall)))
+                .map(httpRequest -> doRequest(bidderHttpClient, bidderName, httpRequest, compression, timeout,
+                        bidder)
+                        .map(httpCall -> processHttpCall(bidder, bidRequest, resultBuilder, httpRequest, httpCall)))
                 .collect(Collectors.toList());
 
         final CompositeFuture completionFuture = CompositeFuture.any(
@@ -89,6 +114,14 @@ public class HttpBidderRequester {
                 .map(ignored -> resultBuilder.toBidderSeatBid(debugEnabled));
     }
 
+    /**
+     * Returns {@link HttpClient} dedicated to the bidder or shared one if bidder has no own connection pool.
+     */
+    private HttpClient httpClientFor(String bidderName) {
+        final HttpClient bidderHttpClient = bidderHttpClientResolver.httpClientFor(bidderName);
+        return bidderHttpClient != null ? bidderHttpClient : httpClient;
+    }
+
     /**
      * Creates {@link Future<BidderSeatBid>} with empty list of {@link BidderBid}s
      * and list of {@link ExtHttpCall}s with list of {@link BidderError}s.
@@ -105,40 +138,147 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<HttpCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout, Bidder<T> bidder) {
+    private <T> Future<HttpCall<T>> doRequest(HttpClient bidderHttpClient,
+                                              String bidderName,
+                                              HttpRequest<T> httpRequest,
+                                              BidderRequestCompressor.Compression compression,
+                                              Timeout timeout,
+                                              Bidder<T> bidder) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
-            return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
+            return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest)
+                    .map(httpCall -> logError(bidderName, httpCall));
         }
 
-        return httpClient.request(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
-                httpRequest.getBody(), remainingTimeout)
-                .compose(response -> processResponse(response, httpRequest))
+        final BidderConcurrencyLimiter.Permit permit = acquirePermit(bidderName);
+        if (permit == null) {
+            return Future.succeededFuture(HttpCall.failure(httpRequest, BidderError.concurrencyLimited(
+                    "Too many requests to the bidder are in flight, request was not sent")));
+        }
+
+        return sendOrHedge(bidderHttpClient, bidderName, httpRequest, compression, remainingTimeout)
                 .recover(exception -> failResponse(exception, httpRequest))
-                .map(httpCall -> notifyTimeoutBidder(bidder, httpCall));
+                .map(httpCall -> logError(bidderName, httpCall))
+                .map(httpCall -> releasePermit(permit, httpCall))
+                .map(httpCall -> notifyTimeoutBidder(bidderHttpClient, bidderName, bidder, httpCall));
+    }
+
+    /**
+     * Returns permit to send request or null if bidder has reached its concurrency limit.
+     */
+    private BidderConcurrencyLimiter.Permit acquirePermit(String bidderName) {
+        return concurrencyLimiter != null
+                ? concurrencyLimiter.tryAcquire(bidderName)
+                : BidderConcurrencyLimiter.NO_LIMIT_PERMIT;
+    }
+
+    /**
+     * Releases permit treating timeouts, connection errors and server errors as dropped requests.
+     */
+    private static <T> HttpCall<T> releasePermit(BidderConcurrencyLimiter.Permit permit, HttpCall<T> httpCall) {
+        final HttpResponse response = httpCall.getResponse();
+        final boolean dropped = response != null
+                ? response.getStatusCode() >= HttpResponseStatus.INTERNAL_SERVER_ERROR.code()
+                : httpCall.getError() != null;
+
+        permit.release(dropped);
+        return httpCall;
+    }
+
+    /**
+     * Sends request through {@link BidderRequestHedger} if configured, otherwise directly.
+     * <p>
+     * Hedged request may be sent to alternate endpoint, so {@link HttpCall} records the uri which actually produced
+     * the response.
+     */
+    private <T> Future<HttpCall<T>> sendOrHedge(HttpClient bidderHttpClient, String bidderName,
+                                                HttpRequest<T> httpRequest,
+                                                BidderRequestCompressor.Compression compression,
+                                                long timeoutMs) {
+        if (requestHedger == null) {
+            return send(bidderHttpClient, httpRequest, compression, httpRequest.getUri(), timeoutMs)
+                    .compose(response -> processResponse(response, httpRequest));
+        }
+
+        final Map<HttpClientResponse, String> responseUris = new IdentityHashMap<>(2);
+        return requestHedger.send(bidderName, httpRequest.getUri(), timeoutMs,
+                (uri, hedgeTimeoutMs) -> send(bidderHttpClient, httpRequest, compression, uri, hedgeTimeoutMs)
+                        .map(response -> rememberUri(responseUris, response, uri)))
+                .compose(response -> processResponse(response, withUri(httpRequest, responseUris.get(response))));
+    }
+
+    private static HttpClientResponse rememberUri(Map<HttpClientResponse, String> responseUris,
+                                                  HttpClientResponse response, String uri) {
+        responseUris.put(response, uri);
+        return response;
+    }
+
+    private static <T> HttpRequest<T> withUri(HttpRequest<T> httpRequest, String uri) {
+        return uri == null || uri.equals(httpRequest.getUri())
+                ? httpRequest
+                : httpRequest.toBuilder().uri(uri).build();
+    }
+
+    /**
+     * Sends compressed request body if bidder compresses requests and body is big enough. Otherwise sends body as is
+     * if it was encoded by bidder or as {@link String}.
+     */
+    private static <T> Future<HttpClientResponse> send(HttpClient bidderHttpClient, HttpRequest<T> httpRequest,
+                                                       BidderRequestCompressor.Compression compression,
+                                                       String uri, long timeoutMs) {
+        final Buffer compressedBody = compression != null ? compression.compressBody(httpRequest) : null;
+        if (compressedBody != null) {
+            return bidderHttpClient.requestBuffer(httpRequest.getMethod(), uri, compression.headers(httpRequest),
+                    compressedBody, timeoutMs);
+        }
+
+        final Buffer bodyBuffer = httpRequest.getBodyBuffer();
+        return bodyBuffer != null
+                ? bidderHttpClient.requestBuffer(httpRequest.getMethod(), uri, httpRequest.getHeaders(), bodyBuffer,
+                timeoutMs)
+                : bidderHttpClient.request(httpRequest.getMethod(), uri, httpRequest.getHeaders(),
+                httpRequest.getBody(), timeoutMs);
     }
 
     /**
      * Produces {@link Future} with {@link HttpCall} containing request and error description.
      */
     private static <T> Future<HttpCall<T>> failResponse(Throwable exception, HttpRequest<T> httpRequest) {
-        logger.warn("Error occurred while sending HTTP request to a bidder url: {0} with message: {1}",
-                httpRequest.getUri(), exception.getMessage());
         logger.debug("Error occurred while sending HTTP request to a bidder url: {0}", exception, httpRequest.getUri());
 
-        final BidderError.Type errorType =
-                exception instanceof TimeoutException || exception instanceof ConnectTimeoutException
-                        ? BidderError.Type.timeout
-                        : BidderError.Type.generic;
-
         return Future.succeededFuture(
-                HttpCall.failure(httpRequest, BidderError.create(exception.getMessage(), errorType)));
+                HttpCall.failure(httpRequest, BidderError.create(exception.getMessage(), errorType(exception))));
+    }
+
+    private static BidderError.Type errorType(Throwable exception) {
+        if (exception instanceof TimeoutException || exception instanceof ConnectTimeoutException) {
+            return BidderError.Type.timeout;
+        }
+        if (exception instanceof ResponseTooLargeException) {
+            return BidderError.Type.response_too_large;
+        }
+        return BidderError.Type.generic;
+    }
+
+    /**
+     * Reports failed call to {@link AggregatedErrorLogger}, so errors are logged in summary instead of one by one.
+     */
+    private <T> HttpCall<T> logError(String bidderName, HttpCall<T> httpCall) {
+        final BidderError error = httpCall.getError();
+        if (error != null) {
+            final HttpResponse response = httpCall.getResponse();
+            errorLogger.log(bidderName, error.getType().name(), response != null ? response.getStatusCode() : null,
+                    error.getMessage());
+        }
+        return httpCall;
     }
 
     /**
-     * Calls when bidder's exchange responds with timeout and sends notification if bidder supports it.
+     * Calls when bidder's exchange responds with timeout and dispatches notification if bidder supports it.
      */
-    private <T> HttpCall<T> notifyTimeoutBidder(Bidder<T> bidder, HttpCall<T> httpCall) {
+    private <T> HttpCall<T> notifyTimeoutBidder(HttpClient bidderHttpClient, String bidderName, Bidder<T> bidder,
+                                                HttpCall<T> httpCall) {
         final BidderError bidderError = httpCall.getError();
         final BidderError.Type errorType = bidderError != null ? bidderError.getType() : null;
 
@@ -147,12 +287,7 @@ public class HttpBidderRequester {
             final HttpRequest<Void> timeoutNotification = timeoutBidder.makeTimeoutNotification(httpCall.getRequest());
 
             if (timeoutNotification != null) {
-                httpClient.request(
-                        timeoutNotification.getMethod(),
-                        timeoutNotification.getUri(),
-                        timeoutNotification.getHeaders(),
-                        timeoutNotification.getBody(),
-                        NOTIFICATION_TIMEOUT_MS);
+                timeoutNotificationDispatcher.dispatch(bidderName, bidderHttpClient, timeoutNotification);
             }
         }
 
@@ -165,8 +300,11 @@ public class HttpBidderRequester {
      */
     private static <T> Future<HttpCall<T>> processResponse(HttpClientResponse response, HttpRequest<T> httpRequest) {
         final int statusCode = response.getStatusCode();
-        return Future.succeededFuture(HttpCall.success(httpRequest,
-                HttpResponse.of(statusCode, response.getHeaders(), response.getBody()), errorOrNull(statusCode)));
+        final Buffer bodyBuffer = response.getBodyBuffer();
+        final HttpResponse httpResponse = bodyBuffer != null
+                ? HttpResponse.ofBuffer(statusCode, response.getHeaders(), bodyBuffer)
+                : HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        return Future.succeededFuture(HttpCall.success(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
     /**
@@ -186,9 +324,10 @@ public class HttpBidderRequester {
     private <T> Void processHttpCall(Bidder<T> bidder,
                                      BidRequest bidRequest,
                                      ResultBuilder<T> seatBidBuilder,
+                                     HttpRequest<T> httpRequest,
                                      HttpCall<T> httpCall) {
 
-        seatBidBuilder.addHttpCall(httpCall, makeBids(bidder, httpCall, bidRequest));
+        seatBidBuilder.addHttpCall(httpRequest, httpCall, makeBids(bidder, httpCall, bidRequest));
         return null;
     }
 
@@ -229,7 +368,8 @@ public class HttpBidderRequester {
         final List<BidderError> previousErrors;
         final BidderRequestCompletionTracker completionTracker;
 
-        final Map<HttpRequest<T>, HttpCall<T>> httpCallsRecorded = new HashMap<>();
+        // requests are tracked by identity to avoid comparing (and decoding) their bodies
+        final Map<HttpRequest<T>, HttpCall<T>> httpCallsRecorded = new IdentityHashMap<>();
         final List<BidderBid> bidsRecorded = new ArrayList<>();
         final List<BidderError> errorsRecorded = new ArrayList<>();
 
@@ -241,8 +381,11 @@ public class HttpBidderRequester {
             this.completionTracker = completionTracker;
         }
 
-        void addHttpCall(HttpCall<T> httpCall, Result<List<BidderBid>> bidsResult) {
-            httpCallsRecorded.put(httpCall.getRequest(), httpCall);
+        /**
+         * Records call made for the given request. Call may hold a copy of the request sent to other uri.
+         */
+        void addHttpCall(HttpRequest<T> httpRequest, HttpCall<T> httpCall, Result<List<BidderBid>> bidsResult) {
+            httpCallsRecorded.put(httpRequest, httpCall);
 
             final List<BidderBid> bids = bidsResult != null ? bidsResult.getValue() : null;
             if (bids != null) {
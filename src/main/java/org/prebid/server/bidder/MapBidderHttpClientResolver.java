@@ -0,0 +1,24 @@
+package org.prebid.server.bidder;
+
+import org.prebid.server.vertx.http.HttpClient;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Basic implementation of {@link BidderHttpClientResolver} holding HTTP clients created at startup.
+ */
+public class MapBidderHttpClientResolver implements BidderHttpClientResolver {
+
+    private final Map<String, HttpClient> bidderHttpClients;
+
+    public MapBidderHttpClientResolver(Map<String, HttpClient> bidderHttpClients) {
+        this.bidderHttpClients = new HashMap<>(Objects.requireNonNull(bidderHttpClients));
+    }
+
+    @Override
+    public HttpClient httpClientFor(String bidder) {
+        return bidderHttpClients.get(bidder);
+    }
+}
@@ -5,6 +5,7 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.model.BidderBid;
@@ -92,7 +93,7 @@ public abstract class OpenrtbBidder<T> implements Bidder<BidRequest> {
 
     private T parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt().get("bidder"), extType);
+            return BidderUtil.parseImpExtBidder(mapper, imp, extType);
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -142,18 +143,43 @@ public abstract class OpenrtbBidder<T> implements Bidder<BidRequest> {
     private List<HttpRequest<BidRequest>> createHttpRequests(BidRequest bidRequest, List<ImpWithExt<T>> impsWithExts) {
         switch (requestCreationStrategy) {
             case REQUEST_PER_IMP:
-                return impsWithExts.stream()
-                        .map(impWithExt -> makeRequest(bidRequest, Collections.singletonList(impWithExt)))
-                        .collect(Collectors.toList());
+                return makeRequestPerImp(bidRequest, impsWithExts);
             case SINGLE_REQUEST:
-                return Collections.singletonList(makeRequest(bidRequest, impsWithExts));
+                final BidRequest outgoingRequest = createOutgoingRequest(bidRequest, impsWithExts);
+                return Collections.singletonList(
+                        makeRequest(outgoingRequest, mapper.encodeToBuffer(outgoingRequest)));
             default:
                 throw new IllegalArgumentException(String.format("Invalid request creation strategy: %s",
                         requestCreationStrategy));
         }
     }
 
-    private HttpRequest<BidRequest> makeRequest(BidRequest bidRequest, List<ImpWithExt<T>> impsWithExts) {
+    /**
+     * Creates request for each imp. Requests usually differ in imps only, so the rest of the request is encoded once
+     * and shared by all of them, unless {@link #modifyRequest} makes other parts of the request differ as well.
+     */
+    private List<HttpRequest<BidRequest>> makeRequestPerImp(BidRequest bidRequest, List<ImpWithExt<T>> impsWithExts) {
+        final List<HttpRequest<BidRequest>> httpRequests = new ArrayList<>(impsWithExts.size());
+
+        BidRequestEnvelope envelope = null;
+        for (ImpWithExt<T> impWithExt : impsWithExts) {
+            final BidRequest outgoingRequest = createOutgoingRequest(bidRequest, Collections.singletonList(impWithExt));
+            if (httpRequests.isEmpty() && impsWithExts.size() > 1) {
+                envelope = BidRequestEnvelope.of(mapper, outgoingRequest);
+            } else if (envelope != null && !envelope.matches(outgoingRequest)) {
+                envelope = null;
+            }
+
+            final Buffer body = envelope != null
+                    ? envelope.encode(outgoingRequest.getImp())
+                    : mapper.encodeToBuffer(outgoingRequest);
+            httpRequests.add(makeRequest(outgoingRequest, body));
+        }
+
+        return httpRequests;
+    }
+
+    private BidRequest createOutgoingRequest(BidRequest bidRequest, List<ImpWithExt<T>> impsWithExts) {
         final BidRequest.BidRequestBuilder requestBuilder = bidRequest.toBuilder();
 
         requestBuilder.imp(impsWithExts.stream()
@@ -162,13 +188,14 @@ public abstract class OpenrtbBidder<T> implements Bidder<BidRequest> {
 
         modifyRequest(bidRequest, requestBuilder, impsWithExts);
 
-        final BidRequest outgoingRequest = requestBuilder.build();
-        final String body = mapper.encode(outgoingRequest);
+        return requestBuilder.build();
+    }
 
+    private HttpRequest<BidRequest> makeRequest(BidRequest outgoingRequest, Buffer body) {
         return HttpRequest.<BidRequest>builder()
                 .method(HttpMethod.POST)
                 .uri(endpointUrl)
-                .body(body)
+                .bodyBuffer(body)
                 .headers(HttpUtil.headers())
                 .payload(outgoingRequest)
                 .build();
@@ -210,7 +237,7 @@ public abstract class OpenrtbBidder<T> implements Bidder<BidRequest> {
     @Override
     public final Result<List<BidderBid>> makeBids(HttpCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return Result.of(extractBids(httpCall.getRequest().getPayload(), bidResponse), Collections.emptyList());
         } catch (DecodeException | PreBidException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
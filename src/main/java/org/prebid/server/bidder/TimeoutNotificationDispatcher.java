@@ -0,0 +1,201 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.TimeoutNotificationConfig;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.Initializable;
+import org.prebid.server.vertx.http.HttpClient;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends timeout notifications to bidders in batches.
+ * <p>
+ * Notifications are sampled and queued, identical notifications queued within the same merge window are sent once.
+ * Queue is flushed once per merge window, notifications over bidder's rate limit are discarded, as well as
+ * notifications arrived when the queue is full. This keeps notifications from multiplying traffic to a bidder
+ * which is already failing to respond in time.
+ * <p>
+ * Each notification is sent on the {@link Context} it was dispatched on, since {@link HttpClient} it is sent with
+ * belongs to that context.
+ */
+public class TimeoutNotificationDispatcher implements Initializable {
+
+    public static final TimeoutNotificationConfig DEFAULT_CONFIG = TimeoutNotificationConfig.of(200L, 0, 1.0);
+
+    private final Vertx vertx;
+    private final BidderCatalog bidderCatalog;
+    private final int queueCapacity;
+    private final long mergeWindowMs;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<NotificationKey, QueuedNotification> queue = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+
+    public TimeoutNotificationDispatcher(Vertx vertx,
+                                         BidderCatalog bidderCatalog,
+                                         int queueCapacity,
+                                         long mergeWindowMs,
+                                         Metrics metrics,
+                                         Clock clock) {
+
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.queueCapacity = queueCapacity;
+        this.mergeWindowMs = mergeWindowMs;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Sets timer for periodic flush of the queue.
+     * <p>
+     * Must be called on Vertx event loop thread.
+     */
+    @Override
+    public void initialize() {
+        vertx.setPeriodic(mergeWindowMs, ignored -> flush());
+    }
+
+    /**
+     * Queues notification to be sent to the given bidder with the given {@link HttpClient}.
+     */
+    public void dispatch(String bidder, HttpClient httpClient, HttpRequest<Void> notification) {
+        final TimeoutNotificationConfig config = configFor(bidder);
+
+        if (config.getSamplingRate() < 1.0 && ThreadLocalRandom.current().nextDouble() >= config.getSamplingRate()) {
+            metrics.updateAdapterTimeoutNotificationMetric(bidder, MetricName.sampled_out);
+            return;
+        }
+
+        final Buffer bodyBuffer = notification.getBodyBuffer();
+        final NotificationKey key = NotificationKey.of(notification.getMethod(), notification.getUri(),
+                bodyBuffer == null ? notification.getBody() : null, bodyBuffer);
+        if (queue.containsKey(key)) {
+            metrics.updateAdapterTimeoutNotificationMetric(bidder, MetricName.merged);
+        } else if (queue.size() >= queueCapacity) {
+            metrics.updateAdapterTimeoutNotificationMetric(bidder, MetricName.dropped);
+        } else if (queue.putIfAbsent(key, new QueuedNotification(vertx.getOrCreateContext(), bidder, httpClient,
+                notification, config)) != null) {
+            metrics.updateAdapterTimeoutNotificationMetric(bidder, MetricName.merged);
+        }
+    }
+
+    private TimeoutNotificationConfig configFor(String bidder) {
+        final TimeoutNotificationConfig config = bidderCatalog.timeoutNotificationConfigByName(bidder);
+        return config != null ? config : DEFAULT_CONFIG;
+    }
+
+    private void flush() {
+        final Iterator<QueuedNotification> iterator = queue.values().iterator();
+        while (iterator.hasNext()) {
+            final QueuedNotification queuedNotification = iterator.next();
+            iterator.remove();
+            queuedNotification.context.runOnContext(ignored -> send(queuedNotification));
+        }
+    }
+
+    private void send(QueuedNotification queuedNotification) {
+        final String bidder = queuedNotification.bidder;
+        final TimeoutNotificationConfig config = queuedNotification.config;
+
+        if (config.getRatePerSec() > 0 && !tokenBuckets
+                .computeIfAbsent(bidder, ignored -> new TokenBucket(config.getRatePerSec(), clock.millis()))
+                .tryAcquire(clock.millis())) {
+
+            metrics.updateAdapterTimeoutNotificationMetric(bidder, MetricName.rate_limited);
+            return;
+        }
+
+        final HttpRequest<Void> notification = queuedNotification.notification;
+        final Buffer bodyBuffer = notification.getBodyBuffer();
+        if (bodyBuffer != null) {
+            queuedNotification.httpClient.requestBuffer(notification.getMethod(), notification.getUri(),
+                    notification.getHeaders(), bodyBuffer, config.getTimeoutMs());
+        } else {
+            queuedNotification.httpClient.request(notification.getMethod(), notification.getUri(),
+                    notification.getHeaders(), notification.getBody(), config.getTimeoutMs());
+        }
+        metrics.updateAdapterTimeoutNotificationMetric(bidder, MetricName.sent);
+    }
+
+    /**
+     * Identifies notification for merging. Body given as {@link Buffer} is compared by its bytes, so it isn't
+     * decoded on each dispatch.
+     */
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class NotificationKey {
+
+        HttpMethod method;
+
+        String uri;
+
+        String body;
+
+        Buffer bodyBuffer;
+    }
+
+    private static class QueuedNotification {
+
+        final Context context;
+        final String bidder;
+        final HttpClient httpClient;
+        final HttpRequest<Void> notification;
+        final TimeoutNotificationConfig config;
+
+        QueuedNotification(Context context, String bidder, HttpClient httpClient, HttpRequest<Void> notification,
+                           TimeoutNotificationConfig config) {
+            this.context = context;
+            this.bidder = bidder;
+            this.httpClient = httpClient;
+            this.notification = notification;
+            this.config = config;
+        }
+    }
+
+    /**
+     * Allows given number of acquisitions per second, unused tokens are accumulated up to one second worth.
+     */
+    private static class TokenBucket {
+
+        final int ratePerSec;
+
+        double tokens;
+        long lastRefillTime;
+
+        TokenBucket(int ratePerSec, long now) {
+            this.ratePerSec = ratePerSec;
+            this.tokens = ratePerSec;
+            this.lastRefillTime = now;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(ratePerSec, tokens + (now - lastRefillTime) * ratePerSec / 1000.0);
+            lastRefillTime = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
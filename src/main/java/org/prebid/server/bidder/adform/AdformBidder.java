@@ -16,6 +16,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.adform.model.AdformBid;
 import org.prebid.server.bidder.adform.model.UrlParameters;
 import org.prebid.server.bidder.model.BidderBid;
@@ -171,7 +172,7 @@ public class AdformBidder implements Bidder<Void> {
             }
             final ExtImpAdform extImpAdform;
             try {
-                extImpAdform = mapper.mapper().convertValue(imp.getExt(), ADFORM_EXT_TYPE_REFERENCE).getBidder();
+                extImpAdform = BidderUtil.parseImpExt(mapper, imp, ADFORM_EXT_TYPE_REFERENCE).getBidder();
             } catch (IllegalArgumentException e) {
                 errors.add(BidderError.badInput(String.format("Error occurred parsing adform parameters %s",
                         e.getMessage())));
@@ -15,6 +15,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.adhese.model.AdheseBid;
 import org.prebid.server.bidder.adhese.model.AdheseOriginData;
 import org.prebid.server.bidder.adhese.model.AdheseResponseExt;
@@ -88,7 +89,7 @@ public class AdheseBidder implements Bidder<Void> {
 
     private ExtImpAdhese parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), ADHESE_EXT_TYPE_REFERENCE).getBidder();
+            return BidderUtil.parseImpExt(mapper, imp, ADHESE_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
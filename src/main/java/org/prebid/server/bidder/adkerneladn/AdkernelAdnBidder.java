@@ -14,6 +14,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -97,7 +98,7 @@ public class AdkernelAdnBidder implements Bidder<BidRequest> {
     private ExtImpAdkernelAdn parseAndValidateAdkernelAdnExt(Imp imp) {
         final ExtImpAdkernelAdn adkernelAdnExt;
         try {
-            adkernelAdnExt = mapper.mapper().convertValue(imp.getExt(), ADKERNELADN_EXT_TYPE_REFERENCE).getBidder();
+            adkernelAdnExt = BidderUtil.parseImpExt(mapper, imp, ADKERNELADN_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -232,7 +233,7 @@ public class AdkernelAdnBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(HttpCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return Result.of(extractBids(httpCall.getRequest().getPayload(), bidResponse), Collections.emptyList());
         } catch (DecodeException | PreBidException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
@@ -13,6 +13,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.adoppler.model.AdopplerResponseExt;
 import org.prebid.server.bidder.adoppler.model.AdopplerResponseVideoExt;
 import org.prebid.server.bidder.model.BidderBid;
@@ -79,7 +80,7 @@ public class AdopplerBidder implements Bidder<BidRequest> {
     private ExtImpAdoppler parseAndValidateImpExt(Imp imp) {
         final ExtImpAdoppler extImpAdoppler;
         try {
-            extImpAdoppler = mapper.mapper().convertValue(imp.getExt(), ADOPPLER_EXT_TYPE_REFERENCE).getBidder();
+            extImpAdoppler = BidderUtil.parseImpExt(mapper, imp, ADOPPLER_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -132,7 +133,7 @@ public class AdopplerBidder implements Bidder<BidRequest> {
 
     private BidResponse decodeBodyToBidResponse(HttpCall<BidRequest> httpCall) {
         try {
-            return mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
         } catch (DecodeException e) {
             throw new PreBidException(e.getMessage(), e);
         }
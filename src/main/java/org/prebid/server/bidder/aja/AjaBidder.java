@@ -10,6 +10,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.aja.proto.ExtImpAja;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
@@ -86,7 +87,7 @@ public class AjaBidder implements Bidder<BidRequest> {
 
     private ExtImpAja parseExtAJA(Imp imp, List<BidderError> errors) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), AJA_EXT_TYPE_REFERENCE)
+            return BidderUtil.parseImpExt(mapper, imp, AJA_EXT_TYPE_REFERENCE)
                     .getBidder();
         } catch (IllegalArgumentException e) {
             errors.add(BidderError.badInput(
@@ -135,7 +136,7 @@ public class AjaBidder implements Bidder<BidRequest> {
         }
 
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return extractBids(httpCall.getRequest().getPayload(), bidResponse);
         } catch (DecodeException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
@@ -14,6 +14,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -114,7 +115,7 @@ public class ApplogyBidder implements Bidder<BidRequest> {
     private ExtImpApplogy parseAndValidateImpExt(Imp imp) {
         final ExtImpApplogy extImpApplogy;
         try {
-            extImpApplogy = mapper.mapper().convertValue(imp.getExt(), APPLOGY_EXT_TYPE_REFERENCE)
+            extImpApplogy = BidderUtil.parseImpExt(mapper, imp, APPLOGY_EXT_TYPE_REFERENCE)
                     .getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage());
@@ -137,7 +138,7 @@ public class ApplogyBidder implements Bidder<BidRequest> {
         }
 
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return extractBids(httpCall.getRequest().getPayload(), bidResponse);
         } catch (DecodeException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
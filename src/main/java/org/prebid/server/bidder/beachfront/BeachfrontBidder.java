@@ -19,6 +19,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.beachfront.model.BeachfrontBannerRequest;
 import org.prebid.server.bidder.beachfront.model.BeachfrontResponseSlot;
 import org.prebid.server.bidder.beachfront.model.BeachfrontSize;
@@ -110,7 +111,7 @@ public class BeachfrontBidder implements Bidder<Void> {
             requests.add(HttpRequest.<Void>builder()
                     .method(HttpMethod.POST)
                     .uri(bannerEndpointUrl)
-                    .body(mapper.encode(bannerRequest))
+                    .bodyBuffer(mapper.encodeToBuffer(bannerRequest))
                     .headers(headers)
                     .build());
         }
@@ -127,7 +128,7 @@ public class BeachfrontBidder implements Bidder<Void> {
                 .map(videoRequest -> HttpRequest.<Void>builder()
                         .method(HttpMethod.POST)
                         .uri(resolveVideoUri(videoRequest.getAppId(), videoRequest.getIsPrebid()))
-                        .body(mapper.encode(videoRequest))
+                        .bodyBuffer(mapper.encodeToBuffer(videoRequest))
                         .headers(videoHeaders)
                         .build())
                 .forEach(requests::add);
@@ -209,7 +210,7 @@ public class BeachfrontBidder implements Bidder<Void> {
 
     private ExtImpBeachfront parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt(), BEACHFRONT_EXT_TYPE_REFERENCE).getBidder();
+            return BidderUtil.parseImpExt(mapper, imp, BEACHFRONT_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(String.format(
                     "ignoring imp id=%s, error while decoding extImpBeachfront, err: %s", imp.getId(), e.getMessage()));
@@ -13,6 +13,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.consumable.model.ConsumableAdType;
 import org.prebid.server.bidder.consumable.model.ConsumableBidGdpr;
 import org.prebid.server.bidder.consumable.model.ConsumableBidRequest;
@@ -144,7 +145,7 @@ public class ConsumableBidder implements Bidder<ConsumableBidRequest> {
 
     private ExtImpConsumable parseImpExt(Imp imp) {
         try {
-            return mapper.mapper().convertValue(imp.getExt().get("bidder"), ExtImpConsumable.class);
+            return BidderUtil.parseImpExtBidder(mapper, imp, ExtImpConsumable.class);
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -10,6 +10,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -57,7 +58,7 @@ public class CpmStarBidder implements Bidder<BidRequest> {
                             .method(HttpMethod.POST)
                             .uri(endpointUrl)
                             .headers(HttpUtil.headers())
-                            .body(mapper.encode(bidRequest))
+                            .bodyBuffer(mapper.encodeToBuffer(bidRequest))
                             .payload(request)
                             .build()),
                     Collections.emptyList()
@@ -81,7 +82,7 @@ public class CpmStarBidder implements Bidder<BidRequest> {
             throw new PreBidException("Only Banner and Video bid-types are supported at this time");
         }
         try {
-            return mapper.mapper().convertValue(imp.getExt(), CPM_STAR_EXT_TYPE_REFERENCE).getBidder();
+            return BidderUtil.parseImpExt(mapper, imp, CPM_STAR_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage());
         }
@@ -101,7 +102,7 @@ public class CpmStarBidder implements Bidder<BidRequest> {
         }
 
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return extractBids(httpCall.getRequest().getPayload(), bidResponse);
         } catch (DecodeException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
@@ -16,6 +16,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -99,7 +100,7 @@ public class EmxDigitalBidder implements Bidder<BidRequest> {
     private ExtImpEmxDigital unpackImpExt(Imp imp) {
         final ExtImpEmxDigital bidder;
         try {
-            bidder = mapper.mapper().convertValue(imp.getExt(), EMXDIGITAL_EXT_TYPE_REFERENCE).getBidder();
+            bidder = BidderUtil.parseImpExt(mapper, imp, EMXDIGITAL_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -228,7 +229,7 @@ public class EmxDigitalBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(HttpCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return Result.of(extractBids(bidResponse), Collections.emptyList());
         } catch (DecodeException | PreBidException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
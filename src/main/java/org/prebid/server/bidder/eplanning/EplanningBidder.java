@@ -17,6 +17,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.utils.URIBuilder;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.eplanning.model.CleanStepName;
 import org.prebid.server.bidder.eplanning.model.HbResponse;
 import org.prebid.server.bidder.eplanning.model.HbResponseAd;
@@ -125,7 +126,7 @@ public class EplanningBidder implements Bidder<Void> {
     private ExtImpEplanning validateAndModifyImpExt(Imp imp) throws PreBidException {
         final ExtImpEplanning extImpEplanning;
         try {
-            extImpEplanning = mapper.mapper().convertValue(imp.getExt(), EPLANNING_EXT_TYPE_REFERENCE).getBidder();
+            extImpEplanning = BidderUtil.parseImpExt(mapper, imp, EPLANNING_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException ex) {
             throw new PreBidException(String.format(
                     "Ignoring imp id=%s, error while decoding extImpBidder, err: %s", imp.getId(), ex.getMessage()));
@@ -21,6 +21,7 @@ import org.apache.commons.codec.digest.HmacUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.TimeoutBidder;
 import org.prebid.server.bidder.facebook.proto.FacebookAdMarkup;
 import org.prebid.server.bidder.facebook.proto.FacebookExt;
@@ -137,7 +138,7 @@ public class FacebookBidder implements TimeoutBidder<BidRequest> {
     private ExtImpFacebook parseAndResolveExtImpFacebook(Imp imp) {
         final ExtImpFacebook extImpFacebook;
         try {
-            extImpFacebook = mapper.mapper().convertValue(imp.getExt(), FACEBOOK_EXT_TYPE_REFERENCE)
+            extImpFacebook = BidderUtil.parseImpExt(mapper, imp, FACEBOOK_EXT_TYPE_REFERENCE)
                     .getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
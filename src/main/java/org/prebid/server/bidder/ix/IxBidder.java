@@ -15,6 +15,7 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -91,7 +92,7 @@ public class IxBidder implements Bidder<BidRequest> {
                 .map(request -> HttpRequest.<BidRequest>builder()
                         .method(HttpMethod.POST)
                         .uri(endpointUrl)
-                        .body(mapper.encode(request))
+                        .bodyBuffer(mapper.encodeToBuffer(request))
                         .headers(HttpUtil.headers())
                         .payload(request)
                         .build())
@@ -134,8 +135,7 @@ public class IxBidder implements Bidder<BidRequest> {
     private ExtImpIx parseAndValidateImpExt(Imp imp) {
         final ExtImpIx extImpIx;
         try {
-            extImpIx = mapper.mapper().convertValue(imp.getExt(),
-                    IX_EXT_TYPE_REFERENCE).getBidder();
+            extImpIx = BidderUtil.parseImpExt(mapper, imp, IX_EXT_TYPE_REFERENCE).getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -183,7 +183,7 @@ public class IxBidder implements Bidder<BidRequest> {
     @Override
     public Result<List<BidderBid>> makeBids(HttpCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             final BidRequest payload = httpCall.getRequest().getPayload();
             return Result.of(extractBids(bidResponse, payload), Collections.emptyList());
         } catch (DecodeException | PreBidException e) {
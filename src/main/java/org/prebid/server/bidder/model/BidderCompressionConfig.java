@@ -0,0 +1,24 @@
+package org.prebid.server.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Holds settings of bidder's request body compression.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class BidderCompressionConfig {
+
+    Type type;
+
+    /**
+     * Bodies smaller than this number of bytes are sent uncompressed.
+     */
+    int thresholdBytes;
+
+    public enum Type {
+
+        gzip, deflate
+    }
+}
@@ -38,6 +38,10 @@ public class BidderError {
         return BidderError.of(message, Type.timeout);
     }
 
+    public static BidderError concurrencyLimited(String message) {
+        return BidderError.of(message, Type.concurrency_limited);
+    }
+
     public enum Type {
         /**
          * Should be used when returning errors which are caused by bad input.
@@ -69,6 +73,17 @@ public class BidderError {
          */
         failed_to_request_bids(4),
 
+        /**
+         * Should be used when request to a bidder was not sent because too many requests to the bidder host
+         * are already in flight.
+         */
+        concurrency_limited(5),
+
+        /**
+         * Should be used when bidder's response was aborted because its size exceeded configured limit.
+         */
+        response_too_large(6),
+
         timeout(1),
         generic(999);
 
@@ -0,0 +1,27 @@
+package org.prebid.server.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Holds settings of hedged requests to the bidder.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class BidderHedgingConfig {
+
+    /**
+     * Quantile (in range [0..1]) of bidder's recent response time after which hedged request is sent.
+     */
+    double percentile;
+
+    /**
+     * The maximum share (in percents) of hedged requests in the overall number of requests to the bidder.
+     */
+    int maxExtraTrafficPercent;
+
+    /**
+     * Origin (scheme, host and port) hedged requests are sent to, null means the one of original request.
+     */
+    String alternateEndpoint;
+}
@@ -0,0 +1,39 @@
+package org.prebid.server.bidder.model;
+
+import lombok.Builder;
+import lombok.Value;
+import org.prebid.server.vertx.http.CircuitBreakerGranularity;
+
+/**
+ * Holds settings of HTTP client dedicated to the bidder.
+ * <p>
+ * Any value left as null means the one from global http-client configuration should be used.
+ */
+@Builder
+@Value
+public class BidderHttpClientConfig {
+
+    Integer maxPoolSize;
+
+    Integer keepAliveTimeoutSec;
+
+    Boolean pipelining;
+
+    Integer pipeliningLimit;
+
+    Integer idleTimeoutSec;
+
+    Integer connectTimeoutMs;
+
+    boolean http2Enabled;
+
+    boolean http2PriorKnowledge;
+
+    Integer http2MaxConcurrentStreams;
+
+    Integer http2MaxPoolSize;
+
+    CircuitBreakerGranularity circuitBreakerGranularity;
+
+    Long maxResponseSizeBytes;
+}
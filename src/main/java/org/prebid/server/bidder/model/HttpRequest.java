@@ -1,14 +1,18 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import lombok.Builder;
 import lombok.Value;
 
 /**
  * Packages together the fields needed to make an http request.
+ * <p>
+ * Body can be given either as {@link String} or as already encoded {@link Buffer}. The latter is written to the
+ * wire as is, so bidders are encouraged to use it for big payloads like OpenRTB requests.
  */
-@Builder
+@Builder(toBuilder = true)
 @Value
 public class HttpRequest<T> {
 
@@ -18,7 +22,19 @@ public class HttpRequest<T> {
 
     String body;
 
+    Buffer bodyBuffer;
+
     MultiMap headers;
 
     T payload;
+
+    /**
+     * Returns request body as {@link String}.
+     * <p>
+     * If body was given as {@link Buffer} it will be decoded on each call, so this method
+     * should be used only where textual representation is really needed (e.g. debug output).
+     */
+    public String getBody() {
+        return body == null && bodyBuffer != null ? bodyBuffer.toString() : body;
+    }
 }
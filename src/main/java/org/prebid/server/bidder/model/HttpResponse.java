@@ -1,13 +1,18 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body is kept as received {@link Buffer} and decoded to {@link String} only on demand,
+ * bidders should prefer {@link org.prebid.server.bidder.BidderUtil#decodeBody} to parse it.
  */
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Value
 public class HttpResponse {
 
@@ -16,4 +21,21 @@ public class HttpResponse {
     MultiMap headers;
 
     String body;
+
+    Buffer bodyBuffer;
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, body, null);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpResponse(statusCode, headers, null, bodyBuffer);
+    }
+
+    /**
+     * Returns response body as {@link String}, decoding received bytes on each call if needed.
+     */
+    public String getBody() {
+        return body == null && bodyBuffer != null ? bodyBuffer.toString() : body;
+    }
 }
@@ -0,0 +1,27 @@
+package org.prebid.server.bidder.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Holds settings of timeout notifications sent to the bidder.
+ */
+@AllArgsConstructor(staticName = "of")
+@Value
+public class TimeoutNotificationConfig {
+
+    /**
+     * Timeout of notification request in milliseconds.
+     */
+    long timeoutMs;
+
+    /**
+     * The maximum number of notifications sent to the bidder per second, 0 means no limit.
+     */
+    int ratePerSec;
+
+    /**
+     * Share (in range [0..1]) of timed out requests the bidder is notified about.
+     */
+    double samplingRate;
+}
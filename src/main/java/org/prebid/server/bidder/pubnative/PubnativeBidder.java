@@ -122,7 +122,7 @@ public class PubnativeBidder implements Bidder<BidRequest> {
                 .method(HttpMethod.POST)
                 .uri(requestUri)
                 .headers(HttpUtil.headers())
-                .body(mapper.encode(outgoingRequest))
+                .bodyBuffer(mapper.encodeToBuffer(outgoingRequest))
                 .payload(outgoingRequest)
                 .build();
     }
@@ -11,6 +11,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.lang3.BooleanUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -117,8 +118,8 @@ public class SharethroughBidder implements Bidder<SharethroughRequestBody> {
 
         final List<StrUriParameters> strUriParameters = new ArrayList<>();
         for (Imp imp : request.getImp()) {
-            final ExtImpSharethrough extImpStr = mapper.mapper().convertValue(imp.getExt(),
-                    SHARETHROUGH_EXT_TYPE_REFERENCE).getBidder();
+            final ExtImpSharethrough extImpStr = BidderUtil.parseImpExt(mapper, imp, SHARETHROUGH_EXT_TYPE_REFERENCE)
+                    .getBidder();
             final SharethroughRequestBody body = SharethroughRequestBody.of(badv, tmax, DATE_FORMAT.format(deadLine),
                     test, extImpStr.getBidfloor());
             strUriParameters.add(createStrUriParameters(extImpStr, imp, consentRequired, consent, usPrivacy,
@@ -183,7 +184,7 @@ public class SharethroughBidder implements Bidder<SharethroughRequestBody> {
         return HttpRequest.<SharethroughRequestBody>builder()
                 .method(HttpMethod.POST)
                 .uri(uri)
-                .body(mapper.encode(body))
+                .bodyBuffer(mapper.encodeToBuffer(body))
                 .headers(headers)
                 .payload(body)
                 .build();
@@ -10,6 +10,7 @@ import com.iab.openrtb.response.SeatBid;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -58,7 +59,7 @@ public class ValueImpressionBidder implements Bidder<BidRequest> {
                             .method(HttpMethod.POST)
                             .uri(endpointUrl)
                             .headers(HttpUtil.headers())
-                            .body(mapper.encode(bidRequest))
+                            .bodyBuffer(mapper.encodeToBuffer(bidRequest))
                             .payload(request)
                             .build()),
                     Collections.emptyList()
@@ -83,7 +84,7 @@ public class ValueImpressionBidder implements Bidder<BidRequest> {
     private boolean isParsedImp(Imp imp) {
         try {
             final ExtImpValueImpression extImpValueImpression =
-                    mapper.mapper().convertValue(imp.getExt(), VALUE_IMPRESSION_TYPE_REFERENCE).getBidder();
+                    BidderUtil.parseImpExt(mapper, imp, VALUE_IMPRESSION_TYPE_REFERENCE).getBidder();
             return extImpValueImpression != null;
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage());
@@ -103,7 +104,7 @@ public class ValueImpressionBidder implements Bidder<BidRequest> {
         }
 
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
             return extractBids(httpCall.getRequest().getPayload(), bidResponse);
         } catch (DecodeException e) {
             return Result.emptyWithError(BidderError.badServerResponse(e.getMessage()));
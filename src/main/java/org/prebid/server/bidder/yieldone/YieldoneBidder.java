@@ -12,6 +12,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.BidderUtil;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpCall;
@@ -96,8 +97,8 @@ public class YieldoneBidder implements Bidder<BidRequest> {
 
     private void validateImpExt(Imp imp) {
         try {
-            final ExtImpYieldone extImpYieldone = mapper.mapper().convertValue(imp.getExt(),
-                    YIELDONE_EXT_TYPE_REFERENCE).getBidder();
+            final ExtImpYieldone extImpYieldone = BidderUtil.parseImpExt(mapper, imp, YIELDONE_EXT_TYPE_REFERENCE)
+                    .getBidder();
         } catch (IllegalArgumentException e) {
             throw new PreBidException(e.getMessage(), e);
         }
@@ -133,7 +134,7 @@ public class YieldoneBidder implements Bidder<BidRequest> {
 
     private BidResponse decodeBodyToBidResponse(HttpCall<BidRequest> httpCall) {
         try {
-            return mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            return BidderUtil.decodeBody(mapper, httpCall.getResponse(), BidResponse.class);
         } catch (DecodeException e) {
             throw new PreBidException(e.getMessage(), e);
         }
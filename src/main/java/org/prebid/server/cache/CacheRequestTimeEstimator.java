@@ -0,0 +1,100 @@
+package org.prebid.server.cache;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
+import com.codahale.metrics.Snapshot;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates how long request to Prebid Cache is going to take based on recent cache response times.
+ * <p>
+ * Estimation is response time at configured percentile within sliding time window, kept within the given bounds.
+ * Until enough response times are collected the default time is used. Taking snapshot of the window is not cheap,
+ * so estimation is refreshed not more often than once per given interval.
+ */
+public class CacheRequestTimeEstimator {
+
+    private final long defaultTimeMs;
+    private final double percentile;
+    private final long minTimeMs;
+    private final long maxTimeMs;
+    private final long refreshIntervalMs;
+    private final int minSamples;
+    private final Clock clock;
+
+    private final Histogram histogram;
+
+    private volatile long estimation;
+    private volatile long estimationTime;
+
+    public CacheRequestTimeEstimator(long defaultTimeMs,
+                                     double percentile,
+                                     long minTimeMs,
+                                     long maxTimeMs,
+                                     long windowMs,
+                                     long refreshIntervalMs,
+                                     int minSamples,
+                                     Metrics metrics,
+                                     Clock clock) {
+
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile should be in range (0..1]");
+        }
+        if (minTimeMs < 0 || maxTimeMs < minTimeMs) {
+            throw new IllegalArgumentException("Min time should be non-negative and not greater than max time");
+        }
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Window should be positive");
+        }
+        if (refreshIntervalMs < 0) {
+            throw new IllegalArgumentException("Refresh interval should be non-negative");
+        }
+
+        this.defaultTimeMs = defaultTimeMs;
+        this.percentile = percentile;
+        this.minTimeMs = minTimeMs;
+        this.maxTimeMs = maxTimeMs;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.minSamples = minSamples;
+        this.clock = Objects.requireNonNull(clock);
+
+        histogram = new Histogram(new SlidingTimeWindowArrayReservoir(windowMs, TimeUnit.MILLISECONDS));
+        estimation = defaultTimeMs;
+        estimationTime = clock.millis();
+
+        metrics.createCacheExpectedRequestTimeGauge(this::expectedRequestTime);
+    }
+
+    /**
+     * Records response time of cache request, for failed one it is the time request has taken until it failed.
+     */
+    public void recordResponseTime(long millis) {
+        histogram.update(millis);
+    }
+
+    /**
+     * Returns time (in milliseconds) the next cache request is expected to take.
+     */
+    public long expectedRequestTime() {
+        final long now = clock.millis();
+        // concurrent refresh is harmless here, the latest computed estimation wins
+        if (now - estimationTime >= refreshIntervalMs) {
+            estimation = estimate();
+            estimationTime = now;
+        }
+        return estimation;
+    }
+
+    private long estimate() {
+        final Snapshot snapshot = histogram.getSnapshot();
+        if (snapshot.size() < minSamples) {
+            return defaultTimeMs;
+        }
+
+        return Math.min(Math.max(Math.round(snapshot.getValue(percentile)), minTimeMs), maxTimeMs);
+    }
+}
@@ -10,6 +10,7 @@ import io.vertx.core.logging.LoggerFactory;
 import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.auction.StageBudgetAllocator;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.cache.model.CacheBid;
 import org.prebid.server.cache.model.CacheContext;
@@ -31,6 +32,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.response.Bid;
 import org.prebid.server.proto.response.MediaType;
@@ -72,6 +74,9 @@ public class CacheService {
     private final String cachedAssetUrlTemplate;
     private final EventsService eventsService;
     private final Metrics metrics;
+    private final AggregatedErrorLogger errorLogger;
+    private final StageBudgetAllocator stageBudgetAllocator;
+    private final CacheRequestTimeEstimator requestTimeEstimator;
     private final Clock clock;
     private final JacksonMapper mapper;
 
@@ -81,6 +86,9 @@ public class CacheService {
                         String cachedAssetUrlTemplate,
                         EventsService eventsService,
                         Metrics metrics,
+                        AggregatedErrorLogger errorLogger,
+                        StageBudgetAllocator stageBudgetAllocator,
+                        CacheRequestTimeEstimator requestTimeEstimator,
                         Clock clock,
                         JacksonMapper mapper) {
 
@@ -90,6 +98,9 @@ public class CacheService {
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.eventsService = Objects.requireNonNull(eventsService);
         this.metrics = Objects.requireNonNull(metrics);
+        this.errorLogger = Objects.requireNonNull(errorLogger);
+        this.stageBudgetAllocator = Objects.requireNonNull(stageBudgetAllocator);
+        this.requestTimeEstimator = requestTimeEstimator;
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -163,21 +174,44 @@ public class CacheService {
                 remainingTimeout)
                 .map(response -> toBidCacheResponse(
                         response.getStatusCode(), response.getBody(), bidCount, accountId, startTime))
-                .recover(exception -> failResponse(exception, accountId, startTime));
+                .recover(exception -> failResponse(exception, accountId, startTime, remainingTimeout));
     }
 
     /**
      * Handles errors occurred while HTTP request or response processing.
      */
-    private Future<BidCacheResponse> failResponse(Throwable exception, String accountId, long startTime) {
+    private Future<BidCacheResponse> failResponse(Throwable exception, String accountId, long startTime,
+                                                  long timeoutMs) {
         metrics.updateCacheRequestFailedTime(accountId, clock.millis() - startTime);
+        recordFailedRequestTime(exception, startTime, timeoutMs);
 
-        logger.warn("Error occurred while interacting with cache service: {0}", exception.getMessage());
-        logger.debug("Error occurred while interacting with cache service", exception);
+        logError(exception);
 
         return Future.failedFuture(exception);
     }
 
+    /**
+     * Records time of failed request in {@link CacheRequestTimeEstimator} (if any), so slow cache raises estimation
+     * even if its requests rarely succeed. Request that timed out would have taken at least the time it was given.
+     */
+    private void recordFailedRequestTime(Throwable exception, long startTime, long timeoutMs) {
+        if (requestTimeEstimator != null) {
+            final long responseTime = clock.millis() - startTime;
+            requestTimeEstimator.recordResponseTime(exception instanceof TimeoutException
+                    ? Math.max(responseTime, timeoutMs)
+                    : responseTime);
+        }
+    }
+
+    /**
+     * Reports error to {@link AggregatedErrorLogger}, so errors are logged in summary instead of one by one.
+     */
+    private void logError(Throwable exception) {
+        errorLogger.log("cache", exception.getClass().getSimpleName(), null,
+                String.format("Error occurred while interacting with cache service: %s", exception.getMessage()));
+        logger.debug("Error occurred while interacting with cache service", exception);
+    }
+
     /**
      * Makes cache for Vtrack puts.
      * <p>
@@ -270,13 +304,18 @@ public class CacheService {
         final List<CacheBid> videoCacheBids = getVideoCacheBids(shouldCacheVideoBids, bids,
                 impIdToTtl, videoImpIds, impWithNoExpExists, cacheContext.getCacheVideoBidsTtl(), account);
 
-        return doCacheOpenrtb(
-                cacheBids,
-                videoCacheBids,
-                auctionContext,
-                cacheContext.getBidderToVideoBidIdsToModify(),
-                cacheContext.getBidderToBidIds(),
-                eventsContext);
+        return stageBudgetAllocator.runWithinBudget(
+                StageBudgetAllocator.Stage.cache,
+                auctionContext.getTimeout(),
+                auctionContext.getBidRequest().getTmax(),
+                timeout -> doCacheOpenrtb(
+                        cacheBids,
+                        videoCacheBids,
+                        auctionContext,
+                        timeout,
+                        cacheContext.getBidderToVideoBidIdsToModify(),
+                        cacheContext.getBidderToBidIds(),
+                        eventsContext));
     }
 
     /**
@@ -352,6 +391,7 @@ public class CacheService {
     private Future<CacheServiceResult> doCacheOpenrtb(List<CacheBid> bids,
                                                       List<CacheBid> videoBids,
                                                       AuctionContext auctionContext,
+                                                      Timeout timeout,
                                                       Map<String, List<String>> bidderToVideoBidIdsToModify,
                                                       Map<String, List<String>> biddersToCacheBidIds,
                                                       EventsContext eventsContext) {
@@ -369,7 +409,7 @@ public class CacheService {
             return Future.succeededFuture(CacheServiceResult.empty());
         }
 
-        final long remainingTimeout = auctionContext.getTimeout().remaining();
+        final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return Future.succeededFuture(CacheServiceResult.of(null, new TimeoutException("Timeout has been exceeded"),
                     Collections.emptyMap()));
@@ -387,7 +427,7 @@ public class CacheService {
         return httpClient.post(url, HttpUtil.headers(), body, remainingTimeout)
                 .map(response -> processResponseOpenrtb(
                         response, httpRequest, cachedCreatives.size(), bids, videoBids, account.getId(), startTime))
-                .otherwise(exception -> failResponseOpenrtb(exception, httpRequest, startTime));
+                .otherwise(exception -> failResponseOpenrtb(exception, httpRequest, startTime, remainingTimeout));
     }
 
     /**
@@ -409,6 +449,7 @@ public class CacheService {
             bidCacheResponse = toBidCacheResponse(
                     responseStatusCode, response.getBody(), bidCount, accountId, startTime);
         } catch (PreBidException e) {
+            recordFailedRequestTime(e, startTime, 0L);
             return CacheServiceResult.of(httpCall, e, Collections.emptyMap());
         }
 
@@ -419,9 +460,10 @@ public class CacheService {
     /**
      * Handles errors occurred while HTTP request or response processing.
      */
-    private CacheServiceResult failResponseOpenrtb(Throwable exception, CacheHttpRequest request, long startTime) {
-        logger.warn("Error occurred while interacting with cache service: {0}", exception.getMessage());
-        logger.debug("Error occurred while interacting with cache service", exception);
+    private CacheServiceResult failResponseOpenrtb(Throwable exception, CacheHttpRequest request, long startTime,
+                                                   long timeoutMs) {
+        recordFailedRequestTime(exception, startTime, timeoutMs);
+        logError(exception);
 
         final DebugHttpCall httpCall = makeDebugHttpCall(endpointUrl.toString(), request, null, startTime);
         return CacheServiceResult.of(httpCall, exception, Collections.emptyMap());
@@ -641,7 +683,11 @@ public class CacheService {
             throw new PreBidException("The number of response cache objects doesn't match with bids");
         }
 
-        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+        final long responseTime = clock.millis() - startTime;
+        metrics.updateCacheRequestSuccessTime(accountId, responseTime);
+        if (requestTimeEstimator != null) {
+            requestTimeEstimator.recordResponseTime(responseTime);
+        }
         return bidCacheResponse;
     }
 
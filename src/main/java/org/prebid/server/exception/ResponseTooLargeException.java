@@ -0,0 +1,12 @@
+package org.prebid.server.exception;
+
+/**
+ * Thrown when HTTP response body exceeds the size limit configured for the client, the response is aborted
+ * as soon as the limit is crossed.
+ */
+public class ResponseTooLargeException extends RuntimeException {
+
+    public ResponseTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -29,10 +29,12 @@ public class CircuitBreakerSecuredGeoLocationService implements GeoLocationServi
 
     public CircuitBreakerSecuredGeoLocationService(Vertx vertx, GeoLocationService geoLocationService, Metrics metrics,
                                                    int openingThreshold, long openingIntervalMs,
-                                                   long closingIntervalMs, Clock clock) {
+                                                   long closingIntervalMs, boolean slidingWindowEnabled,
+                                                   Clock clock) {
 
-        breaker = new CircuitBreaker("geolocation-service-circuit-breaker", Objects.requireNonNull(vertx),
-                openingThreshold, openingIntervalMs, closingIntervalMs, Objects.requireNonNull(clock))
+        breaker = CircuitBreaker.create("geolocation-service-circuit-breaker", Objects.requireNonNull(vertx),
+                openingThreshold, openingIntervalMs, closingIntervalMs, slidingWindowEnabled,
+                Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
                 .closeHandler(ignored -> circuitClosed());
@@ -0,0 +1,41 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.util.HttpUtil;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Handles HTTP request for current state of bidder concurrency limits.
+ */
+public class BidderConcurrencyLimitsHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BidderConcurrencyLimitsHandler.class);
+
+    private final BidderConcurrencyLimiter concurrencyLimiter;
+    private final JacksonMapper mapper;
+
+    public BidderConcurrencyLimitsHandler(BidderConcurrencyLimiter concurrencyLimiter, JacksonMapper mapper) {
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        try {
+            context.response()
+                    .putHeader(HttpUtil.CONTENT_TYPE_HEADER, HttpUtil.APPLICATION_JSON_CONTENT_TYPE)
+                    .end(mapper.mapper().writeValueAsString(concurrencyLimiter.limits()));
+        } catch (IOException e) {
+            logger.error("Critical error when marshaling bidder concurrency limits response", e);
+            context.response().setStatusCode(HttpResponseStatus.INTERNAL_SERVER_ERROR.code()).end();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.prebid.server.handler.openrtb2;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.AdmissionController;
+import org.prebid.server.json.JacksonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Guards auction endpoint with {@link AdmissionController}: admitted request is passed to the next handler and holds
+ * its place among in-flight auctions until response is sent or connection is closed, shed request gets response with
+ * the configured status (e.g. 503 or 204 meaning no bids) right away.
+ * <p>
+ * Account is taken from {@code account} request parameter or, if missing, from app|site.publisher of the request body
+ * already buffered by {@link io.vertx.ext.web.handler.BodyHandler}. Body is looked through only if premium accounts
+ * are configured.
+ */
+public class AdmissionHandler implements Handler<RoutingContext> {
+
+    private static final String ACCOUNT_REQUEST_PARAM = "account";
+    private static final String SHED_RESPONSE_BODY = "Server is overloaded, please retry later";
+
+    // in priority order auction resolves account by, see AuctionRequestFactory
+    private static final List<String> ACCOUNT_PATHS = Arrays.asList(
+            "/app/publisher/ext/prebid/parentAccount",
+            "/app/publisher/id",
+            "/site/publisher/ext/prebid/parentAccount",
+            "/site/publisher/id");
+
+    private final AdmissionController admissionController;
+    private final String endpoint;
+    private final int shedStatus;
+    private final JacksonMapper mapper;
+
+    public AdmissionHandler(AdmissionController admissionController, String endpoint, int shedStatus,
+                            JacksonMapper mapper) {
+        this.admissionController = Objects.requireNonNull(admissionController);
+        this.endpoint = Objects.requireNonNull(endpoint);
+        this.shedStatus = shedStatus;
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final String accountId = accountIdFrom(routingContext);
+        final AdmissionController.Permit permit = admissionController.tryAdmit(endpoint, accountId);
+
+        if (permit == null) {
+            // no bid response (204) can't have a body
+            routingContext.response().setStatusCode(shedStatus)
+                    .end(shedStatus == HttpResponseStatus.NO_CONTENT.code() ? "" : SHED_RESPONSE_BODY);
+            return;
+        }
+
+        // response is not ended by auction handler if client has gone, so closing connection releases permit too
+        routingContext.addBodyEndHandler(ignored -> permit.release());
+        routingContext.response().closeHandler(ignored -> permit.release());
+        routingContext.next();
+    }
+
+    private String accountIdFrom(RoutingContext routingContext) {
+        final String accountId = routingContext.request().getParam(ACCOUNT_REQUEST_PARAM);
+        if (accountId != null || !admissionController.hasPremiumAccounts()) {
+            return accountId;
+        }
+
+        final Buffer body = routingContext.getBody();
+        return body != null && body.length() > 0 ? accountIdFromBody(body) : null;
+    }
+
+    /**
+     * Streams through the body looking for app|site.publisher.ext.prebid.parentAccount or app|site.publisher.id
+     * without binding the request, so all other fields are skipped. Account defined only by stored request is not
+     * known at this point.
+     * <p>
+     * Returns null if account is not found or body is malformed, in which case auction handler rejects it anyway.
+     */
+    private String accountIdFromBody(Buffer body) {
+        final Map<String, String> values = new HashMap<>();
+        try (JsonParser parser = mapper.mapper().getFactory()
+                .createParser((InputStream) new ByteBufInputStream(body.getByteBuf()))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            collectAccountValues(parser, "", values);
+        } catch (IOException e) {
+            return null;
+        }
+
+        return ACCOUNT_PATHS.stream()
+                .map(values::get)
+                .filter(StringUtils::isNotBlank)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Reads object the parser is positioned at, descending only into objects account paths go through.
+     */
+    private static void collectAccountValues(JsonParser parser, String path, Map<String, String> values)
+            throws IOException {
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldPath = path + '/' + parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT && isAccountPathPrefix(fieldPath)) {
+                collectAccountValues(parser, fieldPath, values);
+            } else if (token == JsonToken.VALUE_STRING && ACCOUNT_PATHS.contains(fieldPath)) {
+                values.put(fieldPath, parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static boolean isAccountPathPrefix(String path) {
+        return ACCOUNT_PATHS.stream().anyMatch(accountPath -> accountPath.startsWith(path + '/'));
+    }
+}
@@ -0,0 +1,53 @@
+package org.prebid.server.health;
+
+import io.vertx.core.Vertx;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+import org.prebid.server.vertx.EventLoopLagProbe;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * Reports instance as down while any of its event loops lags more than allowed, so load balancer can drain it.
+ */
+public class EventLoopLagHealthChecker extends PeriodicHealthChecker {
+
+    private static final String NAME = "eventloops";
+
+    private final EventLoopLagProbe eventLoopLagProbe;
+    private final long maxLagMs;
+    private final Clock clock;
+
+    private StatusResponse status;
+
+    public EventLoopLagHealthChecker(Vertx vertx,
+                                     long refreshPeriod,
+                                     EventLoopLagProbe eventLoopLagProbe,
+                                     long maxLagMs,
+                                     Clock clock) {
+
+        super(vertx, refreshPeriod);
+        this.eventLoopLagProbe = Objects.requireNonNull(eventLoopLagProbe);
+        this.maxLagMs = maxLagMs;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    void updateStatus() {
+        status = StatusResponse.of(
+                eventLoopLagProbe.maxLag() <= maxLagMs ? Status.UP.name() : Status.DOWN.name(),
+                ZonedDateTime.now(clock));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        return status;
+    }
+}
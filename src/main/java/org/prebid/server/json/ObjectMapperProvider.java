@@ -7,6 +7,12 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
 import io.vertx.core.json.jackson.DatabindCodec;
 
 public final class ObjectMapperProvider {
@@ -22,7 +28,9 @@ public final class ObjectMapperProvider {
                 .setSerializationInclusion(JsonInclude.Include.NON_NULL)
                 .registerModule(new AfterburnerModule())
                 .registerModule(new ZonedDateTimeModule())
-                .registerModule(new MissingJsonNodeModule());
+                .registerModule(new MissingJsonNodeModule())
+                .registerModule(new SharedFragmentModule(
+                        Site.class, App.class, Device.class, User.class, Source.class, Regs.class));
     }
 
     private ObjectMapperProvider() {
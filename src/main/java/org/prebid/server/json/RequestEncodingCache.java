@@ -0,0 +1,68 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of JSON fragments of objects shared by requests encoded within one scope (e.g. requests to all bidders
+ * of the auction), keyed by object identity.
+ * <p>
+ * Cache is bound to the current thread from {@link #open()} till {@link #close()}, so it is only consulted by encoding
+ * done synchronously in between. Object is encoded into a fragment when it is seen for the second time, so objects
+ * which are not shared are written as usual. Objects must not be modified while the cache is open.
+ *
+ * @see SharedFragmentModule
+ */
+public class RequestEncodingCache implements AutoCloseable {
+
+    private static final ThreadLocal<RequestEncodingCache> CURRENT = new ThreadLocal<>();
+
+    private final RequestEncodingCache previous;
+    private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Object, SerializableString> fragments = new IdentityHashMap<>();
+
+    private RequestEncodingCache(RequestEncodingCache previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens new cache on the current thread, it should be closed on the same thread.
+     */
+    public static RequestEncodingCache open() {
+        final RequestEncodingCache cache = new RequestEncodingCache(CURRENT.get());
+        CURRENT.set(cache);
+        return cache;
+    }
+
+    static RequestEncodingCache current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns true if the given object has not been seen before, i.e. it is not worth caching yet.
+     */
+    boolean markSeen(Object value) {
+        return seen.add(value);
+    }
+
+    SerializableString fragment(Object value) {
+        return fragments.get(value);
+    }
+
+    void putFragment(Object value, SerializableString fragment) {
+        fragments.put(value, fragment);
+    }
+
+    @Override
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes objects of the given types as JSON fragments taken from {@link RequestEncodingCache} if one is open,
+ * so objects shared by several requests are encoded once.
+ */
+@SuppressWarnings("serial")
+class SharedFragmentModule extends SimpleModule {
+
+    private final Set<Class<?>> types;
+
+    SharedFragmentModule(Class<?>... types) {
+        this.types = new HashSet<>(Arrays.asList(types));
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        final JsonFactory jsonFactory = ((ObjectMapper) context.getOwner()).getFactory();
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return types.contains(beanDesc.getBeanClass())
+                        ? new SharedFragmentSerializer((JsonSerializer<Object>) serializer, jsonFactory)
+                        : serializer;
+            }
+        });
+    }
+
+    private static class SharedFragmentSerializer extends JsonSerializer<Object>
+            implements ResolvableSerializer, ContextualSerializer {
+
+        private final JsonSerializer<Object> delegate;
+        private final JsonFactory jsonFactory;
+
+        SharedFragmentSerializer(JsonSerializer<Object> delegate, JsonFactory jsonFactory) {
+            this.delegate = delegate;
+            this.jsonFactory = jsonFactory;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            final RequestEncodingCache cache = RequestEncodingCache.current();
+            if (cache == null) {
+                delegate.serialize(value, gen, provider);
+                return;
+            }
+
+            SerializableString fragment = cache.fragment(value);
+            if (fragment == null) {
+                if (cache.markSeen(value)) {
+                    delegate.serialize(value, gen, provider);
+                    return;
+                }
+
+                fragment = encode(value, provider);
+                cache.putFragment(value, fragment);
+            }
+            gen.writeRawValue(fragment);
+        }
+
+        private SerializableString encode(Object value, SerializerProvider provider) throws IOException {
+            final SegmentedStringWriter writer = new SegmentedStringWriter(new BufferRecycler());
+            try (JsonGenerator fragmentGenerator = jsonFactory.createGenerator(writer)) {
+                provider.getConfig().initialize(fragmentGenerator);
+                delegate.serialize(value, fragmentGenerator, provider);
+            }
+            return new SerializedString(writer.getAndClear());
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSer) throws IOException {
+            delegate.serializeWithType(value, gen, provider, typeSer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public boolean usesObjectId() {
+            return delegate.usesObjectId();
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) delegate).resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            if (delegate instanceof ContextualSerializer) {
+                final JsonSerializer<?> contextual = ((ContextualSerializer) delegate)
+                        .createContextual(provider, property);
+                return contextual != delegate
+                        ? new SharedFragmentSerializer((JsonSerializer<Object>) contextual, jsonFactory)
+                        : this;
+            }
+            return this;
+        }
+    }
+}
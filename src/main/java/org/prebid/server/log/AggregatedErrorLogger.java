@@ -0,0 +1,127 @@
+package org.prebid.server.log;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.vertx.Initializable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates errors occurring at high rate (e.g. during partner outage) and logs one summary line per window
+ * instead of a line per error.
+ * <p>
+ * Errors are counted per source (e.g. bidder name), error type and HTTP status code, if any. A few first distinct
+ * messages of each group are kept as exemplars, their number is capped by configuration.
+ * <p>
+ * Group is updated and removed by atomic map operations, so error counted concurrently with flush is either
+ * logged in the current summary or counted in a fresh group for the next one.
+ */
+public class AggregatedErrorLogger implements Initializable {
+
+    private final Logger logger;
+    private final Vertx vertx;
+    private final long windowMs;
+    private final int maxExemplars;
+
+    private final Map<ErrorKey, ErrorGroup> groups = new ConcurrentHashMap<>();
+
+    public AggregatedErrorLogger(Logger logger, Vertx vertx, long windowMs, int maxExemplars) {
+        if (windowMs < 1) {
+            throw new IllegalArgumentException("Window should be positive");
+        }
+        if (maxExemplars < 0) {
+            throw new IllegalArgumentException("Max exemplars should not be negative");
+        }
+
+        this.logger = Objects.requireNonNull(logger);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.windowMs = windowMs;
+        this.maxExemplars = maxExemplars;
+    }
+
+    /**
+     * Sets timer for periodic flush of aggregated errors.
+     * <p>
+     * Must be called on Vertx event loop thread.
+     */
+    @Override
+    public void initialize() {
+        vertx.setPeriodic(windowMs, ignored -> flush());
+    }
+
+    /**
+     * Counts error of the given source and type, status code can be null if not applicable.
+     */
+    public void log(String source, String errorType, Integer statusCode, String message) {
+        groups.compute(ErrorKey.of(source, errorType, statusCode),
+                (ignored, group) -> (group != null ? group : new ErrorGroup()).add(message, maxExemplars));
+    }
+
+    private void flush() {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        final StringBuilder summary = new StringBuilder()
+                .append("Errors occurred within last ").append(windowMs).append("ms:");
+
+        for (ErrorKey key : groups.keySet()) {
+            groups.computeIfPresent(key, (ignored, group) -> {
+                appendGroup(summary, key, group);
+                return null;
+            });
+        }
+
+        logger.warn(summary.toString());
+    }
+
+    private static void appendGroup(StringBuilder summary, ErrorKey key, ErrorGroup group) {
+        summary.append(" [").append(key.getSource()).append(", ").append(key.getErrorType());
+        if (key.getStatusCode() != null) {
+            summary.append(", status ").append(key.getStatusCode());
+        }
+        summary.append("] x ").append(group.count);
+
+        if (!group.exemplars.isEmpty()) {
+            summary.append(", e.g.");
+            for (String exemplar : group.exemplars) {
+                summary.append(" \"").append(exemplar).append('"');
+            }
+        }
+        summary.append(';');
+    }
+
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    private static class ErrorKey {
+
+        String source;
+
+        String errorType;
+
+        Integer statusCode;
+    }
+
+    /**
+     * Counters of the group, accessed only within atomic operations on the map holding it.
+     */
+    private static class ErrorGroup {
+
+        final List<String> exemplars = new ArrayList<>();
+        long count;
+
+        ErrorGroup add(String message, int maxExemplars) {
+            count++;
+            if (exemplars.size() < maxExemplars && !exemplars.contains(message)) {
+                exemplars.add(message);
+            }
+            return this;
+        }
+    }
+}
@@ -17,6 +17,7 @@ class AdapterMetrics extends UpdatableMetrics {
     private final RequestMetrics requestMetrics;
     private final Function<String, BidTypeMetrics> bidTypeMetricsCreator;
     private final Map<String, BidTypeMetrics> bidTypeMetrics;
+    private final TimeoutNotificationMetrics timeoutNotificationMetrics;
 
     AdapterMetrics(MetricRegistry metricRegistry, CounterType counterType, String adapterType) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
@@ -29,6 +30,8 @@ class AdapterMetrics extends UpdatableMetrics {
         requestTypeMetrics = new HashMap<>();
         requestMetrics = new RequestMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
         bidTypeMetrics = new HashMap<>();
+        timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType,
+                createAdapterPrefix(adapterType));
     }
 
     AdapterMetrics(MetricRegistry metricRegistry, CounterType counterType, String account, String adapterType) {
@@ -44,6 +47,7 @@ class AdapterMetrics extends UpdatableMetrics {
         requestTypeMetrics = null;
         bidTypeMetricsCreator = null;
         bidTypeMetrics = null;
+        timeoutNotificationMetrics = null;
     }
 
     private static String createAdapterPrefix(String adapterType) {
@@ -69,4 +73,8 @@ class AdapterMetrics extends UpdatableMetrics {
     BidTypeMetrics forBidType(String bidType) {
         return bidTypeMetrics.computeIfAbsent(bidType, bidTypeMetricsCreator);
     }
+
+    TimeoutNotificationMetrics timeoutNotification() {
+        return timeoutNotificationMetrics;
+    }
 }
@@ -0,0 +1,34 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction admission control metrics support.
+ */
+class AdmissionMetrics extends UpdatableMetrics {
+
+    AdmissionMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(createPrefix()));
+    }
+
+    AdmissionMetrics(MetricRegistry metricRegistry, CounterType counterType, String priority) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(String.format("%s.%s", createPrefix(), Objects.requireNonNull(priority))));
+    }
+
+    private static String createPrefix() {
+        return "admission";
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> String.format("%s.%s", prefix, metricName.toString());
+    }
+}
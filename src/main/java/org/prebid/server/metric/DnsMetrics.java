@@ -0,0 +1,23 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * DNS resolution metrics support.
+ */
+class DnsMetrics extends UpdatableMetrics {
+
+    DnsMetrics(MetricRegistry metricRegistry, CounterType counterType, String host) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(host)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String host) {
+        return metricName -> String.format("dns.%s.%s", host, metricName.toString());
+    }
+}
@@ -0,0 +1,23 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Vert.x event loop metrics support.
+ */
+class EventLoopMetrics extends UpdatableMetrics {
+
+    EventLoopMetrics(MetricRegistry metricRegistry, CounterType counterType, String eventLoop) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(eventLoop)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String eventLoop) {
+        return metricName -> String.format("event_loops.%s.%s", eventLoop, metricName.toString());
+    }
+}
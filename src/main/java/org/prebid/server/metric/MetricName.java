@@ -12,6 +12,11 @@ public enum MetricName {
     // http client
     httpclient_circuitbreaker_opened,
     httpclient_circuitbreaker_closed,
+    httpclient_circuitbreakers,
+
+    // dns
+    resolve_time,
+    resolve_failed,
 
     // geo location
     geolocation_requests,
@@ -36,6 +41,34 @@ public enum MetricName {
     bids_received,
     adm_bids_received,
     nurl_bids_received,
+    active_connections,
+    pool_wait_time,
+    timeout_budget,
+    late_responses,
+    hedged_requests,
+    hedge_wins,
+    request_compression_time_us,
+    request_compression_saved_bytes,
+    early_closed_auctions,
+    first_dispatch_time,
+
+    // auction stages
+    overruns,
+
+    // admission control
+    admitted,
+    shed,
+    queue_delay,
+
+    // event loops
+    lag,
+
+    // timeout notifications
+    sent,
+    merged,
+    sampled_out,
+    rate_limited,
+    dropped,
 
     // request types,
     openrtb2web("openrtb2-web"),
@@ -54,6 +87,8 @@ public enum MetricName {
     badserverresponse,
     failedtorequestbids,
     timeout,
+    concurrency_limited,
+    response_too_large,
     unknown_error,
     err,
     networkerr,
@@ -95,6 +130,7 @@ public enum MetricName {
 
     // cache
     creative_size,
+    expected_request_time,
 
     //account.*.requests.
     rejected;
@@ -12,7 +12,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +31,10 @@ public class Metrics extends UpdatableMetrics {
     private final Function<String, AccountMetrics> accountMetricsCreator;
     private final Function<String, AdapterMetrics> adapterMetricsCreator;
     private final Function<String, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
+    private final Function<String, DnsMetrics> dnsMetricsCreator;
+    private final Function<String, StageMetrics> stageMetricsCreator;
+    private final Function<String, AdmissionMetrics> admissionMetricsCreator;
+    private final Function<String, EventLoopMetrics> eventLoopMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -40,6 +46,11 @@ public class Metrics extends UpdatableMetrics {
     private final PrivacyMetrics privacyMetrics;
     private final Map<String, CircuitBreakerMetrics> circuitBreakerMetrics;
     private final CacheMetrics cacheMetrics;
+    private final Map<String, DnsMetrics> dnsMetrics;
+    private final Map<String, StageMetrics> stageMetrics;
+    private final AdmissionMetrics admissionMetrics;
+    private final Map<String, AdmissionMetrics> priorityAdmissionMetrics;
+    private final Map<String, EventLoopMetrics> eventLoopMetrics;
 
     public Metrics(MetricRegistry metricRegistry, CounterType counterType, AccountMetricsVerbosity
             accountMetricsVerbosity, BidderCatalog bidderCatalog) {
@@ -52,6 +63,10 @@ public class Metrics extends UpdatableMetrics {
         accountMetricsCreator = account -> new AccountMetrics(metricRegistry, counterType, account);
         adapterMetricsCreator = adapterType -> new AdapterMetrics(metricRegistry, counterType, adapterType);
         circuitBreakerMetricsCreator = id -> new CircuitBreakerMetrics(metricRegistry, counterType, id);
+        dnsMetricsCreator = host -> new DnsMetrics(metricRegistry, counterType, host);
+        stageMetricsCreator = stage -> new StageMetrics(metricRegistry, counterType, stage);
+        admissionMetricsCreator = priority -> new AdmissionMetrics(metricRegistry, counterType, priority);
+        eventLoopMetricsCreator = eventLoop -> new EventLoopMetrics(metricRegistry, counterType, eventLoop);
         requestMetrics = new EnumMap<>(MetricName.class);
         accountMetrics = new HashMap<>();
         adapterMetrics = new HashMap<>();
@@ -60,6 +75,11 @@ public class Metrics extends UpdatableMetrics {
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
         circuitBreakerMetrics = new HashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
+        dnsMetrics = new HashMap<>();
+        stageMetrics = new HashMap<>();
+        admissionMetrics = new AdmissionMetrics(metricRegistry, counterType);
+        priorityAdmissionMetrics = new HashMap<>();
+        eventLoopMetrics = new ConcurrentHashMap<>();
     }
 
     RequestStatusMetrics forRequestType(MetricName requestType) {
@@ -94,6 +114,26 @@ public class Metrics extends UpdatableMetrics {
         return cacheMetrics;
     }
 
+    DnsMetrics forDnsHost(String host) {
+        return dnsMetrics.computeIfAbsent(host, dnsMetricsCreator);
+    }
+
+    StageMetrics forStage(String stage) {
+        return stageMetrics.computeIfAbsent(stage, stageMetricsCreator);
+    }
+
+    AdmissionMetrics admission() {
+        return admissionMetrics;
+    }
+
+    AdmissionMetrics forAdmissionPriority(String priority) {
+        return priorityAdmissionMetrics.computeIfAbsent(priority, admissionMetricsCreator);
+    }
+
+    EventLoopMetrics forEventLoop(String eventLoop) {
+        return eventLoopMetrics.computeIfAbsent(eventLoop, eventLoopMetricsCreator);
+    }
+
     public void updateSafariRequestsMetric(boolean isSafari) {
         if (isSafari) {
             incCounter(MetricName.safari_requests);
@@ -245,6 +285,65 @@ public class Metrics extends UpdatableMetrics {
         forAdapter(resolveMetricsBidderName(bidder)).request().incCounter(errorMetric);
     }
 
+    public void updateAdapterConnectionMetric(String bidder, boolean connected) {
+        forAdapter(resolveMetricsBidderName(bidder)).updateActiveCounter(MetricName.active_connections,
+                connected ? 1 : -1);
+    }
+
+    public void updateAdapterPoolWaitTime(String bidder, long millis) {
+        forAdapter(resolveMetricsBidderName(bidder)).updateTimer(MetricName.pool_wait_time, millis);
+    }
+
+    public void updateAdapterTimeoutBudgetMetric(String bidder, long millis) {
+        forAdapter(resolveMetricsBidderName(bidder)).updateHistogram(MetricName.timeout_budget, millis);
+    }
+
+    public void updateAdapterLateResponseMetric(String bidder) {
+        forAdapter(resolveMetricsBidderName(bidder)).incCounter(MetricName.late_responses);
+    }
+
+    public void updateAdapterHedgedRequestMetric(String bidder) {
+        forAdapter(resolveMetricsBidderName(bidder)).incCounter(MetricName.hedged_requests);
+    }
+
+    public void updateAdapterHedgeWinMetric(String bidder) {
+        forAdapter(resolveMetricsBidderName(bidder)).incCounter(MetricName.hedge_wins);
+    }
+
+    public void updateAdapterRequestCompressionMetrics(String bidder, long micros, long savedBytes) {
+        final AdapterMetrics adapterMetrics = forAdapter(resolveMetricsBidderName(bidder));
+        adapterMetrics.updateHistogram(MetricName.request_compression_time_us, micros);
+        adapterMetrics.incCounter(MetricName.request_compression_saved_bytes, savedBytes);
+    }
+
+    public void updateAdapterTimeoutNotificationMetric(String bidder, MetricName status) {
+        forAdapter(resolveMetricsBidderName(bidder)).timeoutNotification().incCounter(status);
+    }
+
+    public void updateAuctionEarlyClosedMetric() {
+        incCounter(MetricName.early_closed_auctions);
+    }
+
+    public void updateAuctionFirstDispatchTimeMetric(long millis) {
+        updateTimer(MetricName.first_dispatch_time, millis);
+    }
+
+    public void updateAuctionStageOverrunMetric(String stage) {
+        forStage(stage).incCounter(MetricName.overruns);
+    }
+
+    public void updateAdmissionMetric(String priority, MetricName result) {
+        forAdmissionPriority(priority).incCounter(result);
+    }
+
+    public void updateAdmissionQueueDelayMetric(long millis) {
+        admission().updateHistogram(MetricName.queue_delay, millis);
+    }
+
+    public void updateEventLoopLagMetric(String eventLoop, long millis) {
+        forEventLoop(eventLoop).updateHistogram(MetricName.lag, millis);
+    }
+
     public void updateUserSyncOptoutMetric() {
         userSync().incCounter(MetricName.opt_outs);
     }
@@ -381,6 +480,18 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateHttpClientCircuitBreakersMetric(boolean created) {
+        updateActiveCounter(MetricName.httpclient_circuitbreakers, created ? 1 : -1);
+    }
+
+    public void updateDnsResolveTimeMetric(String host, long millis) {
+        forDnsHost(host).updateTimer(MetricName.resolve_time, millis);
+    }
+
+    public void updateDnsResolveFailedMetric(String host) {
+        forDnsHost(host).incCounter(MetricName.resolve_failed);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -429,6 +540,10 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().updateHistogram(MetricName.creative_size, creativeSize);
     }
 
+    public void createCacheExpectedRequestTimeGauge(LongSupplier expectedRequestTimeSupplier) {
+        cache().createGauge(MetricName.expected_request_time, expectedRequestTimeSupplier);
+    }
+
     private String resolveMetricsBidderName(String bidder) {
         return bidderCatalog.isValidName(bidder) ? bidder : METRICS_UNKNOWN_BIDDER;
     }
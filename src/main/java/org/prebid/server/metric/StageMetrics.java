@@ -0,0 +1,23 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Auction stage metrics support.
+ */
+class StageMetrics extends UpdatableMetrics {
+
+    StageMetrics(MetricRegistry metricRegistry, CounterType counterType, String stage) {
+        super(
+                Objects.requireNonNull(metricRegistry),
+                Objects.requireNonNull(counterType),
+                nameCreator(Objects.requireNonNull(stage)));
+    }
+
+    private static Function<MetricName, String> nameCreator(String stage) {
+        return metricName -> String.format("stages.%s.%s", stage, metricName.toString());
+    }
+}
@@ -6,6 +6,7 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
@@ -53,6 +54,15 @@ class UpdatableMetrics {
         incrementer.accept(metricRegistry, name(metricName), value);
     }
 
+    /**
+     * Changes metric's counter tracking amount of currently active things (e.g. connections) on a given value.
+     * <p>
+     * Such counter is never reset, so plain counter is used regardless of configured counter type.
+     */
+    void updateActiveCounter(MetricName metricName, long delta) {
+        metricRegistry.counter(name(metricName)).inc(delta);
+    }
+
     /**
      * Updates metric's timer with a given value.
      */
@@ -68,6 +78,14 @@ class UpdatableMetrics {
         metricRegistry.histogram(name(metricName)).update(value);
     }
 
+    /**
+     * Registers metric's gauge reporting value of the given supplier, gauge registered earlier under the same name is
+     * kept.
+     */
+    void createGauge(MetricName metricName, LongSupplier valueSupplier) {
+        metricRegistry.gauge(name(metricName), () -> valueSupplier::getAsLong);
+    }
+
     private String name(MetricName metricName) {
         return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
     }
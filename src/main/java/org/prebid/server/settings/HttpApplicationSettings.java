@@ -3,13 +3,12 @@ package org.prebid.server.settings;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.vertx.core.Future;
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredDataType;
@@ -60,18 +59,19 @@ import java.util.stream.Collectors;
 public class HttpApplicationSettings implements ApplicationSettings {
 
     private static final String NOT_SUPPORTED = "Not supported";
-    private static final Logger logger = LoggerFactory.getLogger(HttpApplicationSettings.class);
 
     private String endpoint;
     private String ampEndpoint;
     private String videoEndpoint;
     private HttpClient httpClient;
     private final JacksonMapper mapper;
+    private final AggregatedErrorLogger errorLogger;
 
     public HttpApplicationSettings(HttpClient httpClient, JacksonMapper mapper, String endpoint, String ampEndpoint,
-                                   String videoEndpoint) {
+                                   String videoEndpoint, AggregatedErrorLogger errorLogger) {
         this.httpClient = Objects.requireNonNull(httpClient);
         this.mapper = Objects.requireNonNull(mapper);
+        this.errorLogger = Objects.requireNonNull(errorLogger);
         this.endpoint = HttpUtil.validateUrl(Objects.requireNonNull(endpoint));
         this.ampEndpoint = HttpUtil.validateUrl(Objects.requireNonNull(ampEndpoint));
         this.videoEndpoint = HttpUtil.validateUrl(Objects.requireNonNull(videoEndpoint));
@@ -166,10 +166,10 @@ public class HttpApplicationSettings implements ApplicationSettings {
         return String.join("\",\"", ids);
     }
 
-    private static Future<StoredDataResult> failResponse(Throwable throwable, Set<String> requestIds,
-                                                         Set<String> impIds) {
+    private Future<StoredDataResult> failResponse(Throwable throwable, Set<String> requestIds,
+                                                  Set<String> impIds) {
         return Future.succeededFuture(
-                toFailedStoredDataResult(requestIds, impIds, throwable.getMessage()));
+                toFailedStoredDataResult(requestIds, impIds, null, throwable.getMessage()));
     }
 
     private Future<StoredDataResult> processResponse(HttpClientResponse response, Set<String> requestIds,
@@ -178,8 +178,9 @@ public class HttpApplicationSettings implements ApplicationSettings {
                 toStoredDataResult(requestIds, impIds, response.getStatusCode(), response.getBody()));
     }
 
-    private static StoredDataResult toFailedStoredDataResult(Set<String> requestIds, Set<String> impIds,
-                                                             String errorMessageFormat, Object... args) {
+    private StoredDataResult toFailedStoredDataResult(Set<String> requestIds, Set<String> impIds,
+                                                      Integer statusCode, String errorMessageFormat,
+                                                      Object... args) {
         final String errorRequests = requestIds.isEmpty() ? ""
                 : String.format("stored requests for ids %s", requestIds);
         final String separator = requestIds.isEmpty() || impIds.isEmpty() ? "" : " and ";
@@ -188,22 +189,22 @@ public class HttpApplicationSettings implements ApplicationSettings {
         final String error = String.format("Error fetching %s%s%s via HTTP: %s", errorRequests, separator, errorImps,
                 String.format(errorMessageFormat, args));
 
-        logger.info(error);
+        errorLogger.log("settings", "stored_data", statusCode, error);
         return StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.singletonList(error));
     }
 
     private StoredDataResult toStoredDataResult(Set<String> requestIds, Set<String> impIds,
                                                 int statusCode, String body) {
         if (statusCode != 200) {
-            return toFailedStoredDataResult(requestIds, impIds, "HTTP status code %d", statusCode);
+            return toFailedStoredDataResult(requestIds, impIds, statusCode, "HTTP status code %d", statusCode);
         }
 
         final HttpFetcherResponse response;
         try {
             response = mapper.decodeValue(body, HttpFetcherResponse.class);
         } catch (DecodeException e) {
-            return toFailedStoredDataResult(
-                    requestIds, impIds, "parsing json failed for response: %s with message: %s", body, e.getMessage());
+            return toFailedStoredDataResult(requestIds, impIds, statusCode,
+                    "parsing json failed for response: %s with message: %s", body, e.getMessage());
         }
 
         return parseResponse(requestIds, impIds, response);
@@ -3,8 +3,10 @@ package org.prebid.server.spring.config;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.handler.AccountCacheInvalidationHandler;
+import org.prebid.server.handler.BidderConcurrencyLimitsHandler;
 import org.prebid.server.handler.CurrencyRatesHandler;
 import org.prebid.server.handler.CustomizedAdminEndpoint;
 import org.prebid.server.handler.HttpInteractionLogHandler;
@@ -158,6 +160,25 @@ public class AdminEndpointsConfiguration {
                 .withCredentials(adminEndpointCredentials);
     }
 
+    @Bean
+    @ConditionalOnExpression("${http-client.concurrency-limit.enabled} == true"
+            + " and ${admin-endpoints.concurrency-limits.enabled} == true")
+    CustomizedAdminEndpoint bidderConcurrencyLimitsEndpoint(
+            BidderConcurrencyLimiter bidderConcurrencyLimiter,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.concurrency-limits.path}") String path,
+            @Value("${admin-endpoints.concurrency-limits.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.concurrency-limits.protected}") boolean isProtected,
+            @Autowired(required = false) Map<String, String> adminEndpointCredentials) {
+
+        return new CustomizedAdminEndpoint(
+                path,
+                new BidderConcurrencyLimitsHandler(bidderConcurrencyLimiter, mapper),
+                isOnApplicationPort,
+                isProtected)
+                .withCredentials(adminEndpointCredentials);
+    }
+
     @Bean
     Map<String, String> adminEndpointCredentials(
             @Autowired(required = false) AdminEndpointCredentials adminEndpointCredentials) {
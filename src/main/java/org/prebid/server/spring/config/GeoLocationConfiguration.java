@@ -59,7 +59,8 @@ public class GeoLocationConfiguration {
             return new CircuitBreakerSecuredGeoLocationService(vertx,
                     createGeoLocationService(fileSyncerProperties, vertx), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
-                    circuitBreakerProperties.getClosingIntervalMs(), clock);
+                    circuitBreakerProperties.getClosingIntervalMs(), circuitBreakerProperties.isSlidingWindowEnabled(),
+                    clock);
         }
 
         private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
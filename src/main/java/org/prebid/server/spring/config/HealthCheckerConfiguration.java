@@ -6,8 +6,10 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.geolocation.GeoLocationService;
 import org.prebid.server.health.ApplicationChecker;
 import org.prebid.server.health.DatabaseHealthChecker;
+import org.prebid.server.health.EventLoopLagHealthChecker;
 import org.prebid.server.health.GeoLocationHealthChecker;
 import org.prebid.server.health.HealthChecker;
+import org.prebid.server.vertx.EventLoopLagProbe;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -41,6 +43,18 @@ public class HealthCheckerConfiguration {
         return new GeoLocationHealthChecker(vertx, refreshPeriod, geoLocationService, timeoutFactory, clock);
     }
 
+    @Bean
+    @ConditionalOnExpression("${health-check.event-loop-lag.enabled} == true"
+            + " and ${metrics.event-loop-lag.enabled} == true")
+    HealthChecker eventLoopLagChecker(Vertx vertx,
+                                      @Value("${health-check.event-loop-lag.refresh-period-ms}") long refreshPeriod,
+                                      EventLoopLagProbe eventLoopLagProbe,
+                                      @Value("${health-check.event-loop-lag.max-lag-ms}") long maxLagMs,
+                                      Clock clock) {
+
+        return new EventLoopLagHealthChecker(vertx, refreshPeriod, eventLoopLagProbe, maxLagMs, clock);
+    }
+
     @Bean
     HealthChecker applicationChecker(@Value("${status-response}") String statusResponse) {
         return new ApplicationChecker(statusResponse);
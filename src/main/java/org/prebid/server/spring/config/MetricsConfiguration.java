@@ -13,6 +13,7 @@ import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.dropwizard.DropwizardExports;
 import io.prometheus.client.vertx.MetricsHandler;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -27,6 +28,7 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.vertx.CloseableAdapter;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.EventLoopLagProbe;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -40,6 +42,7 @@ import javax.annotation.PostConstruct;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -111,6 +114,23 @@ public class MetricsConfiguration {
         return new Metrics(metricRegistry, counterType, accountMetricsVerbosity, bidderCatalog);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "metrics.event-loop-lag", name = "enabled", havingValue = "true")
+    EventLoopLagProbe eventLoopLagProbe(@Value("${metrics.event-loop-lag.interval-ms}") long intervalMs,
+                                        ContextRunner contextRunner,
+                                        Metrics metrics,
+                                        Clock clock) {
+
+        final EventLoopLagProbe eventLoopLagProbe = new EventLoopLagProbe(intervalMs, vertx, metrics, clock);
+
+        // each new context is bound to the next event loop, so all of them get probed
+        contextRunner.runOnNewContext(VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE, promise -> {
+            eventLoopLagProbe.probeCurrentEventLoop();
+            promise.complete();
+        });
+        return eventLoopLagProbe;
+    }
+
     @Bean
     MetricRegistry metricRegistry() {
         return SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
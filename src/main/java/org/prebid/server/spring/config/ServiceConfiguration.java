@@ -4,13 +4,25 @@ import com.iab.openrtb.request.BidRequest;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixList;
 import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
+import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.auction.AdmissionController;
 import org.prebid.server.auction.AmpRequestFactory;
 import org.prebid.server.auction.AmpResponsePostProcessor;
+import org.prebid.server.auction.AuctionCompletionTrackerFactory;
 import org.prebid.server.auction.AuctionRequestFactory;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderLatencyTracker;
+import org.prebid.server.auction.BidderTimeoutAllocator;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.FpdResolver;
 import org.prebid.server.auction.ImplicitParametersExtractor;
@@ -19,17 +31,29 @@ import org.prebid.server.auction.IpAddressHelper;
 import org.prebid.server.auction.OrtbTypesResolver;
 import org.prebid.server.auction.PreBidRequestContextFactory;
 import org.prebid.server.auction.PrivacyEnforcementService;
+import org.prebid.server.auction.QuorumAuctionCompletionTrackerFactory;
+import org.prebid.server.auction.StageBudgetAllocator;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.StoredResponseProcessor;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.VideoRequestFactory;
 import org.prebid.server.auction.VideoResponseFactory;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
+import org.prebid.server.auction.model.StageBudget;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
 import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderHttpClientResolver;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.BidderRequestCompressor;
+import org.prebid.server.bidder.BidderRequestHedger;
 import org.prebid.server.bidder.HttpAdapterConnector;
 import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.MapBidderHttpClientResolver;
+import org.prebid.server.bidder.TimeoutNotificationDispatcher;
+import org.prebid.server.bidder.model.BidderHedgingConfig;
+import org.prebid.server.bidder.model.BidderHttpClientConfig;
+import org.prebid.server.cache.CacheRequestTimeEstimator;
 import org.prebid.server.cache.CacheService;
 import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cookie.UidsCookieService;
@@ -41,6 +65,7 @@ import org.prebid.server.identity.IdGeneratorType;
 import org.prebid.server.identity.NoneIdGenerator;
 import org.prebid.server.identity.UUIDIdGenerator;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
 import org.prebid.server.metric.Metrics;
@@ -48,38 +73,63 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
-import org.prebid.server.spring.config.model.CircuitBreakerProperties;
+import org.prebid.server.spring.config.model.ConcurrencyLimitProperties;
+import org.prebid.server.spring.config.model.DnsProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
+import org.prebid.server.spring.config.model.Http2Properties;
+import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.validation.RequestValidator;
 import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.VideoRequestValidator;
+import org.prebid.server.vertx.EventLoopLagProbe;
+import org.prebid.server.vertx.dns.CachingDnsResolver;
+import org.prebid.server.vertx.dns.DnsLookup;
+import org.prebid.server.vertx.dns.HostsFileDnsLookup;
+import org.prebid.server.vertx.dns.NettyDnsLookup;
 import org.prebid.server.vertx.http.BasicHttpClient;
+import org.prebid.server.vertx.http.CircuitBreakerGranularity;
 import org.prebid.server.vertx.http.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.HttpConnectionWarmer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 
 import javax.validation.constraints.Min;
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Configuration
 public class ServiceConfiguration {
 
+    private static final Logger logger = LoggerFactory.getLogger(ServiceConfiguration.class);
+
     @Bean
     CacheService cacheService(
             @Value("${cache.scheme}") String scheme,
@@ -90,21 +140,61 @@ public class ServiceConfiguration {
             @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
             EventsService eventsService,
             HttpClient httpClient,
+            @Autowired(required = false) @Qualifier("cacheHttpClient") HttpClient cacheHttpClient,
             Metrics metrics,
+            AggregatedErrorLogger aggregatedErrorLogger,
+            StageBudgetAllocator stageBudgetAllocator,
+            @Autowired(required = false) CacheRequestTimeEstimator cacheRequestTimeEstimator,
             Clock clock,
             JacksonMapper mapper) {
 
         return new CacheService(
                 CacheTtl.of(bannerCacheTtl, videoCacheTtl),
-                httpClient,
+                cacheHttpClient != null ? cacheHttpClient : httpClient,
                 CacheService.getCacheEndpointUrl(scheme, host, path),
                 CacheService.getCachedAssetUrlTemplate(scheme, host, path, query),
                 eventsService,
                 metrics,
+                aggregatedErrorLogger,
+                stageBudgetAllocator,
+                cacheRequestTimeEstimator,
                 clock,
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.cache.adaptive-request-time", name = "enabled", havingValue = "true")
+    CacheRequestTimeEstimator cacheRequestTimeEstimator(
+            @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
+            @Value("${auction.cache.adaptive-request-time.percentile}") double percentile,
+            @Value("${auction.cache.adaptive-request-time.min-time-ms}") long minTimeMs,
+            @Value("${auction.cache.adaptive-request-time.max-time-ms}") long maxTimeMs,
+            @Value("${auction.cache.adaptive-request-time.window-ms}") long windowMs,
+            @Value("${auction.cache.adaptive-request-time.refresh-interval-ms}") long refreshIntervalMs,
+            @Value("${auction.cache.adaptive-request-time.min-samples}") int minSamples,
+            Metrics metrics,
+            Clock clock) {
+
+        return new CacheRequestTimeEstimator(expectedCacheTimeMs, percentile, minTimeMs, maxTimeMs, windowMs,
+                refreshIntervalMs, minSamples, metrics, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.admission-control", name = "enabled", havingValue = "true")
+    AdmissionController admissionController(
+            @Value("${auction.admission-control.max-in-flight}") int maxInFlight,
+            @Value("${auction.admission-control.max-queue-delay-ms}") long maxQueueDelayMs,
+            @Value("${auction.admission-control.standard-share}") double standardShare,
+            @Value("${auction.admission-control.premium-endpoints}") String premiumEndpointsString,
+            @Value("${auction.admission-control.premium-accounts}") String premiumAccountsString,
+            @Autowired(required = false) EventLoopLagProbe eventLoopLagProbe,
+            Metrics metrics) {
+
+        return new AdmissionController(maxInFlight, maxQueueDelayMs, standardShare,
+                new HashSet<>(splitCommaSeparatedString(premiumEndpointsString)),
+                new HashSet<>(splitCommaSeparatedString(premiumAccountsString)), eventLoopLagProbe, metrics);
+    }
+
     @Bean
     ImplicitParametersExtractor implicitParametersExtractor(PublicSuffixList psl) {
         return new ImplicitParametersExtractor(psl);
@@ -195,6 +285,7 @@ public class ServiceConfiguration {
             OrtbTypesResolver ortbTypesResolver,
             TimeoutResolver timeoutResolver,
             TimeoutFactory timeoutFactory,
+            StageBudgetAllocator stageBudgetAllocator,
             ApplicationSettings applicationSettings,
             PrivacyEnforcementService privacyEnforcementService,
             JacksonMapper mapper) {
@@ -222,6 +313,7 @@ public class ServiceConfiguration {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -312,65 +404,388 @@ public class ServiceConfiguration {
     }
 
     @Bean
+    @Primary
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    HttpClientProperties httpClientProperties,
+                                    @Autowired(required = false) CachingDnsResolver cachingDnsResolver) {
 
-        return createBasicHttpClient(vertx, httpClientProperties.getMaxPoolSize(),
-                httpClientProperties.getConnectTimeoutMs(), httpClientProperties.getUseCompression(),
-                httpClientProperties.getMaxRedirects(), httpClientProperties.getSsl(),
-                httpClientProperties.getJksPath(), httpClientProperties.getJksPassword());
+        return createBasicHttpClient(vertx, httpClientProperties, cachingDnsResolver);
     }
 
     @Bean
     @ConfigurationProperties(prefix = "http-client.circuit-breaker")
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
-    CircuitBreakerProperties httpClientCircuitBreakerProperties() {
-        return new CircuitBreakerProperties();
+    HttpClientCircuitBreakerProperties httpClientCircuitBreakerProperties() {
+        return new HttpClientCircuitBreakerProperties();
     }
 
     @Bean
+    @Primary
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
     CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
-            @Qualifier("httpClientCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
+            @Qualifier("httpClientCircuitBreakerProperties")
+                    HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) CachingDnsResolver cachingDnsResolver,
+            Clock clock) {
+
+        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties, cachingDnsResolver);
+        return createCircuitBreakerSecuredHttpClient(vertx, httpClient, metrics, circuitBreakerProperties,
+                circuitBreakerProperties.getGranularity(), clock);
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "cache.http2")
+    Http2Properties cacheHttp2Properties() {
+        return new Http2Properties();
+    }
+
+    @Bean
+    @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
+    @ConditionalOnExpression("${cache.http2.enabled:false} or ${cache.max-response-size-bytes:0} > 0")
+    HttpClient cacheHttpClient(
+            Vertx vertx,
+            Metrics metrics,
+            HttpClientProperties httpClientProperties,
+            Http2Properties cacheHttp2Properties,
+            @Value("${cache.max-response-size-bytes:0}") long maxResponseSize,
+            @Autowired(required = false) @Qualifier("httpClientCircuitBreakerProperties")
+                    HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) CachingDnsResolver cachingDnsResolver,
+            Clock clock) {
+
+        final HttpClientOptions options = createHttpClientOptions(httpClientProperties);
+        if (BooleanUtils.isTrue(cacheHttp2Properties.getEnabled())) {
+            applyHttp2Options(options, BooleanUtils.isTrue(cacheHttp2Properties.getPriorKnowledge()),
+                    cacheHttp2Properties.getMaxConcurrentStreams(), cacheHttp2Properties.getMaxPoolSize(),
+                    JdkSSLEngineOptions.isAlpnAvailable());
+        }
+        final HttpClient httpClient = new BasicHttpClient(vertx, vertx.createHttpClient(options), null,
+                cachingDnsResolver, maxResponseSize > 0 ? maxResponseSize : maxResponseSize(httpClientProperties));
+
+        return circuitBreakerProperties != null
+                ? createCircuitBreakerSecuredHttpClient(vertx, httpClient, metrics, circuitBreakerProperties,
+                circuitBreakerProperties.getGranularity(), clock)
+                : httpClient;
+    }
+
+    @Bean
+    @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
+    @ConditionalOnExpression("${settings.http.max-response-size-bytes:0} > 0")
+    HttpClient settingsHttpClient(
+            Vertx vertx,
+            Metrics metrics,
+            HttpClientProperties httpClientProperties,
+            @Value("${settings.http.max-response-size-bytes}") long maxResponseSize,
+            @Autowired(required = false) @Qualifier("httpClientCircuitBreakerProperties")
+                    HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) CachingDnsResolver cachingDnsResolver,
+            Clock clock) {
+
+        final HttpClient httpClient = new BasicHttpClient(vertx,
+                vertx.createHttpClient(createHttpClientOptions(httpClientProperties)), null, cachingDnsResolver,
+                maxResponseSize);
+
+        return circuitBreakerProperties != null
+                ? createCircuitBreakerSecuredHttpClient(vertx, httpClient, metrics, circuitBreakerProperties,
+                circuitBreakerProperties.getGranularity(), clock)
+                : httpClient;
+    }
+
+    @Bean
+    @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
+    BidderHttpClientResolver bidderHttpClientResolver(
+            Vertx vertx,
+            Metrics metrics,
+            BidderCatalog bidderCatalog,
+            HttpClientProperties httpClientProperties,
+            @Autowired(required = false) @Qualifier("httpClientCircuitBreakerProperties")
+                    HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) CachingDnsResolver cachingDnsResolver,
+            Clock clock) {
+
+        final Map<String, HttpClient> bidderHttpClients = new HashMap<>();
+        for (String bidder : bidderCatalog.names()) {
+            final BidderHttpClientConfig httpClientConfig = bidderCatalog.httpClientConfigByName(bidder);
+            if (httpClientConfig == null) {
+                continue;
+            }
+
+            final HttpClientOptions options = applyBidderHttpClientConfig(
+                    createHttpClientOptions(httpClientProperties), httpClientConfig);
+            if (httpClientConfig.isHttp2Enabled()) {
+                applyHttp2Options(options, httpClientConfig.isHttp2PriorKnowledge(),
+                        httpClientConfig.getHttp2MaxConcurrentStreams(), httpClientConfig.getHttp2MaxPoolSize(),
+                        JdkSSLEngineOptions.isAlpnAvailable());
+            }
+            final io.vertx.core.http.HttpClient vertxHttpClient = vertx.createHttpClient(options)
+                    .connectionHandler(connection -> {
+                        metrics.updateAdapterConnectionMetric(bidder, true);
+                        connection.closeHandler(ignored -> metrics.updateAdapterConnectionMetric(bidder, false));
+                    });
+            final HttpClient httpClient = new BasicHttpClient(vertx, vertxHttpClient,
+                    millis -> metrics.updateAdapterPoolWaitTime(bidder, millis), cachingDnsResolver,
+                    ObjectUtils.defaultIfNull(httpClientConfig.getMaxResponseSizeBytes(),
+                            maxResponseSize(httpClientProperties)));
+
+            bidderHttpClients.put(bidder, circuitBreakerProperties != null
+                    ? createCircuitBreakerSecuredHttpClient(vertx, httpClient, metrics, circuitBreakerProperties,
+                    ObjectUtils.defaultIfNull(httpClientConfig.getCircuitBreakerGranularity(),
+                            circuitBreakerProperties.getGranularity()),
+                    clock)
+                    : httpClient);
+        }
+        return new MapBidderHttpClientResolver(bidderHttpClients);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "http-client.warm-up", name = "enabled", havingValue = "true")
+    HttpConnectionWarmer httpConnectionWarmer(
+            Vertx vertx,
+            BidderCatalog bidderCatalog,
+            HttpClient httpClient,
+            BidderHttpClientResolver bidderHttpClientResolver,
+            @Autowired(required = false) @Qualifier("cacheHttpClient") HttpClient cacheHttpClient,
+            @Value("${cache.scheme}") String cacheScheme,
+            @Value("${cache.host}") String cacheHost,
+            @Value("${cache.path}") String cachePath,
+            @Value("${http-client.warm-up.path}") String path,
+            @Value("${http-client.warm-up.connections}") int connections,
+            @Value("${http-client.warm-up.timeout-ms}") long timeoutMs,
+            @Value("${http-client.warm-up.keep-interval-ms}") long keepIntervalMs) {
+
+        // endpoints are reduced to origins to warm up each connection pool only once per host
+        final String warmUpPath = StringUtils.prependIfMissing(path, "/");
+        final Map<String, HttpConnectionWarmer.WarmUpEndpoint> endpoints = new LinkedHashMap<>();
+        for (String bidder : new TreeSet<>(bidderCatalog.names())) {
+            final String origin = originOf(bidderCatalog.endpointByName(bidder));
+            if (origin == null) {
+                continue;
+            }
+
+            if (bidderCatalog.httpClientConfigByName(bidder) != null) {
+                endpoints.put(bidder + " " + origin, HttpConnectionWarmer.WarmUpEndpoint.of(origin + warmUpPath,
+                        () -> bidderHttpClientResolver.httpClientFor(bidder)));
+            } else {
+                endpoints.putIfAbsent(origin, HttpConnectionWarmer.WarmUpEndpoint.of(origin + warmUpPath,
+                        () -> httpClient));
+            }
+        }
+
+        final String cacheOrigin = originOf(CacheService.getCacheEndpointUrl(cacheScheme, cacheHost, cachePath)
+                .toString());
+        if (cacheOrigin != null) {
+            final HttpClient resolvedCacheHttpClient = cacheHttpClient != null ? cacheHttpClient : httpClient;
+            endpoints.putIfAbsent("cache " + cacheOrigin, HttpConnectionWarmer.WarmUpEndpoint.of(
+                    cacheOrigin + warmUpPath, () -> resolvedCacheHttpClient));
+        }
+
+        return new HttpConnectionWarmer(vertx, new ArrayList<>(endpoints.values()), connections, timeoutMs,
+                keepIntervalMs);
+    }
+
+    /**
+     * Returns scheme, host and port part of the given endpoint or null if endpoint is absent or its host is
+     * defined by macros resolved per request.
+     */
+    private static String originOf(String endpoint) {
+        if (endpoint == null) {
+            return null;
+        }
+
+        final URL url;
+        try {
+            url = new URL(endpoint);
+        } catch (MalformedURLException e) {
+            logger.warn("Connections to {0} will not be warmed up: {1}", endpoint, e.getMessage());
+            return null;
+        }
+
+        final String host = url.getHost();
+        if (StringUtils.isBlank(host) || host.contains("{")) {
+            return null;
+        }
+        return url.getProtocol() + "://" + host + (url.getPort() != -1 ? ":" + url.getPort() : "");
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "http-client.dns")
+    @ConditionalOnProperty(prefix = "http-client.dns", name = "enabled", havingValue = "true")
+    DnsProperties dnsProperties() {
+        return new DnsProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "http-client.dns", name = "enabled", havingValue = "true")
+    CachingDnsResolver cachingDnsResolver(
+            Vertx vertx,
+            FileSystem fileSystem,
+            BidderCatalog bidderCatalog,
+            Metrics metrics,
+            Clock clock,
+            DnsProperties dnsProperties,
+            @Value("${cache.host}") String cacheHost,
+            @Value("${settings.http.endpoint:#{null}}") String settingsEndpoint,
+            @Value("${settings.http.amp-endpoint:#{null}}") String settingsAmpEndpoint,
+            @Value("${settings.http.video-endpoint:#{null}}") String settingsVideoEndpoint,
+            @Value("${settings.in-memory-cache.http-update.endpoint:#{null}}") String settingsUpdateEndpoint,
+            @Value("${settings.in-memory-cache.http-update.amp-endpoint:#{null}}") String settingsAmpUpdateEndpoint) {
+
+        final String hostsPath = dnsProperties.getHostsPath();
+        final DnsLookup dnsLookup = StringUtils.isNotBlank(hostsPath)
+                ? new HostsFileDnsLookup(fileSystem.readFileBlocking(hostsPath).toString(),
+                dnsProperties.getMaxTtlSec())
+                : new NettyDnsLookup(vertx, dnsProperties.getServers(), dnsProperties.getQueryTimeoutMs());
+
+        final Set<String> hosts = new TreeSet<>();
+        for (String bidder : bidderCatalog.names()) {
+            addHost(hosts, bidderCatalog.endpointByName(bidder));
+
+            final BidderHedgingConfig hedgingConfig = bidderCatalog.hedgingConfigByName(bidder);
+            addHost(hosts, hedgingConfig != null ? hedgingConfig.getAlternateEndpoint() : null);
+        }
+        addHost(hosts, "http://" + cacheHost);
+        addHost(hosts, settingsEndpoint);
+        addHost(hosts, settingsAmpEndpoint);
+        addHost(hosts, settingsVideoEndpoint);
+        addHost(hosts, settingsUpdateEndpoint);
+        addHost(hosts, settingsAmpUpdateEndpoint);
+
+        final CachingDnsResolver cachingDnsResolver = new CachingDnsResolver(vertx, dnsLookup, hosts,
+                dnsProperties.getMinTtlSec(), dnsProperties.getMaxTtlSec(), dnsProperties.getMaxStaleSec(),
+                dnsProperties.getRefreshAheadMs(), metrics, clock);
+        cachingDnsResolver.prefetch(dnsProperties.getPrefetchIntervalMs());
+        return cachingDnsResolver;
+    }
+
+    /**
+     * Adds host of the given endpoint if it is a name known in advance, i.e. not an IP address or macro.
+     */
+    private static void addHost(Set<String> hosts, String endpoint) {
+        if (endpoint == null) {
+            return;
+        }
+
+        final String host;
+        try {
+            host = new URL(endpoint).getHost();
+        } catch (MalformedURLException e) {
+            return;
+        }
+
+        if (StringUtils.isNotBlank(host) && !host.contains("{") && !StringUtils.containsOnly(host, "0123456789.")) {
+            hosts.add(host.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static CircuitBreakerSecuredHttpClient createCircuitBreakerSecuredHttpClient(
+            Vertx vertx,
+            HttpClient httpClient,
+            Metrics metrics,
+            HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            CircuitBreakerGranularity granularity,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties.getMaxPoolSize(),
-                httpClientProperties.getConnectTimeoutMs(), httpClientProperties.getUseCompression(),
-                httpClientProperties.getMaxRedirects(), httpClientProperties.getSsl(),
-                httpClientProperties.getJksPath(), httpClientProperties.getJksPassword());
         return new CircuitBreakerSecuredHttpClient(vertx, httpClient, metrics,
                 circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
-                circuitBreakerProperties.getClosingIntervalMs(), clock);
+                circuitBreakerProperties.getClosingIntervalMs(), circuitBreakerProperties.isSlidingWindowEnabled(),
+                granularity, circuitBreakerProperties.getMaxBreakers(),
+                circuitBreakerProperties.getBreakerIdleExpireMs(), clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, int maxPoolSize, int connectTimeoutMs,
-                                                         boolean useCompression, int maxRedirects, boolean ssl,
-                                                         String jksPath, String jksPassword) {
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties,
+                                                         CachingDnsResolver cachingDnsResolver) {
+        return new BasicHttpClient(vertx, vertx.createHttpClient(createHttpClientOptions(httpClientProperties)), null,
+                cachingDnsResolver, maxResponseSize(httpClientProperties));
+    }
 
+    private static long maxResponseSize(HttpClientProperties httpClientProperties) {
+        return ObjectUtils.defaultIfNull(httpClientProperties.getMaxResponseSizeBytes(), 0L);
+    }
+
+    private static HttpClientOptions createHttpClientOptions(HttpClientProperties httpClientProperties) {
         final HttpClientOptions options = new HttpClientOptions()
-                .setMaxPoolSize(maxPoolSize)
-                .setTryUseCompression(useCompression)
-                .setConnectTimeout(connectTimeoutMs)
+                .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
+                .setTryUseCompression(httpClientProperties.getUseCompression())
+                .setConnectTimeout(httpClientProperties.getConnectTimeoutMs())
                 // Vert.x's HttpClientRequest needs this value to be 2 for redirections to be followed once,
                 // 3 for twice, and so on
-                .setMaxRedirects(maxRedirects + 1);
+                .setMaxRedirects(httpClientProperties.getMaxRedirects() + 1);
 
-        if (ssl) {
+        if (httpClientProperties.getSsl()) {
             final JksOptions jksOptions = new JksOptions()
-                    .setPath(jksPath)
-                    .setPassword(jksPassword);
+                    .setPath(httpClientProperties.getJksPath())
+                    .setPassword(httpClientProperties.getJksPassword());
 
             options
                     .setSsl(true)
                     .setKeyStoreOptions(jksOptions);
         }
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        return options;
+    }
+
+    /**
+     * Overrides global HTTP client options with the ones configured for particular bidder.
+     */
+    private static HttpClientOptions applyBidderHttpClientConfig(HttpClientOptions options,
+                                                                 BidderHttpClientConfig httpClientConfig) {
+
+        if (httpClientConfig.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(httpClientConfig.getMaxPoolSize());
+        }
+        if (httpClientConfig.getKeepAliveTimeoutSec() != null) {
+            options.setKeepAliveTimeout(httpClientConfig.getKeepAliveTimeoutSec());
+        }
+        if (httpClientConfig.getPipelining() != null) {
+            options.setPipelining(httpClientConfig.getPipelining());
+        }
+        if (httpClientConfig.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(httpClientConfig.getPipeliningLimit());
+        }
+        if (httpClientConfig.getIdleTimeoutSec() != null) {
+            options.setIdleTimeout(httpClientConfig.getIdleTimeoutSec());
+        }
+        if (httpClientConfig.getConnectTimeoutMs() != null) {
+            options.setConnectTimeout(httpClientConfig.getConnectTimeoutMs());
+        }
+        return options;
+    }
+
+    /**
+     * Switches client to HTTP/2.
+     * <p>
+     * Over TLS protocol is negotiated with ALPN, so HTTP/1.1 is used when server doesn't support HTTP/2. Client
+     * stays on HTTP/1.1 if ALPN is not available in runtime, since Vert.x rejects TLS requests over HTTP/2 without
+     * it. Over plain text HTTP/1.1 upgrade is tried unless prior knowledge is requested, the latter has no fallback
+     * and should be used only for endpoints known to speak h2c.
+     */
+    static HttpClientOptions applyHttp2Options(HttpClientOptions options, boolean priorKnowledge,
+                                               Integer maxConcurrentStreams, Integer maxPoolSize,
+                                               boolean alpnAvailable) {
+
+        if (!alpnAvailable) {
+            logger.warn("ALPN is not available, HTTP/1.1 will be used instead of HTTP/2");
+            return options;
+        }
+
+        options
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(!priorKnowledge)
+                .setUseAlpn(true);
+
+        if (maxConcurrentStreams != null) {
+            options.setHttp2MultiplexingLimit(maxConcurrentStreams);
+        }
+        if (maxPoolSize != null) {
+            options.setHttp2MaxPoolSize(maxPoolSize);
+        }
+        return options;
     }
 
     @Bean
@@ -408,9 +823,72 @@ public class ServiceConfiguration {
     @Bean
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
-            @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory) {
+            BidderHttpClientResolver bidderHttpClientResolver,
+            TimeoutNotificationDispatcher timeoutNotificationDispatcher,
+            AggregatedErrorLogger aggregatedErrorLogger,
+            @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
+            @Autowired(required = false) BidderConcurrencyLimiter bidderConcurrencyLimiter,
+            @Autowired(required = false) BidderRequestHedger bidderRequestHedger,
+            BidderRequestCompressor bidderRequestCompressor) {
+
+        return new HttpBidderRequester(httpClient, bidderHttpClientResolver, timeoutNotificationDispatcher,
+                aggregatedErrorLogger, bidderRequestCompletionTrackerFactory, bidderConcurrencyLimiter,
+                bidderRequestHedger, bidderRequestCompressor);
+    }
+
+    @Bean
+    BidderRequestCompressor bidderRequestCompressor(BidderCatalog bidderCatalog, Metrics metrics) {
+        return new BidderRequestCompressor(bidderCatalog, metrics);
+    }
+
+    @Bean
+    TimeoutNotificationDispatcher timeoutNotificationDispatcher(
+            @Value("${http-client.timeout-notification.queue-capacity}") int queueCapacity,
+            @Value("${http-client.timeout-notification.merge-window-ms}") long mergeWindowMs,
+            Vertx vertx,
+            BidderCatalog bidderCatalog,
+            Metrics metrics,
+            Clock clock) {
 
-        return new HttpBidderRequester(httpClient, bidderRequestCompletionTrackerFactory);
+        return new TimeoutNotificationDispatcher(vertx, bidderCatalog, queueCapacity, mergeWindowMs, metrics, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "http-client.hedging", name = "enabled", havingValue = "true")
+    BidderRequestHedger bidderRequestHedger(
+            @Value("${http-client.hedging.latency-window-ms}") long latencyWindowMs,
+            @Value("${http-client.hedging.refresh-interval-ms}") long refreshIntervalMs,
+            @Value("${http-client.hedging.min-samples}") int minSamples,
+            Vertx vertx,
+            BidderCatalog bidderCatalog,
+            @Autowired(required = false) BidderConcurrencyLimiter bidderConcurrencyLimiter,
+            Metrics metrics,
+            Clock clock) {
+
+        return new BidderRequestHedger(vertx, bidderCatalog,
+                new BidderLatencyTracker(latencyWindowMs, refreshIntervalMs, minSamples, clock),
+                bidderConcurrencyLimiter, metrics, clock);
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "http-client.concurrency-limit")
+    @ConditionalOnProperty(prefix = "http-client.concurrency-limit", name = "enabled", havingValue = "true")
+    ConcurrencyLimitProperties concurrencyLimitProperties() {
+        return new ConcurrencyLimitProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "http-client.concurrency-limit", name = "enabled", havingValue = "true")
+    BidderConcurrencyLimiter bidderConcurrencyLimiter(ConcurrencyLimitProperties concurrencyLimitProperties,
+                                                      Clock clock) {
+
+        return new BidderConcurrencyLimiter(
+                concurrencyLimitProperties.getInitialLimit(),
+                concurrencyLimitProperties.getMinLimit(),
+                concurrencyLimitProperties.getMaxLimit(),
+                concurrencyLimitProperties.getBackoffRatio(),
+                concurrencyLimitProperties.getLatencyThresholdMs(),
+                clock);
     }
 
     @Bean
@@ -438,35 +916,95 @@ public class ServiceConfiguration {
     @Bean
     ExchangeService exchangeService(
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
+            @Autowired(required = false) CacheRequestTimeEstimator cacheRequestTimeEstimator,
             BidderCatalog bidderCatalog,
             StoredResponseProcessor storedResponseProcessor,
             PrivacyEnforcementService privacyEnforcementService,
             FpdResolver fpdResolver,
             HttpBidderRequester httpBidderRequester,
+            BidderTimeoutAllocator bidderTimeoutAllocator,
+            StageBudgetAllocator stageBudgetAllocator,
+            @Autowired(required = false) AuctionCompletionTrackerFactory auctionCompletionTrackerFactory,
             ResponseBidValidator responseBidValidator,
             CurrencyConversionService currencyConversionService,
             BidResponseCreator bidResponseCreator,
             BidResponsePostProcessor bidResponsePostProcessor,
             Metrics metrics,
+            AggregatedErrorLogger aggregatedErrorLogger,
             Clock clock,
             JacksonMapper mapper) {
 
         return new ExchangeService(
                 expectedCacheTimeMs,
+                cacheRequestTimeEstimator,
                 bidderCatalog,
                 storedResponseProcessor,
                 privacyEnforcementService,
                 fpdResolver,
                 httpBidderRequester,
+                bidderTimeoutAllocator,
+                stageBudgetAllocator,
+                auctionCompletionTrackerFactory,
                 responseBidValidator,
                 currencyConversionService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 metrics,
+                aggregatedErrorLogger,
                 clock,
                 mapper);
     }
 
+    @Bean
+    BidderTimeoutAllocator bidderTimeoutAllocator(
+            @Value("${auction.adaptive-timeout.enabled}") boolean enabled,
+            @Value("${auction.adaptive-timeout.percentile}") double percentile,
+            @Value("${auction.adaptive-timeout.padding-ms}") long paddingMs,
+            @Value("${auction.adaptive-timeout.min-timeout-ms}") long minTimeoutMs,
+            @Value("${auction.adaptive-timeout.window-ms}") long windowMs,
+            @Value("${auction.adaptive-timeout.refresh-interval-ms}") long refreshIntervalMs,
+            @Value("${auction.adaptive-timeout.min-samples}") int minSamples,
+            Metrics metrics,
+            Clock clock) {
+
+        return new BidderTimeoutAllocator(enabled, percentile, paddingMs, minTimeoutMs,
+                new BidderLatencyTracker(windowMs, refreshIntervalMs, minSamples, clock), metrics);
+    }
+
+    @Bean
+    StageBudgetAllocator stageBudgetAllocator(
+            @Value("${auction.stage-budgets.enabled}") boolean enabled,
+            @Value("${auction.stage-budgets.account.fraction}") double accountFraction,
+            @Value("${auction.stage-budgets.account.max-ms}") long accountMaxMs,
+            @Value("${auction.stage-budgets.privacy.fraction}") double privacyFraction,
+            @Value("${auction.stage-budgets.privacy.max-ms}") long privacyMaxMs,
+            @Value("${auction.stage-budgets.bidders.fraction}") double biddersFraction,
+            @Value("${auction.stage-budgets.bidders.max-ms}") long biddersMaxMs,
+            @Value("${auction.stage-budgets.cache.fraction}") double cacheFraction,
+            @Value("${auction.stage-budgets.cache.max-ms}") long cacheMaxMs,
+            Metrics metrics,
+            Clock clock) {
+
+        final Map<StageBudgetAllocator.Stage, StageBudget> budgets = new EnumMap<>(StageBudgetAllocator.Stage.class);
+        budgets.put(StageBudgetAllocator.Stage.account, StageBudget.of(accountFraction, accountMaxMs));
+        budgets.put(StageBudgetAllocator.Stage.privacy, StageBudget.of(privacyFraction, privacyMaxMs));
+        budgets.put(StageBudgetAllocator.Stage.bidders, StageBudget.of(biddersFraction, biddersMaxMs));
+        budgets.put(StageBudgetAllocator.Stage.cache, StageBudget.of(cacheFraction, cacheMaxMs));
+
+        return new StageBudgetAllocator(enabled, budgets, metrics, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.early-close", name = "enabled", havingValue = "true")
+    QuorumAuctionCompletionTrackerFactory quorumAuctionCompletionTrackerFactory(
+            @Value("${auction.early-close.quorum}") double quorum,
+            @Value("${auction.early-close.grace-period-ms}") long gracePeriodMs,
+            @Value("${auction.early-close.min-bidders}") int minBidders,
+            Vertx vertx) {
+
+        return new QuorumAuctionCompletionTrackerFactory(quorum, gracePeriodMs, minBidders, vertx);
+    }
+
     @Bean
     StoredRequestProcessor storedRequestProcessor(
             @Value("${auction.stored-requests-timeout-ms}") long defaultTimeoutMs,
@@ -589,6 +1127,16 @@ public class ServiceConfiguration {
         return new HttpInteractionLogger();
     }
 
+    @Bean
+    AggregatedErrorLogger aggregatedErrorLogger(
+            @Value("${logging.error-aggregation.window-ms}") long windowMs,
+            @Value("${logging.error-aggregation.max-exemplars}") int maxExemplars,
+            Vertx vertx) {
+
+        return new AggregatedErrorLogger(LoggerFactory.getLogger(AggregatedErrorLogger.class), vertx, windowMs,
+                maxExemplars);
+    }
+
     @Bean
     LoggerControlKnob loggerControlKnob(Vertx vertx) {
         return new LoggerControlKnob(vertx);
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.CachingApplicationSettings;
@@ -107,7 +108,8 @@ public class SettingsConfiguration {
             final JdbcClient jdbcClient = createBasicJdbcClient(vertx, vertxJdbcClient, metrics, clock, contextRunner);
             return new CircuitBreakerSecuredJdbcClient(vertx, jdbcClient, metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
-                    circuitBreakerProperties.getClosingIntervalMs(), clock);
+                    circuitBreakerProperties.getClosingIntervalMs(), circuitBreakerProperties.isSlidingWindowEnabled(),
+                    clock);
         }
 
         private static BasicJdbcClient createBasicJdbcClient(
@@ -181,12 +183,15 @@ public class SettingsConfiguration {
         @Bean
         HttpApplicationSettings httpApplicationSettings(
                 HttpClient httpClient,
+                @Autowired(required = false) @Qualifier("settingsHttpClient") HttpClient settingsHttpClient,
                 JacksonMapper mapper,
                 @Value("${settings.http.endpoint}") String endpoint,
                 @Value("${settings.http.amp-endpoint}") String ampEndpoint,
-                @Value("${settings.http.video-endpoint}") String videoEndpoint) {
+                @Value("${settings.http.video-endpoint}") String videoEndpoint,
+                AggregatedErrorLogger aggregatedErrorLogger) {
 
-            return new HttpApplicationSettings(httpClient, mapper, endpoint, ampEndpoint, videoEndpoint);
+            return new HttpApplicationSettings(settingsHttpClient != null ? settingsHttpClient : httpClient, mapper,
+                    endpoint, ampEndpoint, videoEndpoint, aggregatedErrorLogger);
         }
     }
 
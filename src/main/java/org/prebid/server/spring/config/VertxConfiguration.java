@@ -2,10 +2,15 @@ package org.prebid.server.spring.config;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.dns.AddressResolverOptions;
 import io.vertx.core.file.FileSystem;
 import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.spring.config.model.DnsProperties;
 import org.prebid.server.vertx.ContextRunner;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,12 +19,38 @@ import org.springframework.context.annotation.Configuration;
 public class VertxConfiguration {
 
     @Bean
-    Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize) {
-        return Vertx.vertx(new VertxOptions()
+    Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
+                @Value("${vertx.prefer-native-transport}") boolean preferNativeTransport,
+                @Autowired(required = false) DnsProperties dnsProperties) {
+
+        final VertxOptions options = new VertxOptions()
                 .setWorkerPoolSize(workerPoolSize)
+                .setPreferNativeTransport(preferNativeTransport)
                 .setMetricsOptions(new DropwizardMetricsOptions()
                         .setEnabled(true)
-                        .setRegistryName(MetricsConfiguration.METRIC_REGISTRY_NAME)));
+                        .setRegistryName(MetricsConfiguration.METRIC_REGISTRY_NAME));
+        if (dnsProperties != null) {
+            options.setAddressResolverOptions(addressResolverOptions(dnsProperties));
+        }
+        return Vertx.vertx(options);
+    }
+
+    /**
+     * Aligns Vert.x address resolution with {@link org.prebid.server.vertx.dns.CachingDnsResolver} settings,
+     * it is still used by connections not going through the cache.
+     */
+    private static AddressResolverOptions addressResolverOptions(DnsProperties dnsProperties) {
+        final AddressResolverOptions options = new AddressResolverOptions()
+                .setQueryTimeout(dnsProperties.getQueryTimeoutMs())
+                .setCacheMinTimeToLive(dnsProperties.getMinTtlSec().intValue())
+                .setCacheMaxTimeToLive(dnsProperties.getMaxTtlSec().intValue());
+        if (CollectionUtils.isNotEmpty(dnsProperties.getServers())) {
+            options.setServers(dnsProperties.getServers());
+        }
+        if (StringUtils.isNotBlank(dnsProperties.getHostsPath())) {
+            options.setHostsPath(dnsProperties.getHostsPath());
+        }
+        return options;
     }
 
     @Bean
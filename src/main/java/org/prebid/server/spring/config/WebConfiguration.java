@@ -1,5 +1,6 @@
 package org.prebid.server.spring.config;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
@@ -7,13 +8,17 @@ import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.JksOptions;
+import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.handler.CorsHandler;
 import io.vertx.ext.web.handler.StaticHandler;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.prebid.server.analytics.CompositeAnalyticsReporter;
+import org.prebid.server.auction.AdmissionController;
 import org.prebid.server.auction.AmpRequestFactory;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.AuctionRequestFactory;
@@ -41,6 +46,7 @@ import org.prebid.server.handler.StatusHandler;
 import org.prebid.server.handler.VtrackHandler;
 import org.prebid.server.handler.info.BidderDetailsHandler;
 import org.prebid.server.handler.info.BiddersHandler;
+import org.prebid.server.handler.openrtb2.AdmissionHandler;
 import org.prebid.server.handler.openrtb2.AmpHandler;
 import org.prebid.server.handler.openrtb2.VideoHandler;
 import org.prebid.server.health.HealthChecker;
@@ -54,15 +60,17 @@ import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.http.HttpConnectionWarmer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
 import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -80,7 +88,10 @@ public class WebConfiguration {
     private ContextRunner contextRunner;
 
     @Value("${vertx.http-server-instances}")
-    private int httpServerNum;
+    private String httpServerInstances;
+
+    @Value("${vertx.prefer-native-transport}")
+    private boolean preferNativeTransport;
 
     @Autowired
     private Vertx vertx;
@@ -98,30 +109,92 @@ public class WebConfiguration {
     @Value("${http.port}")
     private int httpPort;
 
-    @PostConstruct
+    @Autowired(required = false)
+    private HttpConnectionWarmer httpConnectionWarmer;
+
+    @Autowired(required = false)
+    private AdmissionController admissionController;
+
+    @Autowired
+    private JacksonMapper mapper;
+
+    @Value("${auction.admission-control.shed-status}")
+    private int admissionShedStatus;
+
+    /**
+     * Starts server instances once context is fully populated, since connection warm-up creates context scoped
+     * {@link org.prebid.server.vertx.http.HttpClient}s, see {@link InitializationConfiguration}.
+     */
+    @EventListener(ContextRefreshedEvent.class)
     public void startHttpServer() {
+        final int httpServerNum = httpServerNum(httpServerInstances);
+        logTransport();
+
         logger.info("Starting {0} instances of Http Server to serve requests on port {1,number,#}", httpServerNum,
                 httpPort);
 
+        // outgoing connections are warmed up on the same context server instance will handle requests on
         contextRunner.<HttpServer>runOnNewContext(httpServerNum, promise ->
-                vertx.createHttpServer(httpServerOptions)
-                        .exceptionHandler(exceptionHandler)
-                        .requestHandler(router)
-                        .listen(httpPort, promise));
+                warmUpConnections().setHandler(ignored ->
+                        vertx.createHttpServer(httpServerOptions)
+                                .exceptionHandler(exceptionHandler)
+                                .requestHandler(router)
+                                .listen(httpPort, promise)));
 
         logger.info("Successfully started {0} instances of Http Server", httpServerNum);
     }
 
+    /**
+     * Resolves number of http server instances, "auto" means one instance per available CPU core.
+     *
+     * @throws IllegalArgumentException if value is neither "auto" nor positive number
+     */
+    static int httpServerNum(String httpServerInstances) {
+        if ("auto".equalsIgnoreCase(StringUtils.trim(httpServerInstances))) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        final int httpServerNum = NumberUtils.toInt(StringUtils.trim(httpServerInstances), 0);
+        if (httpServerNum < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "vertx.http-server-instances should be positive number or 'auto', but was: %s",
+                    httpServerInstances));
+        }
+        return httpServerNum;
+    }
+
+    private void logTransport() {
+        if (vertx.isNativeTransportEnabled()) {
+            logger.info("Using native transport");
+        } else if (preferNativeTransport) {
+            logger.warn("Native transport is preferred but not available (is netty-transport-native-epoll on the"
+                    + " classpath?), falling back to NIO transport, TCP_FASTOPEN and SO_REUSEPORT are ignored");
+        } else {
+            logger.info("Using NIO transport");
+        }
+    }
+
+    private Future<Void> warmUpConnections() {
+        return httpConnectionWarmer != null ? httpConnectionWarmer.warmUpAndKeep() : Future.succeededFuture();
+    }
+
     @Bean
     HttpServerOptions httpServerOptions(@Value("${http.max-headers-size}") int maxHeaderSize,
                                         @Value("${http.ssl}") boolean ssl,
                                         @Value("${http.jks-path}") String jksPath,
-                                        @Value("${http.jks-password}") String jksPassword) {
+                                        @Value("${http.jks-password}") String jksPassword,
+                                        @Value("${http.tcp-no-delay}") boolean tcpNoDelay,
+                                        @Value("${http.tcp-fast-open}") boolean tcpFastOpen,
+                                        @Value("${http.reuse-port}") boolean reusePort) {
         final HttpServerOptions httpServerOptions = new HttpServerOptions()
                 .setHandle100ContinueAutomatically(true)
                 .setMaxHeaderSize(maxHeaderSize)
                 .setCompressionSupported(true)
-                .setIdleTimeout(10); // kick off long processing requests
+                .setIdleTimeout(10) // kick off long processing requests
+                .setTcpNoDelay(tcpNoDelay)
+                // applied by native transport only
+                .setTcpFastOpen(tcpFastOpen)
+                .setReusePort(reusePort);
 
         if (ssl) {
             final JksOptions jksOptions = new JksOptions()
@@ -167,9 +240,9 @@ public class WebConfiguration {
         router.route().handler(noCacheHandler);
         router.route().handler(corsHandler);
         router.post("/auction").handler(auctionHandler);
-        router.post("/openrtb2/auction").handler(openrtbAuctionHandler);
-        router.get("/openrtb2/amp").handler(openrtbAmpHandler);
-        router.post("/openrtb2/video").handler(openrtbVideoHandler);
+        withAdmissionControl(router.post("/openrtb2/auction"), "/openrtb2/auction").handler(openrtbAuctionHandler);
+        withAdmissionControl(router.get("/openrtb2/amp"), "/openrtb2/amp").handler(openrtbAmpHandler);
+        withAdmissionControl(router.post("/openrtb2/video"), "/openrtb2/video").handler(openrtbVideoHandler);
         router.get("/status").handler(statusHandler);
         router.post("/cookie_sync").handler(cookieSyncHandler);
         router.get("/setuid").handler(setuidHandler);
@@ -192,6 +265,12 @@ public class WebConfiguration {
         return router;
     }
 
+    private Route withAdmissionControl(Route route, String endpoint) {
+        return admissionController != null
+                ? route.handler(new AdmissionHandler(admissionController, endpoint, admissionShedStatus, mapper))
+                : route;
+    }
+
     @Bean
     NoCacheHandler noCacheHandler() {
         return NoCacheHandler.create();
@@ -0,0 +1,21 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.prebid.server.bidder.model.BidderCompressionConfig;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderCompressionProperties {
+
+    private Boolean enabled;
+
+    private BidderCompressionConfig.Type type;
+
+    @Min(0)
+    private Integer thresholdBytes;
+}
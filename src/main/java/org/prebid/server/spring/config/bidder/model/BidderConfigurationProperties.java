@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.List;
@@ -42,4 +43,16 @@ public class BidderConfigurationProperties {
     private UsersyncConfigurationProperties usersync;
 
     private Map<String, String> extraInfo;
+
+    @Valid
+    private BidderHttpClientProperties httpClient;
+
+    @Valid
+    private BidderHedgingProperties hedging;
+
+    @Valid
+    private BidderTimeoutNotificationProperties timeoutNotification;
+
+    @Valid
+    private BidderCompressionProperties requestCompression;
 }
@@ -0,0 +1,28 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHedgingProperties {
+
+    private Boolean enabled;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private Double percentile;
+
+    @Min(0)
+    @Max(100)
+    private Integer maxExtraTrafficPercent;
+
+    private String alternateEndpoint;
+}
@@ -0,0 +1,41 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.prebid.server.spring.config.model.Http2Properties;
+import org.prebid.server.vertx.http.CircuitBreakerGranularity;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    @Min(0)
+    private Integer keepAliveTimeoutSec;
+
+    private Boolean pipelining;
+
+    @Min(1)
+    private Integer pipeliningLimit;
+
+    @Min(0)
+    private Integer idleTimeoutSec;
+
+    @Min(1)
+    private Integer connectTimeoutMs;
+
+    @Valid
+    private Http2Properties http2;
+
+    private CircuitBreakerGranularity circuitBreakerGranularity;
+
+    @Min(0)
+    private Long maxResponseSizeBytes;
+}
@@ -0,0 +1,25 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderTimeoutNotificationProperties {
+
+    @Min(1)
+    private Long timeoutMs;
+
+    @Min(0)
+    private Integer ratePerSec;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private Double samplingRate;
+}
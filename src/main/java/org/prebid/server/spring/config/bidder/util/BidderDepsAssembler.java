@@ -1,19 +1,36 @@
 package org.prebid.server.spring.config.bidder.util;
 
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.Adapter;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.DisabledAdapter;
 import org.prebid.server.bidder.DisabledBidder;
+import org.prebid.server.bidder.TimeoutNotificationDispatcher;
 import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.bidder.model.BidderCompressionConfig;
+import org.prebid.server.bidder.model.BidderHedgingConfig;
+import org.prebid.server.bidder.model.BidderHttpClientConfig;
+import org.prebid.server.bidder.model.TimeoutNotificationConfig;
 import org.prebid.server.proto.response.BidderInfo;
+import org.prebid.server.spring.config.bidder.model.BidderCompressionProperties;
 import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHedgingProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
+import org.prebid.server.spring.config.bidder.model.BidderTimeoutNotificationProperties;
+import org.prebid.server.spring.config.model.Http2Properties;
 
 import java.util.List;
 import java.util.function.Supplier;
 
 public class BidderDepsAssembler {
 
+    private static final double DEFAULT_HEDGING_PERCENTILE = 0.95;
+    private static final int DEFAULT_HEDGING_MAX_EXTRA_TRAFFIC_PERCENT = 5;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
     private static final String ERROR_MESSAGE_TEMPLATE_FOR_DISABLED = "%s is not configured properly on this "
             + "Prebid Server deploy. If you believe this should work, contact the company hosting the service "
             + "and tell them to check their configuration.";
@@ -26,6 +43,11 @@ public class BidderDepsAssembler {
     private Supplier<Usersyncer> usersyncerCreator;
     private Supplier<Bidder<?>> bidderCreator;
     private Supplier<Adapter<?, ?>> adapterCreator;
+    private BidderHttpClientConfig httpClientConfig;
+    private String endpoint;
+    private BidderHedgingConfig hedgingConfig;
+    private TimeoutNotificationConfig timeoutNotificationConfig;
+    private BidderCompressionConfig compressionConfig;
 
     private BidderDepsAssembler() {
         enabled = false;
@@ -61,9 +83,76 @@ public class BidderDepsAssembler {
         enabled = configProperties.getEnabled();
         deprecatedNames = configProperties.getDeprecatedNames();
         aliases = configProperties.getAliases();
+        httpClientConfig = toHttpClientConfig(configProperties.getHttpClient());
+        endpoint = configProperties.getEndpoint();
+        hedgingConfig = toHedgingConfig(configProperties.getHedging());
+        timeoutNotificationConfig = toTimeoutNotificationConfig(configProperties.getTimeoutNotification());
+        compressionConfig = toCompressionConfig(configProperties.getRequestCompression());
         return this;
     }
 
+    private static BidderHttpClientConfig toHttpClientConfig(BidderHttpClientProperties httpClientProperties) {
+        if (httpClientProperties == null) {
+            return null;
+        }
+
+        final Http2Properties http2 = httpClientProperties.getHttp2();
+        final boolean http2Enabled = http2 != null && BooleanUtils.isTrue(http2.getEnabled());
+
+        return BidderHttpClientConfig.builder()
+                .maxPoolSize(httpClientProperties.getMaxPoolSize())
+                .keepAliveTimeoutSec(httpClientProperties.getKeepAliveTimeoutSec())
+                .pipelining(httpClientProperties.getPipelining())
+                .pipeliningLimit(httpClientProperties.getPipeliningLimit())
+                .idleTimeoutSec(httpClientProperties.getIdleTimeoutSec())
+                .connectTimeoutMs(httpClientProperties.getConnectTimeoutMs())
+                .http2Enabled(http2Enabled)
+                .http2PriorKnowledge(http2Enabled && BooleanUtils.isTrue(http2.getPriorKnowledge()))
+                .http2MaxConcurrentStreams(http2Enabled ? http2.getMaxConcurrentStreams() : null)
+                .http2MaxPoolSize(http2Enabled ? http2.getMaxPoolSize() : null)
+                .circuitBreakerGranularity(httpClientProperties.getCircuitBreakerGranularity())
+                .maxResponseSizeBytes(httpClientProperties.getMaxResponseSizeBytes())
+                .build();
+    }
+
+    private static BidderHedgingConfig toHedgingConfig(BidderHedgingProperties hedgingProperties) {
+        if (hedgingProperties == null || BooleanUtils.isNotTrue(hedgingProperties.getEnabled())) {
+            return null;
+        }
+
+        return BidderHedgingConfig.of(
+                ObjectUtils.defaultIfNull(hedgingProperties.getPercentile(), DEFAULT_HEDGING_PERCENTILE),
+                ObjectUtils.defaultIfNull(hedgingProperties.getMaxExtraTrafficPercent(),
+                        DEFAULT_HEDGING_MAX_EXTRA_TRAFFIC_PERCENT),
+                StringUtils.stripToNull(hedgingProperties.getAlternateEndpoint()));
+    }
+
+    private static TimeoutNotificationConfig toTimeoutNotificationConfig(
+            BidderTimeoutNotificationProperties timeoutNotificationProperties) {
+
+        final TimeoutNotificationConfig defaultConfig = TimeoutNotificationDispatcher.DEFAULT_CONFIG;
+        if (timeoutNotificationProperties == null) {
+            return defaultConfig;
+        }
+
+        return TimeoutNotificationConfig.of(
+                ObjectUtils.defaultIfNull(timeoutNotificationProperties.getTimeoutMs(), defaultConfig.getTimeoutMs()),
+                ObjectUtils.defaultIfNull(timeoutNotificationProperties.getRatePerSec(),
+                        defaultConfig.getRatePerSec()),
+                ObjectUtils.defaultIfNull(timeoutNotificationProperties.getSamplingRate(),
+                        defaultConfig.getSamplingRate()));
+    }
+
+    private static BidderCompressionConfig toCompressionConfig(BidderCompressionProperties compressionProperties) {
+        if (compressionProperties == null || BooleanUtils.isNotTrue(compressionProperties.getEnabled())) {
+            return null;
+        }
+
+        return BidderCompressionConfig.of(
+                ObjectUtils.defaultIfNull(compressionProperties.getType(), BidderCompressionConfig.Type.gzip),
+                ObjectUtils.defaultIfNull(compressionProperties.getThresholdBytes(), DEFAULT_COMPRESSION_THRESHOLD));
+    }
+
     public BidderDeps assemble() {
         final Usersyncer usersyncer = enabled ? usersyncerCreator.get() : null;
 
@@ -81,6 +170,11 @@ public class BidderDepsAssembler {
                 .usersyncer(usersyncer)
                 .bidder(bidder)
                 .adapter(adapter)
+                .httpClientConfig(enabled ? httpClientConfig : null)
+                .endpoint(enabled ? endpoint : null)
+                .hedgingConfig(enabled ? hedgingConfig : null)
+                .timeoutNotificationConfig(enabled ? timeoutNotificationConfig : null)
+                .compressionConfig(enabled ? compressionConfig : null)
                 .build();
     }
 }
@@ -23,4 +23,6 @@ public class CircuitBreakerProperties {
     @NotNull
     @Min(1)
     private Long closingIntervalMs;
+
+    private boolean slidingWindowEnabled;
 }
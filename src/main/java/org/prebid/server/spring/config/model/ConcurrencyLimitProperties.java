@@ -0,0 +1,37 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class ConcurrencyLimitProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer initialLimit;
+
+    @NotNull
+    @Min(1)
+    private Integer minLimit;
+
+    @NotNull
+    @Min(1)
+    private Integer maxLimit;
+
+    @NotNull
+    @DecimalMin(value = "0", inclusive = false)
+    @DecimalMax(value = "1", inclusive = false)
+    private Double backoffRatio;
+
+    @NotNull
+    @Min(0)
+    private Long latencyThresholdMs;
+}
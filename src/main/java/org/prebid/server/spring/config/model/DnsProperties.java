@@ -0,0 +1,43 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class DnsProperties {
+
+    private List<String> servers;
+
+    private String hostsPath;
+
+    @NotNull
+    @Min(1)
+    private Long queryTimeoutMs;
+
+    @NotNull
+    @Min(0)
+    private Long minTtlSec;
+
+    @NotNull
+    @Min(0)
+    private Long maxTtlSec;
+
+    @NotNull
+    @Min(0)
+    private Long maxStaleSec;
+
+    @NotNull
+    @Min(0)
+    private Long refreshAheadMs;
+
+    @NotNull
+    @Min(1)
+    private Long prefetchIntervalMs;
+}
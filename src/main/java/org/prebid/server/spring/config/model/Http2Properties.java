@@ -0,0 +1,23 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class Http2Properties {
+
+    private Boolean enabled;
+
+    private Boolean priorKnowledge;
+
+    @Min(1)
+    private Integer maxConcurrentStreams;
+
+    @Min(1)
+    private Integer maxPoolSize;
+}
@@ -0,0 +1,28 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.prebid.server.vertx.http.CircuitBreakerGranularity;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Validated
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class HttpClientCircuitBreakerProperties extends CircuitBreakerProperties {
+
+    @NotNull
+    private CircuitBreakerGranularity granularity;
+
+    @NotNull
+    @Min(1)
+    private Integer maxBreakers;
+
+    @NotNull
+    @Min(1)
+    private Long breakerIdleExpireMs;
+}
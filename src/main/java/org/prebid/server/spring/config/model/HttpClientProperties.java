@@ -29,4 +29,7 @@ public class HttpClientProperties {
     private String jksPath;
 
     private String jksPassword;
+
+    @Min(0)
+    private Long maxResponseSizeBytes;
 }
@@ -1,136 +1,65 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
-import io.vertx.circuitbreaker.CircuitBreakerState;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
 
 import java.time.Clock;
-import java.util.Objects;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Circuit breaker protecting calls to the remote resource.
+ * <p>
+ * Circuit opens when number of failures within opening interval reaches opening threshold and stays open
+ * for closing interval. After that single call is let through in half-open state: circuit closes if it succeeds
+ * and opens again otherwise.
  */
-public class CircuitBreaker {
-
-    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
-
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
-    private final Vertx vertx;
-    private final long openingIntervalMs;
-    private final Clock clock;
-
-    private volatile long lastFailureTime;
-
-    public CircuitBreaker(String name,
-                          Vertx vertx,
-                          int openingThreshold,
-                          long openingIntervalMs,
-                          long closingIntervalMs,
-                          Clock clock) {
-
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
-
-        this.vertx = vertx;
-        this.openingIntervalMs = openingIntervalMs;
-        this.clock = Objects.requireNonNull(clock);
-    }
+public interface CircuitBreaker {
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
-    public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
-    }
-
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
-
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
-    }
+    <T> Future<T> execute(Handler<Promise<T>> command);
 
     /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
-    }
+    CircuitBreaker openHandler(Handler<Void> handler);
 
     /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
-    }
+    CircuitBreaker halfOpenHandler(Handler<Void> handler);
 
     /**
-     * Resets failure counter to adjust open-circuit time frame.
-     * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
+     * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
-        final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
-        }
-
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
-    }
+    CircuitBreaker closeHandler(Handler<Void> handler);
 
     /**
-     * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
+     * Returns true if the circuit breaker is in closed state, i.e. neither open nor half-open.
      */
-    public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
-        return this;
-    }
+    boolean isClosed();
 
     /**
-     * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
+     * Releases resources held by the circuit breaker (e.g. timers), it should not be used after that.
      */
-    public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
-        return this;
-    }
+    void close();
 
     /**
-     * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
+     * Creates {@link SlidingWindowCircuitBreaker} if sliding window is enabled,
+     * or {@link VertxCircuitBreaker} otherwise.
      */
-    public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
-        return this;
+    static CircuitBreaker create(String name,
+                                 Vertx vertx,
+                                 int openingThreshold,
+                                 long openingIntervalMs,
+                                 long closingIntervalMs,
+                                 boolean slidingWindowEnabled,
+                                 Clock clock) {
+
+        return slidingWindowEnabled
+                ? new SlidingWindowCircuitBreaker(openingThreshold, openingIntervalMs, closingIntervalMs, clock)
+                : new VertxCircuitBreaker(name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs, clock);
     }
 }
@@ -0,0 +1,124 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures how far behind each event loop is: timer scheduled on the event loop is expected to fire once probe
+ * interval passes, the time it fires later is the lag of tasks queued on the loop.
+ * <p>
+ * Lag of each probed event loop is recorded in metrics and the latest one is kept to be reported by health check.
+ * Event loop blocked for a long time never fires its timer, so lag of the loop whose timer is overdue is reported as
+ * the time passed since it was expected to fire.
+ */
+public class EventLoopLagProbe {
+
+    private static final Comparator<String> EVENT_LOOP_COMPARATOR =
+            Comparator.comparingLong(EventLoopLagProbe::eventLoopNumber).thenComparing(Comparator.naturalOrder());
+
+    private final long intervalMs;
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, ProbeState> probes = new ConcurrentHashMap<>();
+
+    public EventLoopLagProbe(long intervalMs, Vertx vertx, Metrics metrics, Clock clock) {
+        if (intervalMs < 1) {
+            throw new IllegalArgumentException("Probe interval should be positive");
+        }
+
+        this.intervalMs = intervalMs;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Starts probing event loop of the current {@link io.vertx.core.Context}, event loop already probed is skipped.
+     * <p>
+     * Expected to be called on event loop thread, see {@link ContextRunner#runOnNewContext}.
+     */
+    public void probeCurrentEventLoop() {
+        final String eventLoop = eventLoopName(Thread.currentThread().getName());
+        final ProbeState probeState = new ProbeState();
+        if (probes.putIfAbsent(eventLoop, probeState) == null) {
+            probe(eventLoop, probeState);
+        }
+    }
+
+    /**
+     * Extracts event loop number from thread name (e.g. "vert.x-eventloop-thread-3"), so it can be used in metric
+     * names.
+     */
+    static String eventLoopName(String threadName) {
+        final String number = StringUtils.substringAfterLast(threadName, "-");
+        return StringUtils.isNumeric(number) ? number : threadName;
+    }
+
+    /**
+     * Returns number of event loop to sort event loops by, the ones without number go last.
+     */
+    private static long eventLoopNumber(String eventLoop) {
+        return NumberUtils.toLong(eventLoop, Long.MAX_VALUE);
+    }
+
+    private void probe(String eventLoop, ProbeState probeState) {
+        final long expectedTime = clock.millis() + intervalMs;
+        probeState.expectedTime = expectedTime;
+        vertx.setTimer(intervalMs, ignored -> {
+            final long lag = Math.max(0, clock.millis() - expectedTime);
+            probeState.lastLag = lag;
+            metrics.updateEventLoopLagMetric(eventLoop, lag);
+            probe(eventLoop, probeState);
+        });
+    }
+
+    /**
+     * Returns the current lag in milliseconds of each probed event loop sorted by event loop number.
+     */
+    public Map<String, Long> lags() {
+        final long now = clock.millis();
+        final Map<String, Long> lags = new TreeMap<>(EVENT_LOOP_COMPARATOR);
+        probes.forEach((eventLoop, probeState) -> lags.put(eventLoop, probeState.lag(now)));
+        return lags;
+    }
+
+    /**
+     * Returns the current lag in milliseconds of event loop of the current thread or zero if it is not probed.
+     */
+    public long currentEventLoopLag() {
+        final ProbeState probeState = probes.get(eventLoopName(Thread.currentThread().getName()));
+        return probeState != null ? probeState.lag(clock.millis()) : 0L;
+    }
+
+    /**
+     * Returns the current lag in milliseconds of the most lagging event loop.
+     */
+    public long maxLag() {
+        final long now = clock.millis();
+        return probes.values().stream().mapToLong(probeState -> probeState.lag(now)).max().orElse(0L);
+    }
+
+    /**
+     * Lag of the last fired timer and the time the next one is expected to fire.
+     */
+    private static class ProbeState {
+
+        volatile long lastLag;
+        volatile long expectedTime = Long.MAX_VALUE;
+
+        long lag(long now) {
+            return Math.max(lastLag, now - expectedTime);
+        }
+    }
+}
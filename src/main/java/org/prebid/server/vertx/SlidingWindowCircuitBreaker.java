@@ -0,0 +1,216 @@
+package org.prebid.server.vertx;
+
+import io.vertx.circuitbreaker.OpenCircuitException;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free {@link CircuitBreaker} counting failures in sliding window of time buckets.
+ * <p>
+ * All state transitions are made with atomic operations on the calling thread, so failures never leave
+ * the event loop (unlike {@link VertxCircuitBreaker} which resets its counter on a worker thread).
+ * Open circuit switches to half-open lazily by the first call made after closing interval.
+ * <p>
+ * Window is split into {@value #BUCKETS} buckets, so failures expire with granularity of
+ * opening interval divided by buckets count.
+ */
+public class SlidingWindowCircuitBreaker implements CircuitBreaker {
+
+    private static final int BUCKETS = 10;
+
+    private final int openingThreshold;
+    private final long closingIntervalMs;
+    private final long bucketSizeMs;
+    private final Clock clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.closed());
+    private final AtomicLongArray bucketEpochs = new AtomicLongArray(BUCKETS);
+    private final AtomicIntegerArray bucketFailures = new AtomicIntegerArray(BUCKETS);
+
+    private volatile Handler<Void> openHandler;
+    private volatile Handler<Void> halfOpenHandler;
+    private volatile Handler<Void> closeHandler;
+
+    public SlidingWindowCircuitBreaker(int openingThreshold, long openingIntervalMs, long closingIntervalMs,
+                                       Clock clock) {
+        if (openingThreshold < 1) {
+            throw new IllegalArgumentException("Opening threshold should be positive");
+        }
+
+        this.openingThreshold = openingThreshold;
+        this.closingIntervalMs = closingIntervalMs;
+        this.bucketSizeMs = Math.max(openingIntervalMs / BUCKETS, 1L);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public <T> Future<T> execute(Handler<Promise<T>> command) {
+        final State currentState = state.get();
+        final boolean trial;
+        switch (currentState.status) {
+            case OPEN:
+                trial = tryHalfOpen(currentState);
+                if (!trial) {
+                    return Future.failedFuture(OpenCircuitException.INSTANCE);
+                }
+                break;
+            case HALF_OPEN:
+                // only single trial call is allowed in half-open state
+                return Future.failedFuture(OpenCircuitException.INSTANCE);
+            case CLOSED:
+            default:
+                trial = false;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        try {
+            command.handle(promise);
+        } catch (Exception e) {
+            promise.tryFail(e);
+        }
+
+        return promise.future().map(result -> {
+            if (trial) {
+                closeCircuit();
+            }
+            return result;
+        }).recover(exception -> {
+            if (trial) {
+                open();
+            } else {
+                recordFailure();
+            }
+            return Future.failedFuture(exception);
+        });
+    }
+
+    private boolean tryHalfOpen(State openState) {
+        if (clock.millis() - openState.openedAt < closingIntervalMs
+                || !state.compareAndSet(openState, State.halfOpen())) {
+            return false;
+        }
+
+        notify(halfOpenHandler);
+        return true;
+    }
+
+    private void recordFailure() {
+        final long epoch = clock.millis() / bucketSizeMs;
+        final int index = (int) (epoch % BUCKETS);
+
+        final long bucketEpoch = bucketEpochs.get(index);
+        if (bucketEpoch != epoch && bucketEpochs.compareAndSet(index, bucketEpoch, epoch)) {
+            // bucket is reused for the new time frame, failures of the previous one are expired
+            bucketFailures.set(index, 0);
+        }
+        bucketFailures.incrementAndGet(index);
+
+        if (failuresInWindow(epoch) >= openingThreshold) {
+            final State currentState = state.get();
+            if (currentState.status == Status.CLOSED) {
+                open(currentState);
+            }
+        }
+    }
+
+    private int failuresInWindow(long epoch) {
+        int failures = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (epoch - bucketEpochs.get(i) < BUCKETS) {
+                failures += bucketFailures.get(i);
+            }
+        }
+        return failures;
+    }
+
+    private void open() {
+        open(state.get());
+    }
+
+    private void open(State currentState) {
+        if (currentState.status != Status.OPEN && state.compareAndSet(currentState, State.open(clock.millis()))) {
+            notify(openHandler);
+        }
+    }
+
+    private void closeCircuit() {
+        final State currentState = state.get();
+        if (currentState.status == Status.HALF_OPEN && state.compareAndSet(currentState, State.closed())) {
+            for (int i = 0; i < BUCKETS; i++) {
+                bucketFailures.set(i, 0);
+            }
+            notify(closeHandler);
+        }
+    }
+
+    private static void notify(Handler<Void> handler) {
+        if (handler != null) {
+            handler.handle(null);
+        }
+    }
+
+    @Override
+    public CircuitBreaker openHandler(Handler<Void> handler) {
+        openHandler = handler;
+        return this;
+    }
+
+    @Override
+    public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
+        halfOpenHandler = handler;
+        return this;
+    }
+
+    @Override
+    public CircuitBreaker closeHandler(Handler<Void> handler) {
+        closeHandler = handler;
+        return this;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return state.get().status == Status.CLOSED;
+    }
+
+    @Override
+    public void close() {
+        // holds no resources
+    }
+
+    private enum Status {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Immutable state, new instance is created on each transition so it can be compared by reference.
+     */
+    private static class State {
+
+        final Status status;
+        final long openedAt;
+
+        private State(Status status, long openedAt) {
+            this.status = status;
+            this.openedAt = openedAt;
+        }
+
+        static State closed() {
+            return new State(Status.CLOSED, 0L);
+        }
+
+        static State open(long openedAt) {
+            return new State(Status.OPEN, openedAt);
+        }
+
+        static State halfOpen() {
+            return new State(Status.HALF_OPEN, 0L);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.prebid.server.vertx.dns;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches addresses of hosts resolved by {@link DnsLookup}, the cache is shared by all event loops.
+ * <p>
+ * Only hosts known in advance (bidder, cache and settings ones) are resolved, others are left to Vert.x address
+ * resolution, since hosts of templated endpoints come from request data and number of them is not bounded.
+ * <p>
+ * TTL of each answer is clamped to configured bounds. Expired answer is still served (but not longer than configured
+ * stale period) while refresh is in flight, and only one lookup per host is in flight at a time. Once prefetch is
+ * started, hosts are refreshed in background shortly before their answers expire. Each resolution returns the next
+ * address of the answer, so connections are spread across all addresses of the host.
+ */
+public class CachingDnsResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingDnsResolver.class);
+
+    private final Vertx vertx;
+    private final DnsLookup dnsLookup;
+    private final Set<String> hosts;
+    private final long minTtlMs;
+    private final long maxTtlMs;
+    private final long maxStaleMs;
+    private final long refreshAheadMs;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Cache<String, CachedAnswer> answers;
+    private final Map<String, CompletableFuture<CachedAnswer>> lookups = new ConcurrentHashMap<>();
+
+    public CachingDnsResolver(Vertx vertx,
+                              DnsLookup dnsLookup,
+                              Collection<String> hosts,
+                              long minTtlSec,
+                              long maxTtlSec,
+                              long maxStaleSec,
+                              long refreshAheadMs,
+                              Metrics metrics,
+                              Clock clock) {
+
+        if (minTtlSec < 0 || maxTtlSec < minTtlSec) {
+            throw new IllegalArgumentException("TTL bounds should satisfy 0 <= min <= max");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.dnsLookup = Objects.requireNonNull(dnsLookup);
+        this.hosts = new HashSet<>(Objects.requireNonNull(hosts));
+        this.minTtlMs = TimeUnit.SECONDS.toMillis(minTtlSec);
+        this.maxTtlMs = TimeUnit.SECONDS.toMillis(maxTtlSec);
+        this.maxStaleMs = TimeUnit.SECONDS.toMillis(maxStaleSec);
+        this.refreshAheadMs = refreshAheadMs;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        // answer can't be served once its stale period is over, so there is no point to keep it
+        answers = Caffeine.newBuilder()
+                .expireAfterWrite(maxTtlMs + maxStaleMs, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Returns {@link Future} with address of the given host. Cached answer is returned immediately, otherwise
+     * {@link Future} is completed on the caller's context when lookup is done.
+     * <p>
+     * {@link Future} is completed with null right away if host is not known in advance.
+     */
+    public Future<String> resolve(String host) {
+        final String normalizedHost = host.toLowerCase(Locale.ROOT);
+        if (!hosts.contains(normalizedHost)) {
+            return Future.succeededFuture();
+        }
+
+        final long now = clock.millis();
+        final CachedAnswer cachedAnswer = answers.getIfPresent(normalizedHost);
+
+        if (cachedAnswer != null && now < cachedAnswer.expiresAt + maxStaleMs) {
+            if (now >= cachedAnswer.expiresAt) {
+                refresh(normalizedHost);
+            }
+            return Future.succeededFuture(cachedAnswer.nextAddress());
+        }
+
+        final Context context = vertx.getOrCreateContext();
+        final Promise<String> promise = Promise.promise();
+        refresh(normalizedHost).whenComplete((answer, exception) -> context.runOnContext(ignored -> {
+            if (exception != null) {
+                promise.fail(exception);
+            } else {
+                promise.complete(answer.nextAddress());
+            }
+        }));
+
+        return promise.future();
+    }
+
+    /**
+     * Resolves known hosts and keeps their answers fresh by checking them with the given interval.
+     */
+    public void prefetch(long checkIntervalMs) {
+        if (hosts.isEmpty()) {
+            return;
+        }
+
+        refreshExpiring();
+        vertx.setPeriodic(checkIntervalMs, ignored -> refreshExpiring());
+    }
+
+    private void refreshExpiring() {
+        final long now = clock.millis();
+        for (String host : hosts) {
+            final CachedAnswer cachedAnswer = answers.getIfPresent(host);
+            if (cachedAnswer == null || now >= cachedAnswer.expiresAt - refreshAheadMs) {
+                refresh(host);
+            }
+        }
+    }
+
+    /**
+     * Starts lookup of the given host unless there is one in flight already.
+     */
+    private CompletableFuture<CachedAnswer> refresh(String host) {
+        final CompletableFuture<CachedAnswer> lookup = new CompletableFuture<>();
+        final CompletableFuture<CachedAnswer> inFlightLookup = lookups.putIfAbsent(host, lookup);
+        if (inFlightLookup != null) {
+            return inFlightLookup;
+        }
+
+        final long startTime = clock.millis();
+        dnsLookup.lookup(host).setHandler(result -> {
+            final long now = clock.millis();
+            metrics.updateDnsResolveTimeMetric(host, now - startTime);
+            lookups.remove(host);
+
+            final Throwable exception = result.succeeded() && CollectionUtils.isEmpty(result.result().getAddresses())
+                    ? new PreBidException(String.format("No addresses found for host %s", host))
+                    : result.cause();
+
+            if (exception == null) {
+                final CachedAnswer cachedAnswer = toCachedAnswer(result.result(), now);
+                answers.put(host, cachedAnswer);
+                lookup.complete(cachedAnswer);
+            } else {
+                metrics.updateDnsResolveFailedMetric(host);
+                logger.warn("Failed to resolve host {0}: {1}", host, exception.getMessage());
+                lookup.completeExceptionally(exception);
+            }
+        });
+
+        return lookup;
+    }
+
+    private CachedAnswer toCachedAnswer(DnsAnswer dnsAnswer, long now) {
+        final long ttlMs = Math.min(Math.max(TimeUnit.SECONDS.toMillis(dnsAnswer.getTtlSec()), minTtlMs), maxTtlMs);
+        return new CachedAnswer(dnsAnswer.getAddresses(), now + ttlMs);
+    }
+
+    private static class CachedAnswer {
+
+        final List<String> addresses;
+        final long expiresAt;
+        final AtomicInteger counter = new AtomicInteger();
+
+        CachedAnswer(List<String> addresses, long expiresAt) {
+            this.addresses = addresses;
+            this.expiresAt = expiresAt;
+        }
+
+        String nextAddress() {
+            return addresses.get(Math.floorMod(counter.getAndIncrement(), addresses.size()));
+        }
+    }
+}
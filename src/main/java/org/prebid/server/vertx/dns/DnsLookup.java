@@ -0,0 +1,16 @@
+package org.prebid.server.vertx.dns;
+
+import io.vertx.core.Future;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+/**
+ * Resolves host name to its IPv4 addresses.
+ */
+@FunctionalInterface
+public interface DnsLookup {
+
+    /**
+     * Returns {@link Future} completed with addresses of the given host and time they can be cached for.
+     */
+    Future<DnsAnswer> lookup(String host);
+}
@@ -0,0 +1,54 @@
+package org.prebid.server.vertx.dns;
+
+import io.vertx.core.Future;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link DnsLookup} resolving hosts from content of hosts file, the same host may be listed with several addresses.
+ * <p>
+ * Intended for environments without DNS access, only IPv4 entries are taken into account.
+ */
+public class HostsFileDnsLookup implements DnsLookup {
+
+    private final Map<String, List<String>> hostAddresses;
+    private final long ttlSec;
+
+    public HostsFileDnsLookup(String hostsFileContent, long ttlSec) {
+        this.hostAddresses = parse(hostsFileContent);
+        this.ttlSec = ttlSec;
+    }
+
+    private static Map<String, List<String>> parse(String content) {
+        final Map<String, List<String>> result = new HashMap<>();
+        for (String line : content.split("\\r?\\n")) {
+            final int commentIndex = line.indexOf('#');
+            final String[] tokens = (commentIndex != -1 ? line.substring(0, commentIndex) : line).trim().split("\\s+");
+            if (tokens.length < 2 || tokens[0].indexOf(':') != -1) {
+                continue;
+            }
+
+            for (int i = 1; i < tokens.length; i++) {
+                result.computeIfAbsent(tokens[i].toLowerCase(Locale.ROOT), ignored -> new ArrayList<>())
+                        .add(tokens[0]);
+            }
+        }
+        result.replaceAll((host, addresses) -> Collections.unmodifiableList(addresses));
+        return result;
+    }
+
+    @Override
+    public Future<DnsAnswer> lookup(String host) {
+        final List<String> addresses = hostAddresses.get(host.toLowerCase(Locale.ROOT));
+        return addresses != null
+                ? Future.succeededFuture(DnsAnswer.of(addresses, ttlSec))
+                : Future.failedFuture(new PreBidException(String.format("Host %s is not found in hosts file", host)));
+    }
+}
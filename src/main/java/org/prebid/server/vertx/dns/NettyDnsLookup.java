@@ -0,0 +1,126 @@
+package org.prebid.server.vertx.dns;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.AddressedEnvelope;
+import io.netty.handler.codec.dns.DefaultDnsQuestion;
+import io.netty.handler.codec.dns.DnsRawRecord;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponse;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsServerAddressStreamProvider;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.resolver.dns.NoopDnsCache;
+import io.netty.resolver.dns.SequentialDnsServerAddressStreamProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.net.impl.transport.Transport;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link DnsLookup} querying A records from DNS servers, TTL of the answer is the minimal TTL of its records.
+ * <p>
+ * Uses system DNS servers unless servers are given explicitly. Queries are sent over datagram channel of Vert.x
+ * transport, since channel of another transport (e.g. NIO one when native transport is used) can't be registered
+ * on Vert.x event loops.
+ */
+public class NettyDnsLookup implements DnsLookup {
+
+    private static final int DEFAULT_DNS_PORT = 53;
+
+    private final DnsNameResolver resolver;
+
+    public NettyDnsLookup(Vertx vertx, List<String> servers, long queryTimeoutMs) {
+        final Transport transport = ((VertxInternal) vertx).transport();
+        resolver = new DnsNameResolverBuilder(vertx.nettyEventLoopGroup().next())
+                .channelFactory(transport::datagramChannel)
+                .nameServerProvider(nameServerProvider(servers))
+                .resolveCache(NoopDnsCache.INSTANCE)
+                .queryTimeoutMillis(queryTimeoutMs)
+                .build();
+    }
+
+    private static DnsServerAddressStreamProvider nameServerProvider(List<String> servers) {
+        if (CollectionUtils.isEmpty(servers)) {
+            return DnsServerAddressStreamProviders.platformDefault();
+        }
+
+        return new SequentialDnsServerAddressStreamProvider(servers.stream()
+                .map(NettyDnsLookup::toSocketAddress)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Parses server given in "host" or "host:port" form.
+     */
+    private static InetSocketAddress toSocketAddress(String server) {
+        final int portIndex = server.lastIndexOf(':');
+        if (portIndex == -1) {
+            return new InetSocketAddress(server, DEFAULT_DNS_PORT);
+        }
+        return new InetSocketAddress(server.substring(0, portIndex), Integer.parseInt(server.substring(portIndex + 1)));
+    }
+
+    @Override
+    public Future<DnsAnswer> lookup(String host) {
+        final Promise<DnsAnswer> promise = Promise.promise();
+
+        resolver.query(new DefaultDnsQuestion(host, DnsRecordType.A)).addListener(
+                (io.netty.util.concurrent.Future<AddressedEnvelope<DnsResponse, InetSocketAddress>> queryFuture) -> {
+                    if (!queryFuture.isSuccess()) {
+                        promise.fail(queryFuture.cause());
+                        return;
+                    }
+
+                    final AddressedEnvelope<DnsResponse, InetSocketAddress> envelope = queryFuture.getNow();
+                    try {
+                        promise.complete(toDnsAnswer(host, envelope.content()));
+                    } catch (PreBidException e) {
+                        promise.fail(e);
+                    } finally {
+                        envelope.release();
+                    }
+                });
+
+        return promise.future();
+    }
+
+    private static DnsAnswer toDnsAnswer(String host, DnsResponse response) {
+        if (response.code() != DnsResponseCode.NOERROR) {
+            throw new PreBidException(String.format("DNS query for %s failed with code %s", host, response.code()));
+        }
+
+        final List<String> addresses = new ArrayList<>();
+        long ttlSec = Long.MAX_VALUE;
+        for (int i = 0; i < response.count(DnsSection.ANSWER); i++) {
+            final DnsRecord record = response.recordAt(DnsSection.ANSWER, i);
+            if (record.type() == DnsRecordType.A && record instanceof DnsRawRecord) {
+                addresses.add(toAddress(((DnsRawRecord) record).content()));
+                ttlSec = Math.min(ttlSec, record.timeToLive());
+            }
+        }
+
+        if (addresses.isEmpty()) {
+            throw new PreBidException(String.format("DNS query for %s returned no A records", host));
+        }
+        return DnsAnswer.of(addresses, ttlSec);
+    }
+
+    private static String toAddress(ByteBuf content) {
+        final int index = content.readerIndex();
+        return String.format("%d.%d.%d.%d", content.getUnsignedByte(index), content.getUnsignedByte(index + 1),
+                content.getUnsignedByte(index + 2), content.getUnsignedByte(index + 3));
+    }
+}
@@ -0,0 +1,15 @@
+package org.prebid.server.vertx.dns.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.List;
+
+@AllArgsConstructor(staticName = "of")
+@Value
+public class DnsAnswer {
+
+    List<String> addresses;
+
+    long ttlSec;
+}
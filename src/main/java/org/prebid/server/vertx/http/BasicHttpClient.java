@@ -1,38 +1,194 @@
 package org.prebid.server.vertx.http;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.net.SocketAddress;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.prebid.server.exception.ResponseTooLargeException;
+import org.prebid.server.vertx.dns.CachingDnsResolver;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
  */
 public class BasicHttpClient implements HttpClient {
 
+    private static final String HTTP_SCHEME = "http://";
+    private static final String HTTPS_SCHEME = "https://";
+
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final LongConsumer poolWaitTimeConsumer;
+    private final CachingDnsResolver dnsResolver;
+    private final long maxResponseSize;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, null, null);
+    }
+
+    /**
+     * Creates client which reports to the given consumer how long (in milliseconds) each request was waiting for
+     * a pooled connection, i.e. time passed until request has been written to the connection.
+     */
+    public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient,
+                           LongConsumer poolWaitTimeConsumer) {
+        this(vertx, httpClient, poolWaitTimeConsumer, null);
+    }
+
+    /**
+     * Creates client which connects to addresses resolved by the given {@link CachingDnsResolver} instead of
+     * relying on Vert.x address resolution. Requests fall back to the latter if host cannot be resolved.
+     */
+    public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient,
+                           LongConsumer poolWaitTimeConsumer, CachingDnsResolver dnsResolver) {
+        this(vertx, httpClient, poolWaitTimeConsumer, dnsResolver, 0L);
+    }
+
+    /**
+     * Creates client which aborts responses with body larger than the given size (in bytes), the body is counted
+     * while being received so oversized response is never buffered entirely. Zero size means no limit.
+     */
+    public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient,
+                           LongConsumer poolWaitTimeConsumer, CachingDnsResolver dnsResolver, long maxResponseSize) {
+        if (maxResponseSize < 0) {
+            throw new IllegalArgumentException("Max response size should not be negative");
+        }
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.poolWaitTimeConsumer = poolWaitTimeConsumer;
+        this.dnsResolver = dnsResolver;
+        this.maxResponseSize = maxResponseSize;
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
                                               long timeoutMs) {
+        return doRequest(method, url, headers, timeoutMs, (httpClientRequest, writeHandler) -> {
+            if (body != null) {
+                httpClientRequest.end(body, writeHandler);
+            } else {
+                httpClientRequest.end(writeHandler);
+            }
+        });
+    }
+
+    @Override
+    public Future<HttpClientResponse> requestBuffer(HttpMethod method, String url, MultiMap headers, Buffer body,
+                                                    long timeoutMs) {
+        return doRequest(method, url, headers, timeoutMs, (httpClientRequest, writeHandler) -> {
+            if (body != null) {
+                httpClientRequest.end(body, writeHandler);
+            } else {
+                httpClientRequest.end(writeHandler);
+            }
+        });
+    }
+
+    private Future<HttpClientResponse> doRequest(
+            HttpMethod method, String url, MultiMap headers, long timeoutMs,
+            BiConsumer<HttpClientRequest, Handler<AsyncResult<Void>>> requestEnder) {
+
         final Promise<HttpClientResponse> promise = Promise.promise();
 
         if (timeoutMs <= 0) {
             failResponse(new TimeoutException("Timeout has been exceeded"), promise);
+        } else if (dnsResolver == null) {
+            send(method, url, null, headers, timeoutMs, requestEnder, promise);
         } else {
-            final HttpClientRequest httpClientRequest = httpClient.requestAbs(method, url);
+            final long startTime = System.nanoTime();
+            resolveServerAddress(url).setHandler(result -> send(method, url, result.result(), headers,
+                    timeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), requestEnder, promise));
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Returns {@link Future} with resolved address of the given url's host or null if url should be resolved
+     * by Vert.x, which is the case for IP addresses, malformed urls and hosts that failed to resolve.
+     */
+    private Future<SocketAddress> resolveServerAddress(String url) {
+        final SocketAddress unresolvedAddress = unresolvedServerAddress(url);
+        if (unresolvedAddress == null || isIpAddress(unresolvedAddress.host())) {
+            return Future.succeededFuture();
+        }
+
+        final int port = unresolvedAddress.port();
+        return dnsResolver.resolve(unresolvedAddress.host())
+                .map(address -> address != null ? SocketAddress.inetSocketAddress(port, address) : null)
+                .otherwise((SocketAddress) null);
+    }
+
+    /**
+     * Extracts host and port of the given http(s) url or returns null if url is malformed.
+     * <p>
+     * Url is parsed by hand since it happens for each request and {@link java.net.URL} is too heavy for that.
+     */
+    static SocketAddress unresolvedServerAddress(String url) {
+        final int defaultPort;
+        if (url.regionMatches(true, 0, HTTPS_SCHEME, 0, HTTPS_SCHEME.length())) {
+            defaultPort = 443;
+        } else if (url.regionMatches(true, 0, HTTP_SCHEME, 0, HTTP_SCHEME.length())) {
+            defaultPort = 80;
+        } else {
+            return null;
+        }
+
+        final int authorityStart = url.indexOf("://") + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) == -1) {
+            authorityEnd++;
+        }
+
+        final int hostStart = Math.max(url.lastIndexOf('@', authorityEnd - 1) + 1, authorityStart);
+        final int portSeparator = url.lastIndexOf(':', authorityEnd - 1);
+        // colon of IPv6 address is not a port separator
+        final boolean hasPort = portSeparator > hostStart && url.lastIndexOf(']', authorityEnd - 1) < portSeparator;
+        final int hostEnd = hasPort ? portSeparator : authorityEnd;
+        if (hostStart == hostEnd) {
+            return null;
+        }
+
+        final int port;
+        try {
+            port = hasPort ? Integer.parseInt(url.substring(portSeparator + 1, authorityEnd)) : defaultPort;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        return SocketAddress.inetSocketAddress(port, url.substring(hostStart, hostEnd));
+    }
+
+    private static boolean isIpAddress(String host) {
+        return host.indexOf(':') != -1 || StringUtils.containsOnly(host, "0123456789.");
+    }
+
+    private void send(HttpMethod method, String url, SocketAddress serverAddress, MultiMap headers, long timeoutMs,
+                      BiConsumer<HttpClientRequest, Handler<AsyncResult<Void>>> requestEnder,
+                      Promise<HttpClientResponse> promise) {
+
+        if (timeoutMs <= 0) {
+            failResponse(new TimeoutException("Timeout has been exceeded"), promise);
+        } else {
+            final HttpClientRequest httpClientRequest = serverAddress != null
+                    ? httpClient.requestAbs(method, serverAddress, url)
+                    : httpClient.requestAbs(method, url);
 
             // Vert.x HttpClientRequest timeout doesn't aware of case when a part of the response body is received,
             // but remaining part is delayed. So, overall request/response timeout is involved to fix it.
@@ -40,21 +196,31 @@ public class BasicHttpClient implements HttpClient {
 
             httpClientRequest
                     .setFollowRedirects(true)
-                    .handler(response -> handleResponse(response, promise, timerId))
+                    .handler(response -> handleResponse(response, promise, timerId, httpClientRequest))
                     .exceptionHandler(exception -> failResponse(exception, promise, timerId));
 
             if (headers != null) {
                 httpClientRequest.headers().addAll(headers);
             }
 
-            if (body != null) {
-                httpClientRequest.end(body);
-            } else {
-                httpClientRequest.end();
-            }
+            requestEnder.accept(httpClientRequest, writeHandler());
         }
+    }
 
-        return promise.future();
+    /**
+     * Returns handler reporting pool wait time when request is written or null if nobody is interested in it.
+     */
+    private Handler<AsyncResult<Void>> writeHandler() {
+        if (poolWaitTimeConsumer == null) {
+            return null;
+        }
+
+        final long startTime = System.nanoTime();
+        return result -> {
+            if (result.succeeded()) {
+                poolWaitTimeConsumer.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+        };
     }
 
     private void handleTimeout(Promise<HttpClientResponse> promise,
@@ -71,17 +237,50 @@ public class BasicHttpClient implements HttpClient {
     }
 
     private void handleResponse(io.vertx.core.http.HttpClientResponse response,
-                                Promise<HttpClientResponse> promise, long timerId) {
+                                Promise<HttpClientResponse> promise, long timerId,
+                                HttpClientRequest httpClientRequest) {
+        if (maxResponseSize == 0) {
+            response
+                    .bodyHandler(buffer -> successResponse(buffer, response, promise, timerId))
+                    .exceptionHandler(exception -> failResponse(exception, promise, timerId));
+            return;
+        }
+
+        final long contentLength = NumberUtils.toLong(response.getHeader(HttpHeaders.CONTENT_LENGTH), -1L);
+        if (contentLength > maxResponseSize) {
+            abortResponse(promise, timerId, httpClientRequest);
+            return;
+        }
+
+        final Buffer body = Buffer.buffer();
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .handler(chunk -> {
+                    if (body.length() + chunk.length() > maxResponseSize) {
+                        abortResponse(promise, timerId, httpClientRequest);
+                    } else {
+                        body.appendBuffer(chunk);
+                    }
+                })
+                .endHandler(ignored -> successResponse(body, response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
-    private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
+    private void abortResponse(Promise<HttpClientResponse> promise, long timerId,
+                               HttpClientRequest httpClientRequest) {
+        if (!promise.future().isComplete()) {
+            failResponse(new ResponseTooLargeException(
+                    String.format("Response size exceeded limit of %d bytes", maxResponseSize)), promise, timerId);
+
+            // connection is closed to stop receiving the rest of the body
+            httpClientRequest.reset();
+        }
+    }
+
+    private void successResponse(Buffer body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
 
-        promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
+        promise.tryComplete(HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
     }
 
     private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
@@ -0,0 +1,17 @@
+package org.prebid.server.vertx.http;
+
+/**
+ * Defines which part of request URL identifies circuit breaker in {@link CircuitBreakerSecuredHttpClient}.
+ */
+public enum CircuitBreakerGranularity {
+
+    /**
+     * Single circuit breaker per scheme, host and port.
+     */
+    host,
+
+    /**
+     * Circuit breaker per scheme, host, port and path, query string is ignored.
+     */
+    host_path
+}
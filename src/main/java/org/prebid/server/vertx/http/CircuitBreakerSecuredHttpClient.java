@@ -1,8 +1,12 @@
 package org.prebid.server.vertx.http;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -15,23 +19,31 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Clock;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Wrapper over {@link HttpClient} with circuit breaker functionality.
+ * <p>
+ * Circuit breakers are identified by URL prefix extracted without URL parsing according to
+ * {@link CircuitBreakerGranularity} and kept in bounded registry evicting least recently used and idle ones.
+ * Circuit breakers with open circuit are not counted against registry size, so they are never replaced with
+ * closed ones because of other URLs, only expire if idle.
+ * <p>
+ * Recently used prefixes are remembered per thread, so requests to the same endpoint don't extract it again.
  */
 public class CircuitBreakerSecuredHttpClient implements HttpClient {
 
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerSecuredHttpClient.class);
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
+    private static final int RECENT_NAMES_SIZE = 8;
 
     private final Function<String, CircuitBreaker> circuitBreakerCreator;
-    private final Map<String, CircuitBreaker> circuitBreakerByName = new ConcurrentHashMap<>();
+    private final Cache<String, CircuitBreaker> circuitBreakerByName;
+    private final CircuitBreakerGranularity granularity;
+    private final ThreadLocal<RecentNames> recentNames = ThreadLocal.withInitial(RecentNames::new);
 
     private final HttpClient httpClient;
     private final Metrics metrics;
@@ -42,63 +54,197 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                            int openingThreshold,
                                            long openingIntervalMs,
                                            long closingIntervalMs,
+                                           boolean slidingWindowEnabled,
+                                           CircuitBreakerGranularity granularity,
+                                           int maxBreakers,
+                                           long breakerIdleExpireMs,
                                            Clock clock) {
 
-        circuitBreakerCreator = name -> new CircuitBreaker(
+        circuitBreakerCreator = name -> createCircuitBreaker(name, Objects.requireNonNull(vertx), openingThreshold,
+                openingIntervalMs, closingIntervalMs, slidingWindowEnabled, Objects.requireNonNull(clock));
+
+        circuitBreakerByName = Caffeine.newBuilder()
+                .maximumWeight(maxBreakers)
+                .weigher((String name, CircuitBreaker breaker) -> breaker.isClosed() ? 1 : 0)
+                .expireAfterAccess(breakerIdleExpireMs, TimeUnit.MILLISECONDS)
+                // notify synchronously to keep size metric precise
+                .executor(Runnable::run)
+                .removalListener((String name, CircuitBreaker breaker, RemovalCause cause) ->
+                        circuitBreakerRemoved(name, breaker, cause))
+                .build();
+
+        this.granularity = Objects.requireNonNull(granularity);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        logger.info("Initialized HTTP client with Circuit Breaker");
+    }
+
+    private CircuitBreaker createCircuitBreaker(String name, Vertx vertx, int openingThreshold,
+                                                long openingIntervalMs, long closingIntervalMs,
+                                                boolean slidingWindowEnabled, Clock clock) {
+
+        final String id = idFrom(name);
+        final CircuitBreaker circuitBreaker = CircuitBreaker.create(
                 "http-client-circuit-breaker-" + name,
-                Objects.requireNonNull(vertx),
+                vertx,
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
-                Objects.requireNonNull(clock))
-                .openHandler(ignored -> circuitOpened(name))
+                slidingWindowEnabled,
+                clock);
+        circuitBreaker
+                .openHandler(ignored -> circuitOpened(name, id, circuitBreaker))
                 .halfOpenHandler(ignored -> circuitHalfOpened(name))
-                .closeHandler(ignored -> circuitClosed(name));
+                .closeHandler(ignored -> circuitClosed(name, id, circuitBreaker));
 
-        this.httpClient = Objects.requireNonNull(httpClient);
-        this.metrics = Objects.requireNonNull(metrics);
+        metrics.updateHttpClientCircuitBreakersMetric(true);
+        return circuitBreaker;
+    }
 
-        logger.info("Initialized HTTP client with Circuit Breaker");
+    /**
+     * Releases timers of removed circuit breaker and withdraws it from metrics, including opened circuits one if it
+     * was not closed. New circuit breaker starts closed if the same URL is requested again.
+     * <p>
+     * Replacement is not a removal, circuit breaker is replaced by itself only to update its weight.
+     */
+    private void circuitBreakerRemoved(String name, CircuitBreaker circuitBreaker, RemovalCause cause) {
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+        if (!circuitBreaker.isClosed()) {
+            metrics.updateHttpClientCircuitBreakerMetric(idFrom(name), false);
+        }
+        circuitBreaker.close();
+        metrics.updateHttpClientCircuitBreakersMetric(false);
     }
 
-    private void circuitOpened(String name) {
+    private void circuitOpened(String name, String id, CircuitBreaker circuitBreaker) {
         conditionalLogger.warn(String.format("Http client request to %s is failed, circuit opened.", name),
                 LOG_PERIOD_SECONDS, TimeUnit.SECONDS);
-        metrics.updateHttpClientCircuitBreakerMetric(idFrom(name), true);
+        metrics.updateHttpClientCircuitBreakerMetric(id, true);
+        updateWeight(name, circuitBreaker);
     }
 
     private void circuitHalfOpened(String name) {
         logger.warn("Http client request to {0} will try again, circuit half-opened.", name);
     }
 
-    private void circuitClosed(String name) {
+    private void circuitClosed(String name, String id, CircuitBreaker circuitBreaker) {
         logger.warn("Http client request to {0} becomes succeeded, circuit closed.", name);
-        metrics.updateHttpClientCircuitBreakerMetric(idFrom(name), false);
+        metrics.updateHttpClientCircuitBreakerMetric(id, false);
+        updateWeight(name, circuitBreaker);
+    }
+
+    /**
+     * Makes registry re-evaluate circuit breaker's weight after its circuit has been opened or closed.
+     */
+    private void updateWeight(String name, CircuitBreaker circuitBreaker) {
+        circuitBreakerByName.asMap().replace(name, circuitBreaker, circuitBreaker);
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
                                               long timeoutMs) {
-        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+        return circuitBreakerFor(url)
                 .execute(promise -> httpClient.request(method, url, headers, body, timeoutMs).setHandler(promise));
     }
 
-    private static String nameFrom(String urlAsString) {
-        final URL url = parseUrl(urlAsString);
-        return url.getProtocol() + "://" + url.getHost()
-                + (url.getPort() != -1 ? ":" + url.getPort() : "") + url.getPath();
+    @Override
+    public Future<HttpClientResponse> requestBuffer(HttpMethod method, String url, MultiMap headers, Buffer body,
+                                                    long timeoutMs) {
+        return circuitBreakerFor(url)
+                .execute(promise -> httpClient.requestBuffer(method, url, headers, body, timeoutMs)
+                        .setHandler(promise));
+    }
+
+    @Override
+    public HttpClient unwrap() {
+        return httpClient.unwrap();
     }
 
-    private static String idFrom(String urlAsString) {
-        final URL url = parseUrl(urlAsString);
-        return url.getHost().replaceAll("[^\\w]", "_");
+    private CircuitBreaker circuitBreakerFor(String url) {
+        return circuitBreakerByName.get(recentNames.get().nameFor(url, granularity), circuitBreakerCreator);
+    }
+
+    /**
+     * Returns URL prefix up to the end of authority or path (depending on granularity)
+     * without parsing whole URL.
+     */
+    static String nameFrom(String url, CircuitBreakerGranularity granularity) {
+        final int schemeEnd = url.indexOf("://");
+        if (schemeEnd < 0) {
+            throw new PreBidException(String.format("Invalid url: %s", url));
+        }
+
+        final int authorityEnd = indexOfAny(url, schemeEnd + 3, "/?#");
+        if (authorityEnd == schemeEnd + 3) {
+            throw new PreBidException(String.format("Invalid url: %s", url));
+        }
+
+        final int nameEnd = granularity == CircuitBreakerGranularity.host
+                ? authorityEnd
+                : indexOfAny(url, authorityEnd, "?#");
+        return nameEnd == url.length() ? url : url.substring(0, nameEnd);
     }
 
-    private static URL parseUrl(String url) {
+    /**
+     * Returns true if the given name is the prefix of the given URL according to granularity, i.e. URL continues
+     * after the name with character which terminates the prefix.
+     */
+    static boolean isNameOf(String name, String url, CircuitBreakerGranularity granularity) {
+        if (!url.startsWith(name)) {
+            return false;
+        }
+        if (url.length() == name.length()) {
+            return true;
+        }
+
+        final String terminators = granularity == CircuitBreakerGranularity.host ? "/?#" : "?#";
+        return terminators.indexOf(url.charAt(name.length())) >= 0;
+    }
+
+    private static int indexOfAny(String string, int fromIndex, String chars) {
+        for (int i = fromIndex; i < string.length(); i++) {
+            if (chars.indexOf(string.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return string.length();
+    }
+
+    /**
+     * Returns host with non-word characters replaced to be used as metric id.
+     * <p>
+     * Called once per circuit breaker creation, so URL parsing is affordable here.
+     */
+    private static String idFrom(String name) {
         try {
-            return new URL(url);
+            return new URL(name).getHost().replaceAll("[^\\w]", "_");
         } catch (MalformedURLException e) {
-            throw new PreBidException(String.format("Invalid url: %s", url), e);
+            throw new PreBidException(String.format("Invalid url: %s", name), e);
+        }
+    }
+
+    /**
+     * Remembers a few recently used circuit breaker names, accessed from the owning thread only.
+     */
+    private static class RecentNames {
+
+        final String[] names = new String[RECENT_NAMES_SIZE];
+        int next;
+
+        String nameFor(String url, CircuitBreakerGranularity granularity) {
+            for (String name : names) {
+                if (name != null && isNameOf(name, url, granularity)) {
+                    return name;
+                }
+            }
+
+            final String name = nameFrom(url, granularity);
+            names[next] = name;
+            next = (next + 1) % names.length;
+            return name;
         }
     }
 }
@@ -2,6 +2,7 @@ package org.prebid.server.vertx.http;
 
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
@@ -13,6 +14,24 @@ public interface HttpClient {
 
     Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body, long timeoutMs);
 
+    /**
+     * Same as {@link #request(HttpMethod, String, MultiMap, String, long)}, but takes already encoded body.
+     * <p>
+     * Implementations should write given bytes as is, default one falls back to {@link String} body.
+     */
+    default Future<HttpClientResponse> requestBuffer(HttpMethod method, String url, MultiMap headers, Buffer body,
+                                                     long timeoutMs) {
+        return request(method, url, headers, body != null ? body.toString() : null, timeoutMs);
+    }
+
+    /**
+     * Returns client actually sending requests, bypassing additional behavior (like circuit breaker) of wrapping
+     * clients. Meant for service requests which should not affect that behavior, like connection warm-up.
+     */
+    default HttpClient unwrap() {
+        return this;
+    }
+
     default Future<HttpClientResponse> get(String url, MultiMap headers, long timeoutMs) {
         return request(HttpMethod.GET, url, headers, null, timeoutMs);
     }
@@ -0,0 +1,105 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Opens connections to the given endpoints in advance, so first requests don't pay for TCP and TLS handshakes.
+ * <p>
+ * Connections are opened by sending concurrent HEAD requests, which makes HTTP client pool of the current
+ * Vert.x context establish up to given number of connections to each endpoint. The same is periodically
+ * repeated to refill connections evicted from the pool, if keep interval is configured.
+ * <p>
+ * Requests are sent with unwrapped {@link HttpClient}, so their failures don't open circuit breakers.
+ */
+public class HttpConnectionWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpConnectionWarmer.class);
+
+    private final Vertx vertx;
+    private final List<WarmUpEndpoint> endpoints;
+    private final int connections;
+    private final long timeoutMs;
+    private final long keepIntervalMs;
+
+    public HttpConnectionWarmer(Vertx vertx, List<WarmUpEndpoint> endpoints, int connections, long timeoutMs,
+                                long keepIntervalMs) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("Number of connections should be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.endpoints = Objects.requireNonNull(endpoints);
+        this.connections = connections;
+        this.timeoutMs = timeoutMs;
+        this.keepIntervalMs = keepIntervalMs;
+    }
+
+    /**
+     * Warms up connections of the current Vert.x context and schedules periodic refill of them.
+     * <p>
+     * Returned {@link Future} always succeeds since unreachable endpoint should not prevent server from starting.
+     */
+    public Future<Void> warmUpAndKeep() {
+        return warmUp().map(ignored -> {
+            if (keepIntervalMs > 0) {
+                vertx.setPeriodic(keepIntervalMs, timerId -> warmUp());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Sends configured number of concurrent requests to each endpoint and waits for all of them to complete.
+     */
+    Future<Void> warmUp() {
+        final AtomicInteger failed = new AtomicInteger();
+        final List<Future> requestFutures = new ArrayList<>(endpoints.size() * connections);
+
+        for (WarmUpEndpoint endpoint : endpoints) {
+            final HttpClient httpClient = endpoint.getHttpClientSupplier().get().unwrap();
+            for (int i = 0; i < connections; i++) {
+                requestFutures.add(httpClient.request(HttpMethod.HEAD, endpoint.getUrl(), null, null, timeoutMs)
+                        .recover(exception -> {
+                            failed.incrementAndGet();
+                            logger.debug("Connection warm-up request to {0} failed: {1}", endpoint.getUrl(),
+                                    exception.getMessage());
+                            return Future.succeededFuture();
+                        }));
+            }
+        }
+
+        return CompositeFuture.join(requestFutures).map(ignored -> {
+            if (failed.get() > 0) {
+                logger.warn("{0} of {1} connection warm-up requests failed", failed.get(), requestFutures.size());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Endpoint to warm up connections to along with {@link HttpClient} owning connection pool.
+     * <p>
+     * Client is resolved on each warm-up, since clients are bound to Vert.x context.
+     */
+    @AllArgsConstructor(staticName = "of")
+    @Value
+    public static class WarmUpEndpoint {
+
+        String url;
+
+        Supplier<HttpClient> httpClientSupplier;
+    }
+}
@@ -1,6 +1,8 @@
 package org.prebid.server.vertx.http.model;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Value;
 
@@ -8,8 +10,10 @@ import lombok.Value;
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body is kept as received {@link Buffer} and decoded to {@link String} only on demand.
  */
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Value
 public class HttpClientResponse {
 
@@ -18,4 +22,21 @@ public class HttpClientResponse {
     MultiMap headers;
 
     String body;
+
+    Buffer bodyBuffer;
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, body, null);
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer bodyBuffer) {
+        return new HttpClientResponse(statusCode, headers, null, bodyBuffer);
+    }
+
+    /**
+     * Returns response body as {@link String}, decoding received bytes on each call if needed.
+     */
+    public String getBody() {
+        return body == null && bodyBuffer != null ? bodyBuffer.toString() : body;
+    }
 }
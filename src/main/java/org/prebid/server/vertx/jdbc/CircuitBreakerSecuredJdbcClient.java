@@ -31,10 +31,11 @@ public class CircuitBreakerSecuredJdbcClient implements JdbcClient {
 
     public CircuitBreakerSecuredJdbcClient(Vertx vertx, JdbcClient jdbcClient, Metrics metrics,
                                            int openingThreshold, long openingIntervalMs, long closingIntervalMs,
-                                           Clock clock) {
+                                           boolean slidingWindowEnabled, Clock clock) {
 
-        breaker = new CircuitBreaker("jdbc-client-circuit-breaker", Objects.requireNonNull(vertx),
-                openingThreshold, openingIntervalMs, closingIntervalMs, Objects.requireNonNull(clock))
+        breaker = CircuitBreaker.create("jdbc-client-circuit-breaker", Objects.requireNonNull(vertx),
+                openingThreshold, openingIntervalMs, closingIntervalMs, slidingWindowEnabled,
+                Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
                 .closeHandler(ignored -> circuitClosed());
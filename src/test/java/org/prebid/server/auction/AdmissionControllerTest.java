@@ -0,0 +1,154 @@
+package org.prebid.server.auction;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.EventLoopLagProbe;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AdmissionControllerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private EventLoopLagProbe eventLoopLagProbe;
+    @Mock
+    private Metrics metrics;
+
+    private AdmissionController admissionController;
+
+    @Before
+    public void setUp() {
+        admissionController = new AdmissionController(4, 100L, 0.5, singleton("/openrtb2/amp"), singleton("premium"),
+                eventLoopLagProbe, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxInFlight() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdmissionController(0, 100L, 0.5, emptySet(),
+                emptySet(), eventLoopLagProbe, metrics));
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidStandardShare() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdmissionController(4, 100L, 1.5, emptySet(),
+                emptySet(), eventLoopLagProbe, metrics));
+    }
+
+    @Test
+    public void tryAdmitShouldShedStandardAuctionOnceItsShareOfInFlightIsReached() {
+        // given
+        admissionController.tryAdmit("/openrtb2/auction", null);
+        admissionController.tryAdmit("/openrtb2/auction", "account");
+
+        // when
+        final AdmissionController.Permit permit = admissionController.tryAdmit("/openrtb2/auction", "account");
+
+        // then
+        assertThat(permit).isNull();
+        assertThat(admissionController.inFlight()).isEqualTo(2);
+        verify(metrics, times(2)).updateAdmissionMetric("standard", MetricName.admitted);
+        verify(metrics).updateAdmissionMetric("standard", MetricName.shed);
+    }
+
+    @Test
+    public void tryAdmitShouldAdmitPremiumAuctionsUpToMaxInFlight() {
+        // given
+        admissionController.tryAdmit("/openrtb2/auction", null);
+        admissionController.tryAdmit("/openrtb2/auction", null);
+
+        // when
+        final AdmissionController.Permit accountPermit = admissionController.tryAdmit("/openrtb2/auction", "premium");
+        final AdmissionController.Permit endpointPermit = admissionController.tryAdmit("/openrtb2/amp", null);
+        final AdmissionController.Permit shedPermit = admissionController.tryAdmit("/openrtb2/amp", "premium");
+
+        // then
+        assertThat(accountPermit).isNotNull();
+        assertThat(endpointPermit).isNotNull();
+        assertThat(shedPermit).isNull();
+        verify(metrics, times(2)).updateAdmissionMetric("premium", MetricName.admitted);
+        verify(metrics).updateAdmissionMetric("premium", MetricName.shed);
+    }
+
+    @Test
+    public void releaseShouldFreePlaceOfAuctionOnlyOnce() {
+        // given
+        final AdmissionController.Permit permit = admissionController.tryAdmit("/openrtb2/auction", null);
+        admissionController.tryAdmit("/openrtb2/auction", null);
+
+        // when
+        permit.release();
+        permit.release();
+
+        // then
+        assertThat(admissionController.inFlight()).isEqualTo(1);
+        assertThat(admissionController.tryAdmit("/openrtb2/auction", null)).isNotNull();
+    }
+
+    @Test
+    public void tryAdmitShouldShedStandardAuctionOnceItsShareOfQueueDelayIsPassed() {
+        // given
+        given(eventLoopLagProbe.currentEventLoopLag()).willReturn(60L);
+
+        // when
+        final AdmissionController.Permit standardPermit = admissionController.tryAdmit("/openrtb2/auction", null);
+        final AdmissionController.Permit premiumPermit = admissionController.tryAdmit("/openrtb2/amp", null);
+
+        // then
+        assertThat(standardPermit).isNull();
+        assertThat(premiumPermit).isNotNull();
+    }
+
+    @Test
+    public void tryAdmitShouldShedAnyAuctionOnceMaxQueueDelayIsPassed() {
+        // given
+        given(eventLoopLagProbe.currentEventLoopLag()).willReturn(101L);
+
+        // when
+        final AdmissionController.Permit permit = admissionController.tryAdmit("/openrtb2/amp", "premium");
+
+        // then
+        assertThat(permit).isNull();
+        assertThat(admissionController.inFlight()).isZero();
+    }
+
+    @Test
+    public void tryAdmitShouldReportQueueDelayOfCurrentEventLoop() {
+        // given
+        given(eventLoopLagProbe.currentEventLoopLag()).willReturn(20L);
+
+        // when
+        admissionController.tryAdmit("/openrtb2/auction", null);
+
+        // then
+        verify(metrics).updateAdmissionQueueDelayMetric(20L);
+    }
+
+    @Test
+    public void tryAdmitShouldNotCheckQueueDelayWhenEventLoopLagIsNotProbed() {
+        // given
+        admissionController = new AdmissionController(4, 100L, 0.5, emptySet(), emptySet(), null, metrics);
+
+        // when
+        final AdmissionController.Permit permit = admissionController.tryAdmit("/openrtb2/auction", null);
+
+        // then
+        assertThat(permit).isNotNull();
+        verify(metrics, never()).updateAdmissionQueueDelayMetric(anyLong());
+    }
+}
@@ -74,6 +74,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -132,9 +133,14 @@ public class AuctionRequestFactoryTest extends VertxTest {
     private TimeoutResolver timeoutResolver;
     @Mock
     private TimeoutFactory timeoutFactory;
+    @Mock
+    private StageBudgetAllocator stageBudgetAllocator;
 
+    @SuppressWarnings("unchecked")
     @Before
     public void setUp() {
+        given(stageBudgetAllocator.runWithinBudget(any(), any(), any(), any())).willAnswer(inv ->
+                ((Function<Timeout, Future<?>>) inv.getArgument(3)).apply(inv.getArgument(1)));
         given(interstitialProcessor.process(any())).will(invocationOnMock -> invocationOnMock.getArgument(0));
         given(idGenerator.generateId()).willReturn(null);
 
@@ -166,6 +172,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -207,6 +214,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -246,6 +254,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -294,6 +303,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -338,6 +348,18 @@ public class AuctionRequestFactoryTest extends VertxTest {
         verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
     }
 
+    @Test
+    public void shouldPassRequestStartTimeToAuctionContext() {
+        // given
+        givenValidBidRequest();
+
+        // when
+        final AuctionContext auctionContext = factory.fromRequest(routingContext, 123L).result();
+
+        // then
+        assertThat(auctionContext.getStartTime()).isEqualTo(123L);
+    }
+
     @Test
     public void shouldSetFieldsFromHeadersIfBodyFieldsEmptyForIpv4() {
         // given
@@ -920,6 +942,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -963,6 +986,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -1005,6 +1029,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -1047,6 +1072,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -1115,6 +1141,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -1159,6 +1186,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 ortbTypesResolver,
                 timeoutResolver,
                 timeoutFactory,
+                stageBudgetAllocator,
                 applicationSettings,
                 idGenerator,
                 privacyEnforcementService,
@@ -1556,6 +1584,28 @@ public class AuctionRequestFactoryTest extends VertxTest {
         assertThat(account).isEqualTo(Account.builder().id("accountId").build());
     }
 
+    @Test
+    public void shouldFetchAccountAndResolvePrivacyContextWithinStageBudgets() {
+        // given
+        givenBidRequest(BidRequest.builder()
+                .site(Site.builder()
+                        .publisher(Publisher.builder().id("accountId").build())
+                        .build())
+                .build());
+
+        given(applicationSettings.getAccountById(any(), any()))
+                .willReturn(Future.succeededFuture(Account.builder().id("accountId").build()));
+
+        // when
+        factory.fromRequest(routingContext, 0L);
+
+        // then
+        verify(stageBudgetAllocator).runWithinBudget(eq(StageBudgetAllocator.Stage.account), any(), eq(2000L),
+                any());
+        verify(stageBudgetAllocator).runWithinBudget(eq(StageBudgetAllocator.Stage.privacy), any(), eq(2000L),
+                any());
+    }
+
     @Test
     public void shouldReturnAuctionContextWithEmptyAccountIfItIsMissingInRequest() {
         // given
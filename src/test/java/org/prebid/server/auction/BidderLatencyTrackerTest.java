@@ -0,0 +1,73 @@
+package org.prebid.server.auction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BidderLatencyTrackerTest {
+
+    private Clock clock;
+
+    private BidderLatencyTracker latencyTracker;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+        latencyTracker = new BidderLatencyTracker(60000L, 0L, 3, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BidderLatencyTracker(0L, 0L, 1, clock));
+    }
+
+    @Test
+    public void percentileShouldReturnNullForUnknownBidder() {
+        assertThat(latencyTracker.percentile("bidder", 0.95)).isNull();
+    }
+
+    @Test
+    public void percentileShouldReturnNullIfNotEnoughSamples() {
+        // given
+        latencyTracker.record("bidder", 10L);
+        latencyTracker.record("bidder", 20L);
+
+        // when and then
+        assertThat(latencyTracker.percentile("bidder", 0.95)).isNull();
+    }
+
+    @Test
+    public void percentileShouldReturnResponseTimeAtGivenQuantile() {
+        // given
+        for (long i = 1; i <= 100; i++) {
+            latencyTracker.record("bidder", i);
+        }
+        latencyTracker.record("otherBidder", 500L);
+
+        // when and then
+        assertThat(latencyTracker.percentile("bidder", 0.5)).isBetween(50L, 51L);
+        assertThat(latencyTracker.percentile("bidder", 0.99)).isBetween(99L, 100L);
+    }
+
+    @Test
+    public void percentileShouldNotRefreshSnapshotWithinRefreshInterval() {
+        // given
+        latencyTracker = new BidderLatencyTracker(60000L, 1000L, 1, clock);
+        latencyTracker.record("bidder", 10L);
+        latencyTracker.percentile("bidder", 0.5);
+
+        // when
+        latencyTracker.record("bidder", 1000L);
+        latencyTracker.record("bidder", 1000L);
+
+        // then
+        assertThat(latencyTracker.percentile("bidder", 0.5)).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,129 @@
+package org.prebid.server.auction;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class BidderTimeoutAllocatorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderLatencyTracker latencyTracker;
+    @Mock
+    private Metrics metrics;
+
+    private Timeout timeout;
+
+    private BidderTimeoutAllocator bidderTimeoutAllocator;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeout = new TimeoutFactory(clock).create(500L);
+
+        bidderTimeoutAllocator = new BidderTimeoutAllocator(true, 0.95, 20L, 50L, latencyTracker, metrics);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPercentile() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BidderTimeoutAllocator(true, 1.5, 20L, 50L, latencyTracker, metrics));
+    }
+
+    @Test
+    public void allocateShouldReturnAuctionTimeoutIfDisabled() {
+        // given
+        bidderTimeoutAllocator = new BidderTimeoutAllocator(false, 0.95, 20L, 50L, latencyTracker, metrics);
+
+        // when and then
+        assertThat(bidderTimeoutAllocator.allocate("bidder", timeout)).isSameAs(timeout);
+        verifyZeroInteractions(latencyTracker, metrics);
+    }
+
+    @Test
+    public void allocateShouldReturnAuctionTimeoutIfNoResponseTimesKnown() {
+        // given
+        given(latencyTracker.percentile(anyString(), anyDouble())).willReturn(null);
+
+        // when
+        final Timeout result = bidderTimeoutAllocator.allocate("bidder", timeout);
+
+        // then
+        assertThat(result).isSameAs(timeout);
+        verify(metrics).updateAdapterTimeoutBudgetMetric("bidder", 500L);
+    }
+
+    @Test
+    public void allocateShouldReturnPercentilePlusPadding() {
+        // given
+        given(latencyTracker.percentile("bidder", 0.95)).willReturn(80L);
+
+        // when
+        final Timeout result = bidderTimeoutAllocator.allocate("bidder", timeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(100L);
+        verify(metrics).updateAdapterTimeoutBudgetMetric("bidder", 100L);
+    }
+
+    @Test
+    public void allocateShouldNotGoBelowMinTimeout() {
+        // given
+        given(latencyTracker.percentile(anyString(), anyDouble())).willReturn(5L);
+
+        // when and then
+        assertThat(bidderTimeoutAllocator.allocate("bidder", timeout).remaining()).isEqualTo(50L);
+    }
+
+    @Test
+    public void allocateShouldBeCappedByAuctionTimeout() {
+        // given
+        given(latencyTracker.percentile(anyString(), anyDouble())).willReturn(1000L);
+
+        // when and then
+        assertThat(bidderTimeoutAllocator.allocate("bidder", timeout)).isSameAs(timeout);
+    }
+
+    @Test
+    public void recordResponseTimeShouldPassResponseTimeToTracker() {
+        // when
+        bidderTimeoutAllocator.recordResponseTime("bidder", 42L);
+
+        // then
+        verify(latencyTracker).record("bidder", 42L);
+    }
+
+    @Test
+    public void recordResponseTimeShouldDoNothingIfDisabled() {
+        // given
+        bidderTimeoutAllocator = new BidderTimeoutAllocator(false, 0.95, 20L, 50L, latencyTracker, metrics);
+
+        // when
+        bidderTimeoutAllocator.recordResponseTime("bidder", 42L);
+
+        // then
+        verify(latencyTracker, never()).record(anyString(), anyLong());
+    }
+}
@@ -21,6 +21,7 @@ import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.apache.commons.collections4.MapUtils;
 import org.junit.Before;
 import org.junit.Rule;
@@ -43,12 +44,14 @@ import org.prebid.server.bidder.Usersyncer;
 import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.cache.CacheRequestTimeEstimator;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.ExtPrebid;
@@ -109,6 +112,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -120,6 +124,7 @@ import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -144,6 +149,10 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private HttpBidderRequester httpBidderRequester;
     @Mock
+    private BidderTimeoutAllocator bidderTimeoutAllocator;
+    @Mock
+    private StageBudgetAllocator stageBudgetAllocator;
+    @Mock
     private ResponseBidValidator responseBidValidator;
     @Mock
     private CurrencyConversionService currencyService;
@@ -154,6 +163,8 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private Metrics metrics;
     @Mock
+    private AggregatedErrorLogger errorLogger;
+    @Mock
     private UidsCookie uidsCookie;
 
     private Clock clock;
@@ -199,21 +210,30 @@ public class ExchangeServiceTest extends VertxTest {
         given(storedResponseProcessor.mergeWithBidderResponses(any(), any(), any())).willAnswer(
                 inv -> inv.getArgument(0));
 
+        given(bidderTimeoutAllocator.allocate(any(), any())).willAnswer(inv -> inv.getArgument(1));
+        given(stageBudgetAllocator.runWithinBudget(any(), any(), any(), any())).willAnswer(inv ->
+                ((Function<Timeout, Future<?>>) inv.getArgument(3)).apply(inv.getArgument(1)));
+
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         timeout = new TimeoutFactory(clock).create(500);
 
         exchangeService = new ExchangeService(
                 0,
+                null,
                 bidderCatalog,
                 storedResponseProcessor,
                 privacyEnforcementService,
                 fpdResolver,
                 httpBidderRequester,
+                bidderTimeoutAllocator,
+                stageBudgetAllocator,
+                null,
                 responseBidValidator,
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 metrics,
+                errorLogger,
                 clock,
                 jacksonMapper);
     }
@@ -223,16 +243,21 @@ public class ExchangeServiceTest extends VertxTest {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> new ExchangeService(
                         -1,
+                        null,
                         bidderCatalog,
                         storedResponseProcessor,
                         privacyEnforcementService,
                         fpdResolver,
                         httpBidderRequester,
+                        bidderTimeoutAllocator,
+                        stageBudgetAllocator,
+                        null,
                         responseBidValidator,
                         currencyService,
                         bidResponseCreator,
                         bidResponsePostProcessor,
                         metrics,
+                        errorLogger,
                         clock,
                         jacksonMapper));
     }
@@ -377,14 +402,14 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder1), bidRequest1Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder1), any(), bidRequest1Captor.capture(), any(), anyBoolean());
         final BidRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         assertThat(capturedBidRequest1.getImp()).hasSize(2)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .containsOnly(1, 3);
 
         final ArgumentCaptor<BidRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder2), bidRequest2Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder2), any(), bidRequest2Captor.capture(), any(), anyBoolean());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue();
         assertThat(capturedBidRequest2.getImp()).hasSize(1)
                 .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
@@ -413,14 +438,14 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder1), bidRequest1Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder1), any(), bidRequest1Captor.capture(), any(), anyBoolean());
         assertThat(bidRequest1Captor.getValue().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("prebid"))
                 .containsOnly(mapper.createObjectNode().set("bidder",
                         mapper.createObjectNode().put("somefield", "bidder1")));
 
         final ArgumentCaptor<BidRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder2), bidRequest2Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder2), any(), bidRequest2Captor.capture(), any(), anyBoolean());
         assertThat(bidRequest2Captor.getValue().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("prebid"))
                 .containsOnly(mapper.createObjectNode().set("bidder",
@@ -456,7 +481,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder1), bidRequest1Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder1), any(), bidRequest1Captor.capture(), any(), anyBoolean());
 
         final BidRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         final ExtRequestPrebid prebid1 = capturedBidRequest1.getExt().getPrebid();
@@ -467,7 +492,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .containsOnly(entry("bidder", mapper.createObjectNode().put("test1", "test1")));
 
         final ArgumentCaptor<BidRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder2), bidRequest2Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder2), any(), bidRequest2Captor.capture(), any(), anyBoolean());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue();
         final ExtRequestPrebid prebid2 = capturedBidRequest2.getExt().getPrebid();
         assertThat(prebid2).isNotNull();
@@ -522,7 +547,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder1), bidRequest1Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder1), any(), bidRequest1Captor.capture(), any(), anyBoolean());
         final BidRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         ExtSource extSource = capturedBidRequest1.getSource().getExt();
         ExtRequestPrebidSchainSchain requestSchain1 = extSource.getSchain();
@@ -531,7 +556,7 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(capturedBidRequest1.getExt().getPrebid().getSchains()).isNull();
 
         final ArgumentCaptor<BidRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder2), bidRequest2Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder2), any(), bidRequest2Captor.capture(), any(), anyBoolean());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue();
         ExtRequestPrebidSchainSchain requestSchain2 = extSource.getSchain();
         assertThat(requestSchain2).isNotNull();
@@ -539,7 +564,7 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(capturedBidRequest2.getExt().getPrebid().getSchains()).isNull();
 
         final ArgumentCaptor<BidRequest> bidRequest3Captor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder3), bidRequest3Captor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder3), any(), bidRequest3Captor.capture(), any(), anyBoolean());
         final BidRequest capturedBidRequest3 = bidRequest3Captor.getValue();
         ExtRequestPrebidSchainSchain requestSchain3 = extSource.getSchain();
         assertThat(requestSchain3).isNotNull();
@@ -573,7 +598,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         assertThat(bidRequestCaptor.getValue().getSource()).isNull();
     }
 
@@ -642,7 +667,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(same(bidder), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         assertThat(bidRequestCaptor.getValue().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .contains(1);
@@ -666,7 +691,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(same(bidder), bidRequestCaptor.capture(), any(),
+        verify(httpBidderRequester, times(2)).requestBids(same(bidder), any(), bidRequestCaptor.capture(), any(),
                 anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
@@ -694,7 +719,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnSeparateSeatBidsForTheSameBidderIfBiddersAliasAndBidderWereUsedWithingSingleImp() {
         // given
-        given(httpBidderRequester.requestBids(any(),
+        given(httpBidderRequester.requestBids(any(), any(),
                 eq(givenBidRequest(givenSingleImp(mapper.valueToTree(ExtPrebid.of(null, 1))),
                         builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                                 .auctiontimestamp(1000L)
@@ -702,7 +727,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBid(Bid.builder().price(BigDecimal.ONE).build())))));
 
-        given(httpBidderRequester.requestBids(any(),
+        given(httpBidderRequester.requestBids(any(), any(),
                 eq(givenBidRequest(givenSingleImp(mapper.valueToTree(ExtPrebid.of(null, 2))),
                         builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                                 .auctiontimestamp(1000L)
@@ -727,7 +752,7 @@ public class ExchangeServiceTest extends VertxTest {
         final BidResponse bidResponse = exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
 
         // then
-        verify(httpBidderRequester, times(2)).requestBids(any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2)).requestBids(any(), any(), any(), any(), anyBoolean());
         assertThat(bidResponse.getSeatbid()).hasSize(2)
                 .extracting(seatBid -> seatBid.getBid().size())
                 .containsOnly(1, 1);
@@ -1199,7 +1224,7 @@ public class ExchangeServiceTest extends VertxTest {
                 builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                         .data(ExtRequestPrebidData.of(singletonList("someBidder")))
                         .build())));
-        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBid(Bid.builder().price(TEN).build())))));
 
@@ -1208,7 +1233,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         assertThat(bidRequestCaptor.getAllValues())
                 .flatExtracting(BidRequest::getImp)
                 .extracting(Imp::getExt)
@@ -1301,7 +1327,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         final ExtUser maskedExtUser = ExtUser.builder().digitrust(extUserDigiTrust).eids(eids).build();
@@ -1338,7 +1365,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidRequest::getUser)
@@ -1376,7 +1403,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         final ExtUser expectedExtUser = ExtUser.builder().digitrust(extUserDigiTrust).eids(eids).build();
@@ -1415,7 +1443,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1453,7 +1482,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1487,7 +1517,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1524,7 +1555,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester, times(2)).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester, times(2))
+                .requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1597,7 +1629,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1644,7 +1676,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1685,7 +1717,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         final List<BidRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -1738,7 +1770,98 @@ public class ExchangeServiceTest extends VertxTest {
         exchangeService.holdAuction(givenRequestContext(bidRequest));
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), same(timeout), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), any(), same(timeout), anyBoolean());
+    }
+
+    @Test
+    public void shouldPassTimeoutAllocatedForBidderToConnectorAndRecordResponseTime() {
+        // given
+        givenBidder(givenEmptySeatBid());
+
+        final Timeout bidderTimeout = timeout.minus(300L);
+        given(bidderTimeoutAllocator.allocate(eq("someBidder"), same(timeout))).willReturn(bidderTimeout);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(httpBidderRequester).requestBids(any(), any(), any(), same(bidderTimeout), anyBoolean());
+        verify(bidderTimeoutAllocator).recordResponseTime(eq("someBidder"), anyLong());
+    }
+
+    @Test
+    public void shouldRecordAtLeastAllocatedTimeoutAsResponseTimeWhenBidderTimedOut() {
+        // given
+        givenBidder(BidderSeatBid.of(emptyList(), emptyList(), singletonList(BidderError.timeout("Timed out"))));
+
+        given(bidderTimeoutAllocator.allocate(eq("someBidder"), same(timeout))).willReturn(timeout.minus(300L));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderTimeoutAllocator).recordResponseTime(eq("someBidder"), eq(200L));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldProceedWithoutLateBiddersWhenAuctionCompletionTrackerAllowsAndRecordLateResponses() {
+        // given
+        final Promise<Void> completionPromise = Promise.promise();
+        final AuctionCompletionTracker completionTracker = mock(AuctionCompletionTracker.class);
+        given(completionTracker.future()).willReturn(completionPromise.future());
+
+        exchangeService = new ExchangeService(
+                0,
+                null,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                httpBidderRequester,
+                bidderTimeoutAllocator,
+                stageBudgetAllocator,
+                bidderRequests -> completionTracker,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                errorLogger,
+                clock,
+                jacksonMapper);
+
+        final Bidder<?> lateBidder = mock(Bidder.class);
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        doReturn(lateBidder).when(bidderCatalog).bidderByName(eq("bidder2"));
+        final Promise<BidderSeatBid> lateBidderPromise = Promise.promise();
+        given(httpBidderRequester.requestBids(same(lateBidder), any(), any(), any(), anyBoolean()))
+                .willReturn(lateBidderPromise.future());
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(singletonMap("bidder1", 1), identity()),
+                givenImp(singletonMap("bidder2", 2), identity())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+        completionPromise.complete();
+        lateBidderPromise.complete(givenEmptySeatBid());
+
+        // then
+        final ArgumentCaptor<List<BidderResponse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bidResponseCreator).create(captor.capture(), any(), any(), anyBoolean());
+        assertThat(captor.getValue()).containsOnly(
+                BidderResponse.of("bidder1", givenEmptySeatBid(), 0),
+                BidderResponse.of("bidder2", BidderSeatBid.of(emptyList(), emptyList(), singletonList(
+                        BidderError.timeout("Auction has been closed before bidder responded"))), 0));
+
+        verify(completionTracker).processBidderResponse(any());
+        verify(metrics).updateAuctionEarlyClosedMetric();
+        verify(metrics).updateAdapterLateResponseMetric("bidder2");
     }
 
     @Test
@@ -1746,16 +1869,21 @@ public class ExchangeServiceTest extends VertxTest {
         // given
         exchangeService = new ExchangeService(
                 100,
+                null,
                 bidderCatalog,
                 storedResponseProcessor,
                 privacyEnforcementService,
                 fpdResolver,
                 httpBidderRequester,
+                bidderTimeoutAllocator,
+                stageBudgetAllocator,
+                null,
                 responseBidValidator,
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 metrics,
+                errorLogger,
                 clock,
                 jacksonMapper);
 
@@ -1776,11 +1904,54 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
-        verify(httpBidderRequester).requestBids(any(), any(), timeoutCaptor.capture(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), any(), timeoutCaptor.capture(), anyBoolean());
         assertThat(timeoutCaptor.getValue().remaining()).isEqualTo(400L);
         verify(bidResponseCreator).create(anyList(), any(), any(), anyBoolean());
     }
 
+    @Test
+    public void shouldReduceGlobalTimeoutByEstimatedCacheRequestTime() {
+        // given
+        final CacheRequestTimeEstimator cacheRequestTimeEstimator = mock(CacheRequestTimeEstimator.class);
+        given(cacheRequestTimeEstimator.expectedRequestTime()).willReturn(30L);
+
+        exchangeService = new ExchangeService(
+                100,
+                cacheRequestTimeEstimator,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                httpBidderRequester,
+                bidderTimeoutAllocator,
+                stageBudgetAllocator,
+                null,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                errorLogger,
+                clock,
+                jacksonMapper);
+
+        givenBidder(givenSeatBid(singletonList(givenBid(Bid.builder().price(TEN).build()))));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder1", 1)),
+                builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(givenTargeting(true))
+                        .cache(ExtRequestPrebidCache.of(ExtRequestPrebidCacheBids.of(null, null), null, null))
+                        .build())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(httpBidderRequester).requestBids(any(), any(), any(), timeoutCaptor.capture(), anyBoolean());
+        assertThat(timeoutCaptor.getValue().remaining()).isEqualTo(470L);
+    }
+
     @Test
     public void shouldReturnBidsWithUpdatedPriceCurrencyConversion() {
         // given
@@ -2086,7 +2257,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldIncrementCommonMetrics() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBid(Bid.builder().price(TEN).build())))));
 
@@ -2128,7 +2299,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldUseEmptyStringIfPublisherIdIsEmpty() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBid(Bid.builder().price(TEN).build())))));
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -2141,10 +2312,45 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAccountRequestMetrics(eq(""), eq(MetricName.openrtb2web));
     }
 
+    @Test
+    public void shouldUpdateFirstDispatchTimeMetricOnceMeasuringFromRequestArrival() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
+
+        final Map<String, Integer> bidderToParams = new HashMap<>();
+        bidderToParams.put("bidder1", 1);
+        bidderToParams.put("bidder2", 2);
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(bidderToParams));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest).toBuilder()
+                .startTime(clock.millis() - 100L)
+                .build());
+
+        // then
+        verify(metrics).updateAuctionFirstDispatchTimeMetric(eq(100L));
+        verify(httpBidderRequester, times(2)).requestBids(any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldNotUpdateFirstDispatchTimeMetricIfNoBidderIsCalled() {
+        // given
+        given(bidderCatalog.isValidName(anyString())).willReturn(false);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("invalid", 0)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics, never()).updateAuctionFirstDispatchTimeMetric(anyLong());
+    }
+
     @Test
     public void shouldIncrementNoBidRequestsMetric() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -2159,7 +2365,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldIncrementGotBidsAndErrorMetricsIfBidderReturnsBidAndDifferentErrors() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(BidderSeatBid.of(
                         singletonList(givenBid(Bid.builder().price(TEN).build())),
                         emptyList(),
@@ -2170,6 +2376,7 @@ public class ExchangeServiceTest extends VertxTest {
                                 BidderError.badServerResponse("rubicon error"),
                                 BidderError.failedToRequestBids("rubicon failed to request bids"),
                                 BidderError.timeout("timeout error"),
+                                BidderError.create("too large error", BidderError.Type.response_too_large),
                                 BidderError.generic("timeout error")))));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -2183,6 +2390,7 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.badserverresponse));
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.failedtorequestbids));
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.timeout));
+        verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.response_too_large));
         verify(metrics).updateAdapterRequestErrorMetric(eq("someBidder"), eq(MetricName.unknown_error));
     }
 
@@ -2262,12 +2470,13 @@ public class ExchangeServiceTest extends VertxTest {
                 .account(account)
                 .requestTypeMetric(MetricName.openrtb2web)
                 .timeout(timeout)
+                .startTime(clock.millis())
                 .build();
     }
 
     private BidRequest captureBidRequest() {
         final ArgumentCaptor<BidRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidRequest.class);
-        verify(httpBidderRequester).requestBids(any(), bidRequestCaptor.capture(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(any(), any(), bidRequestCaptor.capture(), any(), anyBoolean());
         return bidRequestCaptor.getValue();
     }
 
@@ -2291,13 +2500,13 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenBidder(BidderSeatBid response) {
-        given(httpBidderRequester.requestBids(any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(response));
     }
 
     private void givenBidder(String bidderName, Bidder<?> bidder, BidderSeatBid response) {
         doReturn(bidder).when(bidderCatalog).bidderByName(eq(bidderName));
-        given(httpBidderRequester.requestBids(same(bidder), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(same(bidder), any(), any(), any(), anyBoolean()))
                 .willReturn(Future.succeededFuture(response));
     }
 
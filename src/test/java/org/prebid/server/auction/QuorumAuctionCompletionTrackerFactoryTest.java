@@ -0,0 +1,106 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.BidderResponse;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class QuorumAuctionCompletionTrackerFactoryTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+
+    private QuorumAuctionCompletionTrackerFactory factory;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        given(vertx.setTimer(anyLong(), any())).willAnswer(invocation -> {
+            ((Handler<Long>) invocation.getArgument(1)).handle(1L);
+            return 1L;
+        });
+
+        factory = new QuorumAuctionCompletionTrackerFactory(0.5, 50L, 3, vertx);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidQuorum() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new QuorumAuctionCompletionTrackerFactory(1.5, 50L, 3, vertx));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveGracePeriod() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new QuorumAuctionCompletionTrackerFactory(0.5, 0L, 3, vertx));
+    }
+
+    @Test
+    public void trackerShouldCompleteAfterGracePeriodWhenQuorumReached() {
+        // given
+        final AuctionCompletionTracker tracker = factory.create(givenBidders(4));
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse());
+        tracker.processBidderResponse(givenBidderResponse());
+
+        // then
+        verify(vertx).setTimer(eq(50L), any());
+        assertThat(tracker.future().succeeded()).isTrue();
+    }
+
+    @Test
+    public void trackerShouldNotCompleteBeforeQuorumReached() {
+        // given
+        final AuctionCompletionTracker tracker = factory.create(givenBidders(4));
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse());
+
+        // then
+        verify(vertx, never()).setTimer(anyLong(), any());
+        assertThat(tracker.future().isComplete()).isFalse();
+    }
+
+    @Test
+    public void trackerShouldWaitForAllBiddersIfLessThanMinBidders() {
+        // given
+        final AuctionCompletionTracker tracker = factory.create(givenBidders(2));
+
+        // when
+        tracker.processBidderResponse(givenBidderResponse());
+        tracker.processBidderResponse(givenBidderResponse());
+
+        // then
+        verify(vertx, never()).setTimer(anyLong(), any());
+        assertThat(tracker.future().isComplete()).isFalse();
+    }
+
+    private static List<String> givenBidders(int count) {
+        return Collections.nCopies(count, "bidder");
+    }
+
+    private static BidderResponse givenBidderResponse() {
+        return BidderResponse.of("bidder", null, 0);
+    }
+}
@@ -0,0 +1,164 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.StageBudget;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class StageBudgetAllocatorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private Timeout timeout;
+
+    private StageBudgetAllocator allocator;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+        timeout = new TimeoutFactory(clock).create(1000L);
+
+        allocator = new StageBudgetAllocator(true,
+                singletonMap(StageBudgetAllocator.Stage.account, StageBudget.of(0.1, 50L)), metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidFraction() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StageBudgetAllocator(true,
+                singletonMap(StageBudgetAllocator.Stage.account, StageBudget.of(1.5, 50L)), metrics, clock));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaximum() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StageBudgetAllocator(true,
+                singletonMap(StageBudgetAllocator.Stage.account, StageBudget.of(0.1, 0L)), metrics, clock));
+    }
+
+    @Test
+    public void runWithinBudgetShouldPassTimeoutLimitedByFractionOfTmax() {
+        // given
+        final AtomicReference<Timeout> stageTimeout = new AtomicReference<>();
+
+        // when
+        allocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, 300L, givenStage(stageTimeout));
+
+        // then
+        assertThat(stageTimeout.get().remaining()).isEqualTo(30L);
+    }
+
+    @Test
+    public void runWithinBudgetShouldPassTimeoutLimitedByMaximum() {
+        // given
+        final AtomicReference<Timeout> stageTimeout = new AtomicReference<>();
+
+        // when
+        allocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, 1000L, givenStage(stageTimeout));
+
+        // then
+        assertThat(stageTimeout.get().remaining()).isEqualTo(50L);
+    }
+
+    @Test
+    public void runWithinBudgetShouldUseRemainingTimeIfTmaxIsNotKnown() {
+        // given
+        final AtomicReference<Timeout> stageTimeout = new AtomicReference<>();
+        given(clock.millis()).willReturn(1800L);
+
+        // when
+        allocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, null, givenStage(stageTimeout));
+
+        // then
+        assertThat(stageTimeout.get().remaining()).isEqualTo(20L);
+    }
+
+    @Test
+    public void runWithinBudgetShouldPassOriginalTimeoutIfStageHasNoBudget() {
+        // given
+        final AtomicReference<Timeout> stageTimeout = new AtomicReference<>();
+
+        // when
+        allocator.runWithinBudget(StageBudgetAllocator.Stage.cache, timeout, 1000L, givenStage(stageTimeout));
+
+        // then
+        assertThat(stageTimeout.get()).isSameAs(timeout);
+    }
+
+    @Test
+    public void runWithinBudgetShouldPassOriginalTimeoutIfDisabled() {
+        // given
+        allocator = new StageBudgetAllocator(false,
+                singletonMap(StageBudgetAllocator.Stage.account, StageBudget.of(0.1, 50L)), metrics, clock);
+        final AtomicReference<Timeout> stageTimeout = new AtomicReference<>();
+
+        // when
+        allocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, 1000L, givenStage(stageTimeout));
+
+        // then
+        assertThat(stageTimeout.get()).isSameAs(timeout);
+    }
+
+    @Test
+    public void runWithinBudgetShouldUpdateOverrunMetricIfStageTookWholeBudget() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final Future<String> result = allocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, 1000L,
+                ignored -> promise.future());
+
+        // when
+        given(clock.millis()).willReturn(1050L);
+        promise.fail("timeout");
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(metrics).updateAuctionStageOverrunMetric("account");
+    }
+
+    @Test
+    public void runWithinBudgetShouldNotUpdateOverrunMetricIfStageCompletedInTime() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        final Future<String> result = allocator.runWithinBudget(StageBudgetAllocator.Stage.account, timeout, 1000L,
+                ignored -> promise.future());
+
+        // when
+        given(clock.millis()).willReturn(1049L);
+        promise.complete("account");
+
+        // then
+        assertThat(result.result()).isEqualTo("account");
+        verify(metrics, never()).updateAuctionStageOverrunMetric(anyString());
+    }
+
+    private static Function<Timeout, Future<String>> givenStage(AtomicReference<Timeout> stageTimeout) {
+        return timeout -> {
+            stageTimeout.set(timeout);
+            return Future.succeededFuture();
+        };
+    }
+}
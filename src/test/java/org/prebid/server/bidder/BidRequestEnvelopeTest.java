@@ -0,0 +1,91 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BidRequestEnvelopeTest extends VertxTest {
+
+    @Test
+    public void encodeShouldProduceSameJsonAsEncodingWholeRequest() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("requestId", singletonList(Imp.builder().id("1").build()));
+        final List<Imp> imps = asList(Imp.builder().id("2").tagid("tagId").build(), Imp.builder().id("3").build());
+
+        // when
+        final BidRequestEnvelope envelope = BidRequestEnvelope.of(jacksonMapper, bidRequest);
+
+        // then
+        assertThat(envelope.encode(imps).toString())
+                .isEqualTo(jacksonMapper.encode(bidRequest.toBuilder().imp(imps).build()));
+    }
+
+    @Test
+    public void encodeShouldFindImpArrayWhenRequestIdLooksLikeImpField() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(",\"imp\":[]", singletonList(Imp.builder().id("1").build()));
+
+        // when
+        final BidRequestEnvelope envelope = BidRequestEnvelope.of(jacksonMapper, bidRequest);
+
+        // then
+        assertThat(envelope.encode(bidRequest.getImp()).toString()).isEqualTo(jacksonMapper.encode(bidRequest));
+    }
+
+    @Test
+    public void encodeShouldHandleRequestWithImpsOnly() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder().imp(singletonList(Imp.builder().id("1").build())).build();
+
+        // when
+        final BidRequestEnvelope envelope = BidRequestEnvelope.of(jacksonMapper, bidRequest);
+
+        // then
+        assertThat(envelope.encode(bidRequest.getImp()).toString()).isEqualTo("{\"imp\":[{\"id\":\"1\"}]}");
+    }
+
+    @Test
+    public void matchesShouldReturnTrueOnlyIfRequestsDifferInImps() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("requestId", singletonList(Imp.builder().id("1").build()));
+        final BidRequestEnvelope envelope = BidRequestEnvelope.of(jacksonMapper, bidRequest);
+
+        // when and then
+        assertThat(envelope.matches(bidRequest.toBuilder().imp(singletonList(Imp.builder().id("2").build())).build()))
+                .isTrue();
+        assertThat(envelope.matches(bidRequest.toBuilder().id("otherId").build())).isFalse();
+    }
+
+    @Test
+    public void matchesShouldReturnFalseIfFieldWasReplacedWithEqualObject() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("requestId", singletonList(Imp.builder().id("1").build()))
+                .toBuilder()
+                .site(Site.builder().domain("domain.com").build())
+                .build();
+        final BidRequestEnvelope envelope = BidRequestEnvelope.of(jacksonMapper, bidRequest);
+
+        // when and then
+        assertThat(envelope.matches(bidRequest.toBuilder().site(Site.builder().domain("domain.com").build()).build()))
+                .isFalse();
+    }
+
+    private static BidRequest givenBidRequest(String id, List<Imp> imps) {
+        return BidRequest.builder()
+                .id(id)
+                .imp(imps)
+                .site(Site.builder().page("http://example.com").build())
+                .device(Device.builder().ua("userAgent").build())
+                .tmax(1000L)
+                .build();
+    }
+}
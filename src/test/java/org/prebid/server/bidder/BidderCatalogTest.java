@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.BidderHttpClientConfig;
 import org.prebid.server.proto.response.BidderInfo;
 
 import static java.util.Collections.emptyList;
@@ -182,6 +183,37 @@ public class BidderCatalogTest {
         assertThat(bidderCatalog.usersyncerByName(BIDDER)).isEqualTo(usersyncer);
     }
 
+    @Test
+    public void httpClientConfigByNameShouldReturnHttpClientConfigForKnownBidder() {
+        // given
+        final BidderHttpClientConfig httpClientConfig = BidderHttpClientConfig.builder().maxPoolSize(10).build();
+        bidderDeps = BidderDeps.builder()
+                .name(BIDDER)
+                .deprecatedNames(emptyList())
+                .aliases(emptyList())
+                .httpClientConfig(httpClientConfig)
+                .build();
+        bidderCatalog = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(bidderCatalog.httpClientConfigByName(BIDDER)).isEqualTo(httpClientConfig);
+    }
+
+    @Test
+    public void endpointByNameShouldReturnEndpointForKnownBidder() {
+        // given
+        bidderDeps = BidderDeps.builder()
+                .name(BIDDER)
+                .deprecatedNames(emptyList())
+                .aliases(emptyList())
+                .endpoint("http://bidder.com/endpoint")
+                .build();
+        bidderCatalog = new BidderCatalog(singletonList(bidderDeps));
+
+        // when and then
+        assertThat(bidderCatalog.endpointByName(BIDDER)).isEqualTo("http://bidder.com/endpoint");
+    }
+
     @Test
     public void usersyncerByNameShouldReturnNullForUnknownBidder() {
         // given
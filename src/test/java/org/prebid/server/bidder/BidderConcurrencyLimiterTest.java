@@ -0,0 +1,86 @@
+package org.prebid.server.bidder;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+public class BidderConcurrencyLimiterTest {
+
+    private BidderConcurrencyLimiter concurrencyLimiter;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        concurrencyLimiter = new BidderConcurrencyLimiter(2, 1, 4, 0.5, 0L, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidLimits() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BidderConcurrencyLimiter(10, 1, 5, 0.5, 0L, Clock.systemUTC()));
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidBackoffRatio() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new BidderConcurrencyLimiter(2, 1, 4, 1.0, 0L, Clock.systemUTC()));
+    }
+
+    @Test
+    public void tryAcquireShouldRejectWhenBidderLimitIsReached() {
+        // when
+        final BidderConcurrencyLimiter.Permit first = concurrencyLimiter.tryAcquire("bidder");
+        final BidderConcurrencyLimiter.Permit second = concurrencyLimiter.tryAcquire("bidder");
+        final BidderConcurrencyLimiter.Permit third = concurrencyLimiter.tryAcquire("bidder");
+        final BidderConcurrencyLimiter.Permit otherBidder = concurrencyLimiter.tryAcquire("other");
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        assertThat(otherBidder).isNotNull();
+    }
+
+    @Test
+    public void releaseShouldDecreaseLimitWhenRequestIsDropped() {
+        // given
+        concurrencyLimiter.tryAcquire("bidder").release(true);
+
+        // when and then
+        assertThat(concurrencyLimiter.limits())
+                .containsOnly(entry("bidder", BidderConcurrencyLimiter.LimitState.of(1, 0)));
+    }
+
+    @Test
+    public void releaseShouldIncreaseLimitWhenUtilizedRequestsSucceed() {
+        // when
+        for (int i = 0; i < 2; i++) {
+            final BidderConcurrencyLimiter.Permit first = concurrencyLimiter.tryAcquire("bidder");
+            final BidderConcurrencyLimiter.Permit second = concurrencyLimiter.tryAcquire("bidder");
+            first.release(false);
+            second.release(false);
+        }
+
+        // then
+        assertThat(concurrencyLimiter.limits())
+                .containsOnly(entry("bidder", BidderConcurrencyLimiter.LimitState.of(3, 0)));
+    }
+
+    @Test
+    public void releaseShouldNotDecreaseLimitBelowMinimum() {
+        // given
+        concurrencyLimiter.tryAcquire("bidder").release(true);
+        concurrencyLimiter.tryAcquire("bidder").release(true);
+
+        // when and then
+        assertThat(concurrencyLimiter.limits())
+                .containsOnly(entry("bidder", BidderConcurrencyLimiter.LimitState.of(1, 0)));
+    }
+}
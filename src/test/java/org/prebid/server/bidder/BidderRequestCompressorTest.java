@@ -0,0 +1,146 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpMethod;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.BidderCompressionConfig;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class BidderRequestCompressorTest {
+
+    private static final String BIDDER = "bidder";
+    private static final String BODY = StringUtils.repeat("{\"imp\":[]}", 100);
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
+
+    private BidderRequestCompressor requestCompressor;
+
+    @Before
+    public void setUp() {
+        given(bidderCatalog.compressionConfigByName(BIDDER))
+                .willReturn(BidderCompressionConfig.of(BidderCompressionConfig.Type.gzip, 100));
+
+        requestCompressor = new BidderRequestCompressor(bidderCatalog, metrics);
+    }
+
+    @Test
+    public void compressionForShouldReturnNullWhenBidderDoesNotCompressRequests() {
+        assertThat(requestCompressor.compressionFor("unknown")).isNull();
+    }
+
+    @Test
+    public void compressBodyShouldGzipBodyAndReportMetrics() throws IOException {
+        // when
+        final Buffer compressed = requestCompressor.compressionFor(BIDDER).compressBody(givenHttpRequest(BODY));
+
+        // then
+        assertThat(decompress(new GZIPInputStream(new ByteArrayInputStream(compressed.getBytes())))).isEqualTo(BODY);
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq(BIDDER), anyLong(),
+                eq((long) BODY.length() - compressed.length()));
+    }
+
+    @Test
+    public void compressBodyShouldDeflateBodyBuffer() throws IOException {
+        // given
+        given(bidderCatalog.compressionConfigByName(BIDDER))
+                .willReturn(BidderCompressionConfig.of(BidderCompressionConfig.Type.deflate, 100));
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder()
+                .method(HttpMethod.POST)
+                .bodyBuffer(Buffer.buffer(BODY))
+                .build();
+
+        // when
+        final Buffer compressed = requestCompressor.compressionFor(BIDDER).compressBody(httpRequest);
+
+        // then
+        assertThat(decompress(new InflaterInputStream(new ByteArrayInputStream(compressed.getBytes()))))
+                .isEqualTo(BODY);
+    }
+
+    @Test
+    public void compressBodyShouldReturnNullWhenBodyIsBelowThreshold() {
+        // when
+        final Buffer compressed = requestCompressor.compressionFor(BIDDER).compressBody(givenHttpRequest("{}"));
+
+        // then
+        assertThat(compressed).isNull();
+        verifyZeroInteractions(metrics);
+    }
+
+    @Test
+    public void compressBodyShouldCompressIdenticalBodiesOnce() {
+        // given
+        final BidderRequestCompressor.Compression compression = requestCompressor.compressionFor(BIDDER);
+
+        // when
+        final Buffer first = compression.compressBody(givenHttpRequest(BODY));
+        final Buffer second = compression.compressBody(givenHttpRequest(BODY));
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(metrics).updateAdapterRequestCompressionMetrics(eq(BIDDER), anyLong(), anyLong());
+    }
+
+    @Test
+    public void headersShouldAddContentEncodingToRequestHeaders() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder()
+                .headers(new CaseInsensitiveHeaders().add("Content-Type", "application/json"))
+                .build();
+
+        // when
+        final MultiMap headers = requestCompressor.compressionFor(BIDDER).headers(httpRequest);
+
+        // then
+        assertThat(headers.get("Content-Type")).isEqualTo("application/json");
+        assertThat(headers.get("Content-Encoding")).isEqualTo("gzip");
+        assertThat(httpRequest.getHeaders().contains("Content-Encoding")).isFalse();
+    }
+
+    private static HttpRequest<Void> givenHttpRequest(String body) {
+        return HttpRequest.<Void>builder()
+                .method(HttpMethod.POST)
+                .body(body)
+                .build();
+    }
+
+    private static String decompress(InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[1024];
+        int length;
+        while ((length = inputStream.read(chunk)) != -1) {
+            outputStream.write(chunk, 0, length);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
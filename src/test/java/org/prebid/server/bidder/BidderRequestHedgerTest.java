@@ -0,0 +1,304 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.BidderLatencyTracker;
+import org.prebid.server.bidder.model.BidderHedgingConfig;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class BidderRequestHedgerTest {
+
+    private static final String BIDDER = "bidder";
+    private static final String URI = "http://bidder.com/path?query=1";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private BidderLatencyTracker latencyTracker;
+    @Mock
+    private BidderConcurrencyLimiter concurrencyLimiter;
+    @Mock
+    private BidderConcurrencyLimiter.Permit permit;
+    @Mock
+    private Metrics metrics;
+
+    private BidderRequestHedger requestHedger;
+
+    private List<String> sentUris;
+    private List<Promise<HttpClientResponse>> sentPromises;
+
+    @Before
+    public void setUp() {
+        given(bidderCatalog.hedgingConfigByName(anyString())).willReturn(BidderHedgingConfig.of(0.9, 100, null));
+        given(latencyTracker.percentile(anyString(), anyDouble())).willReturn(50L);
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+        given(concurrencyLimiter.tryAcquire(anyString())).willReturn(permit);
+
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        requestHedger = new BidderRequestHedger(vertx, bidderCatalog, latencyTracker, concurrencyLimiter, metrics,
+                clock);
+
+        sentUris = new ArrayList<>();
+        sentPromises = new ArrayList<>();
+    }
+
+    @Test
+    public void sendShouldNotHedgeWhenBidderHasNoHedgingConfig() {
+        // given
+        given(bidderCatalog.hedgingConfigByName(anyString())).willReturn(null);
+
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        sentPromises.get(0).complete(givenResponse());
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        verify(latencyTracker).record(eq(BIDDER), anyLong());
+        verifyZeroInteractions(vertx);
+    }
+
+    @Test
+    public void sendShouldNotHedgeWhenResponseTimeIsUnknown() {
+        // given
+        given(latencyTracker.percentile(anyString(), anyDouble())).willReturn(null);
+
+        // when
+        requestHedger.send(BIDDER, URI, 200L, this::send);
+
+        // then
+        verifyZeroInteractions(vertx);
+    }
+
+    @Test
+    public void sendShouldNotHedgeWhenHedgingDelayExceedsTimeout() {
+        // when
+        requestHedger.send(BIDDER, URI, 50L, this::send);
+
+        // then
+        verifyZeroInteractions(vertx);
+    }
+
+    @Test
+    public void sendShouldReturnOriginalResponseAndCancelTimerWhenBidderRespondsInTime() {
+        // given
+        final HttpClientResponse response = givenResponse();
+
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        sentPromises.get(0).complete(response);
+
+        // then
+        verify(vertx).setTimer(eq(50L), any());
+        verify(vertx).cancelTimer(1L);
+        assertThat(future.result()).isSameAs(response);
+    }
+
+    @Test
+    public void sendShouldReturnHedgedResponseWhenItArrivesFirst() {
+        // given
+        final HttpClientResponse response = givenResponse();
+
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+        sentPromises.get(1).complete(response);
+        sentPromises.get(0).complete(givenResponse());
+
+        // then
+        assertThat(sentUris).containsExactly(URI, URI);
+        assertThat(future.result()).isSameAs(response);
+        verify(metrics).updateAdapterHedgedRequestMetric(BIDDER);
+        verify(metrics).updateAdapterHedgeWinMetric(BIDDER);
+    }
+
+    @Test
+    public void sendShouldSendHedgedRequestToAlternateEndpoint() {
+        // given
+        given(bidderCatalog.hedgingConfigByName(anyString()))
+                .willReturn(BidderHedgingConfig.of(0.9, 100, "https://alternate.com:8080/"));
+
+        // when
+        requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+
+        // then
+        assertThat(sentUris).containsExactly(URI, "https://alternate.com:8080/path?query=1");
+    }
+
+    @Test
+    public void sendShouldWaitForHedgedResponseWhenOriginalFails() {
+        // given
+        final HttpClientResponse response = givenResponse();
+
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+        sentPromises.get(0).fail("failed");
+
+        // then
+        assertThat(future.isComplete()).isFalse();
+
+        sentPromises.get(1).complete(response);
+        assertThat(future.result()).isSameAs(response);
+    }
+
+    @Test
+    public void sendShouldFailWhenBothRequestsFail() {
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+        sentPromises.get(0).fail("original");
+        sentPromises.get(1).fail("hedged");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("hedged");
+    }
+
+    @Test
+    public void sendShouldNotHedgeWhenBudgetIsExhausted() {
+        // given
+        given(bidderCatalog.hedgingConfigByName(anyString())).willReturn(BidderHedgingConfig.of(0.9, 50, null));
+
+        // when
+        requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+
+        // then
+        assertThat(sentUris).hasSize(1);
+        verify(metrics, never()).updateAdapterHedgedRequestMetric(anyString());
+    }
+
+    @Test
+    public void sendShouldNotHedgeWhenBidderHasReachedConcurrencyLimit() {
+        // given
+        given(concurrencyLimiter.tryAcquire(anyString())).willReturn(null);
+
+        // when
+        requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+
+        // then
+        assertThat(sentUris).hasSize(1);
+        verify(concurrencyLimiter).tryAcquire(BIDDER);
+        verify(metrics, never()).updateAdapterHedgedRequestMetric(anyString());
+    }
+
+    @Test
+    public void sendShouldReleasePermitOfHedgedRequestOnceItIsCompleted() {
+        // when
+        requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+
+        // then
+        verify(permit, never()).release(anyBoolean());
+
+        sentPromises.get(1).complete(givenResponse());
+        verify(permit).release(false);
+    }
+
+    @Test
+    public void sendShouldReleasePermitOfHedgedRequestAsDroppedWhenItFails() {
+        // when
+        requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+        sentPromises.get(1).fail("failed");
+
+        // then
+        verify(permit).release(true);
+    }
+
+    @Test
+    public void sendShouldNotCompleteWithServerErrorResponseWhileOtherRequestIsPending() {
+        // given
+        final HttpClientResponse response = givenResponse();
+
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+        sentPromises.get(1).complete(HttpClientResponse.of(503, null, null));
+
+        // then
+        assertThat(future.isComplete()).isFalse();
+        verify(permit).release(true);
+
+        sentPromises.get(0).complete(response);
+        assertThat(future.result()).isSameAs(response);
+        verify(metrics, never()).updateAdapterHedgeWinMetric(anyString());
+    }
+
+    @Test
+    public void sendShouldReturnServerErrorResponseWhenNoRequestSucceeded() {
+        // given
+        final HttpClientResponse errorResponse = HttpClientResponse.of(500, null, null);
+
+        // when
+        final Future<HttpClientResponse> future = requestHedger.send(BIDDER, URI, 200L, this::send);
+        fireTimer();
+        sentPromises.get(0).complete(errorResponse);
+        sentPromises.get(1).fail("hedged");
+
+        // then
+        assertThat(future.result()).isSameAs(errorResponse);
+    }
+
+    @Test
+    public void hedgedUriShouldReplaceOriginOnly() {
+        assertThat(BidderRequestHedger.hedgedUri("http://host.com", "https://other.com")).isEqualTo("https://other.com");
+        assertThat(BidderRequestHedger.hedgedUri("http://host.com?a=b", "http://other.com"))
+                .isEqualTo("http://other.com?a=b");
+        assertThat(BidderRequestHedger.hedgedUri("host.com/path", "http://other.com")).isEqualTo("host.com/path");
+        assertThat(BidderRequestHedger.hedgedUri(URI, null)).isEqualTo(URI);
+    }
+
+    private Future<HttpClientResponse> send(String uri, long timeoutMs) {
+        final Promise<HttpClientResponse> promise = Promise.promise();
+        sentUris.add(uri);
+        sentPromises.add(promise);
+        return promise.future();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fireTimer() {
+        final ArgumentCaptor<Handler<Long>> timerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(anyLong(), timerCaptor.capture());
+        timerCaptor.getValue().handle(1L);
+    }
+
+    private static HttpClientResponse givenResponse() {
+        return HttpClientResponse.of(200, null, "{}");
+    }
+}
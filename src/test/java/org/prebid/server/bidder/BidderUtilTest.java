@@ -0,0 +1,150 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.model.HttpResponse;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.proto.openrtb.ext.ExtPrebid;
+import org.prebid.server.proto.openrtb.ext.request.mgid.ExtImpMgid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BidderUtilTest extends VertxTest {
+
+    private static final TypeReference<ExtPrebid<?, ExtImpMgid>> MGID_EXT_TYPE_REFERENCE =
+            new TypeReference<ExtPrebid<?, ExtImpMgid>>() {
+            };
+
+    @Test
+    public void decodeBodyShouldDecodeBodyBuffer() {
+        // given
+        final HttpResponse response = HttpResponse.ofBuffer(200, null, Buffer.buffer("{\"id\":\"123\"}"));
+
+        // when
+        final BidResponse result = BidderUtil.decodeBody(jacksonMapper, response, BidResponse.class);
+
+        // then
+        assertThat(result).isEqualTo(BidResponse.builder().id("123").build());
+    }
+
+    @Test
+    public void decodeBodyShouldDecodeStringBody() {
+        // given
+        final HttpResponse response = HttpResponse.of(200, null, "{\"id\":\"123\"}");
+
+        // when
+        final BidResponse result = BidderUtil.decodeBody(jacksonMapper, response, BidResponse.class);
+
+        // then
+        assertThat(result).isEqualTo(BidResponse.builder().id("123").build());
+    }
+
+    @Test
+    public void decodeBodyShouldFailOnInvalidBodyBuffer() {
+        // given
+        final HttpResponse response = HttpResponse.ofBuffer(200, null, Buffer.buffer("invalid"));
+
+        // when and then
+        assertThatThrownBy(() -> BidderUtil.decodeBody(jacksonMapper, response, BidResponse.class))
+                .isInstanceOf(DecodeException.class);
+    }
+
+    @Test
+    public void parseImpExtShouldConvertImpExtOncePerImpExtNode() {
+        // given
+        final Imp imp = givenImp("account");
+        final Imp modifiedImp = imp.toBuilder().id("otherId").build();
+
+        // when
+        final ExtPrebid<?, ExtImpMgid> first = BidderUtil.parseImpExt(jacksonMapper, imp, MGID_EXT_TYPE_REFERENCE);
+        final ExtPrebid<?, ExtImpMgid> second = BidderUtil.parseImpExt(jacksonMapper, modifiedImp,
+                new TypeReference<ExtPrebid<?, ExtImpMgid>>() {
+                });
+
+        // then
+        assertThat(first.getBidder()).isEqualTo(ExtImpMgid.of("account", null, null, null, null, null));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void parseImpExtShouldConvertEachImpExtNodeSeparately() {
+        // when
+        final ExtPrebid<?, ExtImpMgid> first = BidderUtil.parseImpExt(jacksonMapper, givenImp("account"),
+                MGID_EXT_TYPE_REFERENCE);
+        final ExtPrebid<?, ExtImpMgid> second = BidderUtil.parseImpExt(jacksonMapper, givenImp("other"),
+                MGID_EXT_TYPE_REFERENCE);
+
+        // then
+        assertThat(first.getBidder().getAccountId()).isEqualTo("account");
+        assertThat(second.getBidder().getAccountId()).isEqualTo("other");
+    }
+
+    @Test
+    public void parseImpExtBidderShouldConvertBidderExtAndCacheItSeparatelyFromWholeExt() {
+        // given
+        final Imp imp = givenImp("account");
+        final ExtPrebid<?, ExtImpMgid> extPrebid = BidderUtil.parseImpExt(jacksonMapper, imp, MGID_EXT_TYPE_REFERENCE);
+
+        // when
+        final ExtImpMgid result = BidderUtil.parseImpExtBidder(jacksonMapper, imp, ExtImpMgid.class);
+
+        // then
+        assertThat(result).isEqualTo(extPrebid.getBidder());
+        assertThat(BidderUtil.parseImpExtBidder(jacksonMapper, imp, ExtImpMgid.class)).isSameAs(result);
+    }
+
+    @Test
+    public void parseImpExtBidderShouldNotReturnWholeExtConvertedToTheSameType() {
+        // given
+        final Imp imp = givenImp("account");
+        final ExtImpMgid wholeExt = BidderUtil.parseImpExt(jacksonMapper, imp, new TypeReference<ExtImpMgid>() {
+        });
+
+        // when
+        final ExtImpMgid result = BidderUtil.parseImpExtBidder(jacksonMapper, imp, ExtImpMgid.class);
+
+        // then
+        assertThat(wholeExt.getAccountId()).isNull();
+        assertThat(result.getAccountId()).isEqualTo("account");
+    }
+
+    @Test
+    public void parseImpExtShouldNotCacheExtNotCreatedForBidderRequest() {
+        // given
+        final ObjectNode ext = mapper.createObjectNode();
+        ext.putObject("bidder").put("accountId", "account");
+        final Imp imp = Imp.builder().ext(ext).build();
+
+        // when
+        final ExtPrebid<?, ExtImpMgid> first = BidderUtil.parseImpExt(jacksonMapper, imp, MGID_EXT_TYPE_REFERENCE);
+        final ExtPrebid<?, ExtImpMgid> second = BidderUtil.parseImpExt(jacksonMapper, imp, MGID_EXT_TYPE_REFERENCE);
+
+        // then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    public void parseImpExtShouldFailWhenImpExtCannotBeConverted() {
+        // given
+        final ObjectNode ext = mapper.createObjectNode();
+        ext.putArray("bidder");
+        final Imp imp = Imp.builder().ext(ext).build();
+
+        // when and then
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> BidderUtil.parseImpExt(jacksonMapper, imp, MGID_EXT_TYPE_REFERENCE));
+    }
+
+    private static Imp givenImp(String accountId) {
+        final ObjectNode ext = new BidderImpExt(mapper.getNodeFactory());
+        ext.putObject("bidder").put("accountId", accountId);
+        return Imp.builder().id("impId").ext(ext).build();
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.bidder;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.http.HttpMethod;
 import org.junit.Before;
@@ -18,8 +19,10 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.exception.ResponseTooLargeException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
@@ -42,6 +45,9 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.same;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -57,6 +63,12 @@ public class HttpBidderRequesterTest extends VertxTest {
     private TimeoutBidder<BidRequest> timeoutBidder;
     @Mock
     private HttpClient httpClient;
+    @Mock
+    private BidderHttpClientResolver bidderHttpClientResolver;
+    @Mock
+    private TimeoutNotificationDispatcher timeoutNotificationDispatcher;
+    @Mock
+    private AggregatedErrorLogger errorLogger;
 
     private HttpBidderRequester bidderHttpConnector;
 
@@ -70,7 +82,8 @@ public class HttpBidderRequesterTest extends VertxTest {
         timeout = timeoutFactory.create(500L);
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
-        bidderHttpConnector = new HttpBidderRequester(httpClient, null);
+        bidderHttpConnector = new HttpBidderRequester(httpClient, bidderHttpClientResolver,
+                timeoutNotificationDispatcher, errorLogger, null, null, null, null);
     }
 
     @Test
@@ -80,7 +93,8 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, false).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false)
+                        .result();
 
         // then
         assertThat(bidderSeatBid.getBids()).isEmpty();
@@ -98,7 +112,8 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, false).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false)
+                        .result();
 
         // then
         assertThat(bidderSeatBid.getBids()).isEmpty();
@@ -125,12 +140,59 @@ public class HttpBidderRequesterTest extends VertxTest {
         headers.add("header2", "value2");
 
         // when
-        bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, false);
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
 
         // then
         verify(httpClient).request(eq(HttpMethod.POST), eq("uri"), eq(headers), eq("requestBody"), eq(500L));
     }
 
+    @Test
+    public void shouldSendRequestBodyBufferAsIs() {
+        // given
+        given(httpClient.requestBuffer(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        final Buffer body = Buffer.buffer("requestBody");
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri")
+                        .bodyBuffer(body)
+                        .build()),
+                emptyList()));
+
+        // when
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(httpClient).requestBuffer(eq(HttpMethod.POST), eq("uri"), any(), same(body), eq(500L));
+        verify(httpClient, never()).request(any(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldSendRequestThroughBidderDedicatedHttpClientIfPresent() {
+        // given
+        final HttpClient bidderHttpClient = mock(HttpClient.class);
+        given(bidderHttpClientResolver.httpClientFor("bidder")).willReturn(bidderHttpClient);
+        given(bidderHttpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri")
+                        .body("requestBody")
+                        .build()),
+                emptyList()));
+
+        // when
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(bidderHttpClient).request(eq(HttpMethod.POST), eq("uri"), any(), eq("requestBody"), eq(500L));
+        verifyZeroInteractions(httpClient);
+    }
+
     @Test
     public void shouldSendPopulatedGetRequestWithoutBody() {
         // given
@@ -144,7 +206,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 emptyList()));
 
         // when
-        bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, false);
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
 
         // then
         verify(httpClient).request(any(), anyString(), any(), isNull(), anyLong());
@@ -171,7 +233,7 @@ public class HttpBidderRequesterTest extends VertxTest {
                 emptyList()));
 
         // when
-        bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, false);
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
 
         // then
         verify(httpClient, times(2)).request(any(), anyString(), any(), any(), anyLong());
@@ -196,7 +258,8 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, false).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false)
+                        .result();
 
         // then
         assertThat(bidderSeatBid.getBids()).containsOnlyElementsOf(bids);
@@ -228,7 +291,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, true).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, true).result();
 
         // then
         assertThat(bidderSeatBid.getHttpCalls()).hasSize(2).containsOnly(
@@ -252,7 +315,8 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), expiredTimeout, true).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), expiredTimeout, true)
+                        .result();
 
         // then
         assertThat(bidderSeatBid.getHttpCalls()).hasSize(1).containsOnly(
@@ -275,7 +339,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, true).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, true).result();
 
         // then
         assertThat(bidderSeatBid.getHttpCalls()).hasSize(1).containsOnly(
@@ -298,7 +362,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), timeout, true).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, true).result();
 
         // then
         assertThat(bidderSeatBid.getHttpCalls()).hasSize(1).containsOnly(
@@ -323,7 +387,8 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid =
-                bidderHttpConnector.requestBids(bidder, BidRequest.builder().build(), expiredTimeout, false).result();
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), expiredTimeout, false)
+                        .result();
 
         // then
         assertThat(bidderSeatBid.getErrors()).hasSize(1)
@@ -344,13 +409,75 @@ public class HttpBidderRequesterTest extends VertxTest {
                         .build()),
                 emptyList()));
 
+        final HttpRequest<Void> timeoutNotification = HttpRequest.<Void>builder()
+                .method(HttpMethod.GET)
+                .uri("notificationUri")
+                .build();
+        given(timeoutBidder.makeTimeoutNotification(any())).willReturn(timeoutNotification);
+
         givenHttpClientProducesException(new TimeoutException("Timeout error"));
 
         // when
-        bidderHttpConnector.requestBids(timeoutBidder, BidRequest.builder().build(), timeout, false);
+        bidderHttpConnector.requestBids(timeoutBidder, "bidder", BidRequest.builder().build(), timeout, false);
 
         // then
         verify(timeoutBidder).makeTimeoutNotification(any());
+        verify(timeoutNotificationDispatcher).dispatch(eq("bidder"), same(httpClient), same(timeoutNotification));
+    }
+
+    @Test
+    public void shouldReturnResponseTooLargeErrorWhenResponseIsAborted() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri1")
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        givenHttpClientProducesException(new ResponseTooLargeException("Response size exceeded limit"));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false)
+                        .result();
+
+        // then
+        assertThat(bidderSeatBid.getErrors())
+                .containsOnly(BidderError.of("Response size exceeded limit", BidderError.Type.response_too_large));
+    }
+
+    @Test
+    public void shouldReportFailedCallsToErrorLogger() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(asList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri1")
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build(),
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri2")
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.failedFuture(new TimeoutException("Timeout exception")))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(503, null, "error")));
+
+        // when
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(errorLogger).log("bidder", "timeout", null, "Timeout exception");
+        verify(errorLogger).log("bidder", "bad_server_response", 503,
+                "Unexpected status code: 503. Run with request.test = 1 for more info");
     }
 
     @Test
@@ -421,7 +548,7 @@ public class HttpBidderRequesterTest extends VertxTest {
 
         // when
         final BidderSeatBid bidderSeatBid = bidderHttpConnector
-                .requestBids(bidder, BidRequest.builder().test(1).build(), timeout, false)
+                .requestBids(bidder, "bidder", BidRequest.builder().test(1).build(), timeout, false)
                 .result();
 
         // then
@@ -437,6 +564,28 @@ public class HttpBidderRequesterTest extends VertxTest {
                 BidderError.badServerResponse("makeBidsError"));
     }
 
+    @Test
+    public void shouldPassResponseBodyBufferToMakeBids() {
+        // given
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri(EMPTY)
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        final Buffer body = Buffer.buffer("responseBody");
+        givenHttpClientReturnsResponses(HttpClientResponse.ofBuffer(200, null, body));
+
+        // when
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(bidder).makeBids(argThat(httpCall -> httpCall.getResponse().getBodyBuffer() == body), any());
+    }
+
     @Test
     public void shouldPassEmptyJsonResponseBodyToMakeBidsIfResponseStatusIs204() {
         // given
@@ -452,12 +601,161 @@ public class HttpBidderRequesterTest extends VertxTest {
         givenHttpClientReturnsResponse(204, EMPTY);
 
         // when
-        bidderHttpConnector.requestBids(bidder, BidRequest.builder().test(1).build(), timeout, false);
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().test(1).build(), timeout, false);
 
         // then
         verify(bidder).makeBids(argThat(httpCall -> httpCall.getResponse().getBody().equals("{}")), any());
     }
 
+    @Test
+    public void shouldNotSendRequestAndReturnConcurrencyLimitedErrorWhenLimitIsReached() {
+        // given
+        final BidderConcurrencyLimiter concurrencyLimiter = mock(BidderConcurrencyLimiter.class);
+        bidderHttpConnector = new HttpBidderRequester(httpClient, bidderHttpClientResolver,
+                timeoutNotificationDispatcher, errorLogger, null, concurrencyLimiter, null, null);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("http://bidder.com/path")
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false)
+                        .result();
+
+        // then
+        verify(concurrencyLimiter).tryAcquire("bidder");
+        verifyZeroInteractions(httpClient);
+        assertThat(bidderSeatBid.getErrors()).extracting(BidderError::getType)
+                .containsOnly(BidderError.Type.concurrency_limited);
+    }
+
+    @Test
+    public void shouldSendRequestThroughHedgerWhenConfigured() {
+        // given
+        final BidderRequestHedger requestHedger = mock(BidderRequestHedger.class);
+        given(requestHedger.send(anyString(), anyString(), anyLong(), any()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+        bidderHttpConnector = new HttpBidderRequester(httpClient, bidderHttpClientResolver,
+                timeoutNotificationDispatcher, errorLogger, null, null, requestHedger, null);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("http://bidder.com/path")
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false)
+                        .result();
+
+        // then
+        verify(requestHedger).send(eq("bidder"), eq("http://bidder.com/path"), eq(500L), any());
+        verifyZeroInteractions(httpClient);
+        assertThat(bidderSeatBid.getErrors()).isEmpty();
+    }
+
+    @Test
+    public void shouldRecordUriOfHedgedRequestInDebugInfoWhenItsResponseWon() {
+        // given
+        final BidderRequestHedger requestHedger = mock(BidderRequestHedger.class);
+        given(requestHedger.send(anyString(), anyString(), anyLong(), any())).willAnswer(invocation ->
+                invocation.<BidderRequestHedger.Sender>getArgument(3).send("http://alternate.com/path", 100L));
+        bidderHttpConnector = new HttpBidderRequester(httpClient, bidderHttpClientResolver,
+                timeoutNotificationDispatcher, errorLogger, null, null, requestHedger, null);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("http://bidder.com/path")
+                        .body("requestBody")
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+        givenHttpClientReturnsResponse(200, "responseBody");
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, true)
+                        .result();
+
+        // then
+        verify(httpClient).request(any(), eq("http://alternate.com/path"), any(), any(), eq(100L));
+        assertThat(bidderSeatBid.getHttpCalls()).containsOnly(ExtHttpCall.builder().uri("http://alternate.com/path")
+                .requestbody("requestBody").responsebody("responseBody").status(200).build());
+    }
+
+    @Test
+    public void shouldSendCompressedBodyWhenBidderCompressesRequests() {
+        // given
+        final BidderRequestCompressor requestCompressor = mock(BidderRequestCompressor.class);
+        final BidderRequestCompressor.Compression compression = mock(BidderRequestCompressor.Compression.class);
+        given(requestCompressor.compressionFor("bidder")).willReturn(compression);
+        final Buffer compressedBody = Buffer.buffer("compressed");
+        given(compression.compressBody(any())).willReturn(compressedBody);
+        final MultiMap compressionHeaders = new CaseInsensitiveHeaders().add("Content-Encoding", "gzip");
+        given(compression.headers(any())).willReturn(compressionHeaders);
+        given(httpClient.requestBuffer(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "{}")));
+        bidderHttpConnector = new HttpBidderRequester(httpClient, bidderHttpClientResolver,
+                timeoutNotificationDispatcher, errorLogger, null, null, null, requestCompressor);
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("http://bidder.com/path")
+                        .body("body")
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+        given(bidder.makeBids(any(), any())).willReturn(Result.of(emptyList(), emptyList()));
+
+        // when
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(httpClient).requestBuffer(eq(HttpMethod.POST), eq("http://bidder.com/path"), same(compressionHeaders),
+                same(compressedBody), anyLong());
+        verify(httpClient, never()).request(any(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldReleaseConcurrencyLimiterPermitAsDroppedOnServerError() {
+        // given
+        final BidderConcurrencyLimiter concurrencyLimiter = mock(BidderConcurrencyLimiter.class);
+        final BidderConcurrencyLimiter.Permit permit = mock(BidderConcurrencyLimiter.Permit.class);
+        given(concurrencyLimiter.tryAcquire(anyString())).willReturn(permit);
+        bidderHttpConnector = new HttpBidderRequester(httpClient, bidderHttpClientResolver,
+                timeoutNotificationDispatcher, errorLogger, null, concurrencyLimiter, null, null);
+
+        givenHttpClientReturnsResponse(503, null);
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri(EMPTY)
+                        .body(EMPTY)
+                        .headers(new CaseInsensitiveHeaders())
+                        .build()),
+                emptyList()));
+
+        // when
+        bidderHttpConnector.requestBids(bidder, "bidder", BidRequest.builder().build(), timeout, false);
+
+        // then
+        verify(permit).release(true);
+    }
+
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
@@ -0,0 +1,235 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.TimeoutNotificationConfig;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.HttpClient;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class TimeoutNotificationDispatcherTest {
+
+    private static final String BIDDER = "bidder";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Context context;
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+    @Mock
+    private HttpClient httpClient;
+
+    private Handler<Long> flushHandler;
+
+    private TimeoutNotificationDispatcher dispatcher;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        doAnswer(invocation -> {
+            ((Handler<Void>) invocation.getArgument(0)).handle(null);
+            return null;
+        }).when(context).runOnContext(any());
+        given(vertx.setPeriodic(anyLong(), any())).willAnswer(invocation -> {
+            flushHandler = invocation.getArgument(1);
+            return 1L;
+        });
+        given(clock.millis()).willReturn(0L);
+        given(bidderCatalog.timeoutNotificationConfigByName(BIDDER))
+                .willReturn(TimeoutNotificationConfig.of(300L, 0, 1.0));
+
+        dispatcher = new TimeoutNotificationDispatcher(vertx, bidderCatalog, 2, 100L, metrics, clock);
+        dispatcher.initialize();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveQueueCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new TimeoutNotificationDispatcher(vertx, bidderCatalog, 0, 100L, metrics, clock));
+    }
+
+    @Test
+    public void creationShouldNotStartFlushUntilInitialized() {
+        // when
+        new TimeoutNotificationDispatcher(vertx, bidderCatalog, 2, 100L, metrics, clock);
+
+        // then
+        verify(vertx, times(1)).setPeriodic(anyLong(), any());
+    }
+
+    @Test
+    public void dispatchShouldSendNotificationOnContextItWasDispatchedOn() {
+        // given
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+        verify(context, never()).runOnContext(any());
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(context).runOnContext(any());
+        verify(httpClient).request(eq(HttpMethod.GET), eq("uri1"), any(), isNull(), eq(300L));
+    }
+
+    @Test
+    public void dispatchShouldSendNotificationWithConfiguredTimeoutOnFlush() {
+        // given
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+        verifyZeroInteractions(httpClient);
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.GET), eq("uri1"), any(), isNull(), eq(300L));
+        verify(metrics).updateAdapterTimeoutNotificationMetric(BIDDER, MetricName.sent);
+    }
+
+    @Test
+    public void dispatchShouldUseDefaultConfigWhenBidderHasNone() {
+        // given
+        dispatcher.dispatch("unknown", httpClient, notification("uri1"));
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.GET), eq("uri1"), any(), isNull(), eq(200L));
+    }
+
+    @Test
+    public void dispatchShouldMergeIdenticalNotificationsWithinWindow() {
+        // given
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(httpClient).request(any(), anyString(), any(), isNull(), anyLong());
+        verify(metrics).updateAdapterTimeoutNotificationMetric(BIDDER, MetricName.merged);
+    }
+
+    @Test
+    public void dispatchShouldMergeNotificationsWithIdenticalBodyBytesAndSendBodyAsIs() {
+        // given
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1", Buffer.buffer("body")));
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1", Buffer.buffer("body")));
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1", Buffer.buffer("other")));
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(httpClient).requestBuffer(any(), eq("uri1"), any(), eq(Buffer.buffer("body")), anyLong());
+        verify(httpClient).requestBuffer(any(), eq("uri1"), any(), eq(Buffer.buffer("other")), anyLong());
+        verify(httpClient, never()).request(any(), anyString(), any(), any(), anyLong());
+        verify(metrics).updateAdapterTimeoutNotificationMetric(BIDDER, MetricName.merged);
+    }
+
+    @Test
+    public void dispatchShouldDropNotificationWhenQueueIsFull() {
+        // given
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri2"));
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri3"));
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(httpClient, times(2)).request(any(), anyString(), any(), isNull(), anyLong());
+        verify(metrics).updateAdapterTimeoutNotificationMetric(BIDDER, MetricName.dropped);
+    }
+
+    @Test
+    public void dispatchShouldSkipNotificationWhenSampledOut() {
+        // given
+        given(bidderCatalog.timeoutNotificationConfigByName(BIDDER))
+                .willReturn(TimeoutNotificationConfig.of(300L, 0, 0.0));
+
+        // when
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+        flushHandler.handle(1L);
+
+        // then
+        verifyZeroInteractions(httpClient);
+        verify(metrics).updateAdapterTimeoutNotificationMetric(BIDDER, MetricName.sampled_out);
+    }
+
+    @Test
+    public void flushShouldNotSendNotificationsOverRateLimit() {
+        // given
+        given(bidderCatalog.timeoutNotificationConfigByName(BIDDER))
+                .willReturn(TimeoutNotificationConfig.of(300L, 1, 1.0));
+
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri1"));
+        flushHandler.handle(1L);
+
+        // when
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri2"));
+        flushHandler.handle(1L);
+
+        given(clock.millis()).willReturn(1000L);
+        dispatcher.dispatch(BIDDER, httpClient, notification("uri3"));
+        flushHandler.handle(1L);
+
+        // then
+        verify(httpClient).request(any(), eq("uri1"), any(), isNull(), anyLong());
+        verify(httpClient).request(any(), eq("uri3"), any(), isNull(), anyLong());
+        verify(metrics).updateAdapterTimeoutNotificationMetric(BIDDER, MetricName.rate_limited);
+    }
+
+    private static HttpRequest<Void> notification(String uri) {
+        return HttpRequest.<Void>builder()
+                .method(HttpMethod.GET)
+                .uri(uri)
+                .headers(new CaseInsensitiveHeaders())
+                .build();
+    }
+
+    private static HttpRequest<Void> notification(String uri, Buffer body) {
+        return HttpRequest.<Void>builder()
+                .method(HttpMethod.POST)
+                .uri(uri)
+                .bodyBuffer(body)
+                .headers(new CaseInsensitiveHeaders())
+                .build();
+    }
+}
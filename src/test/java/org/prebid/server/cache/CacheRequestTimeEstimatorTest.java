@@ -0,0 +1,120 @@
+package org.prebid.server.cache;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class CacheRequestTimeEstimatorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private CacheRequestTimeEstimator estimator;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        estimator = new CacheRequestTimeEstimator(10L, 0.9, 5L, 100L, 60000L, 1000L, 3, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPercentile() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new CacheRequestTimeEstimator(10L, 0, 5L, 100L, 60000L, 1000L, 3, metrics, clock));
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidBounds() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new CacheRequestTimeEstimator(10L, 0.9, 50L, 20L, 60000L, 1000L, 3, metrics, clock));
+    }
+
+    @Test
+    public void expectedRequestTimeShouldReturnDefaultTimeIfNotEnoughSamples() {
+        // given
+        estimator.recordResponseTime(50L);
+        estimator.recordResponseTime(50L);
+        given(clock.millis()).willReturn(1000L);
+
+        // when and then
+        assertThat(estimator.expectedRequestTime()).isEqualTo(10L);
+    }
+
+    @Test
+    public void expectedRequestTimeShouldReturnResponseTimeAtPercentile() {
+        // given
+        for (long i = 1; i <= 50; i++) {
+            estimator.recordResponseTime(i);
+        }
+        given(clock.millis()).willReturn(1000L);
+
+        // when and then
+        assertThat(estimator.expectedRequestTime()).isBetween(45L, 46L);
+    }
+
+    @Test
+    public void expectedRequestTimeShouldBeKeptWithinBounds() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            estimator.recordResponseTime(1L);
+        }
+        given(clock.millis()).willReturn(1000L);
+        final long lowEstimation = estimator.expectedRequestTime();
+
+        for (int i = 0; i < 10; i++) {
+            estimator.recordResponseTime(500L);
+        }
+        given(clock.millis()).willReturn(2000L);
+        final long highEstimation = estimator.expectedRequestTime();
+
+        // then
+        assertThat(lowEstimation).isEqualTo(5L);
+        assertThat(highEstimation).isEqualTo(100L);
+    }
+
+    @Test
+    public void expectedRequestTimeShouldNotBeRefreshedWithinRefreshInterval() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            estimator.recordResponseTime(50L);
+        }
+        given(clock.millis()).willReturn(999L);
+
+        // when and then
+        assertThat(estimator.expectedRequestTime()).isEqualTo(10L);
+    }
+
+    @Test
+    public void creationShouldRegisterGaugeReportingExpectedRequestTime() {
+        // given
+        final ArgumentCaptor<LongSupplier> gaugeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createCacheExpectedRequestTimeGauge(gaugeCaptor.capture());
+
+        for (int i = 0; i < 3; i++) {
+            estimator.recordResponseTime(50L);
+        }
+        given(clock.millis()).willReturn(1000L);
+
+        // when and then
+        assertThat(gaugeCaptor.getValue().getAsLong()).isEqualTo(50L);
+    }
+}
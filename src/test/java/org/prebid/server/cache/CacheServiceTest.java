@@ -14,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.StageBudgetAllocator;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.cache.model.CacheContext;
 import org.prebid.server.cache.model.CacheHttpRequest;
@@ -32,6 +33,7 @@ import org.prebid.server.events.EventsService;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.response.Bid;
 import org.prebid.server.proto.response.MediaType;
@@ -48,6 +50,7 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import static java.util.Arrays.asList;
@@ -66,6 +69,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -83,6 +87,10 @@ public class CacheServiceTest extends VertxTest {
     private EventsService eventsService;
     @Mock
     private Metrics metrics;
+    @Mock
+    private AggregatedErrorLogger errorLogger;
+    @Mock
+    private StageBudgetAllocator stageBudgetAllocator;
 
     private Clock clock;
 
@@ -94,10 +102,14 @@ public class CacheServiceTest extends VertxTest {
 
     private Timeout expiredTimeout;
 
+    @SuppressWarnings("unchecked")
     @Before
     public void setUp() throws MalformedURLException, JsonProcessingException {
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
+        given(stageBudgetAllocator.runWithinBudget(any(), any(), any(), any())).willAnswer(inv ->
+                ((Function<Timeout, Future<?>>) inv.getArgument(3)).apply(inv.getArgument(1)));
+
         cacheService = new CacheService(
                 mediaTypeCacheTtl,
                 httpClient,
@@ -105,6 +117,9 @@ public class CacheServiceTest extends VertxTest {
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
                 metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -206,6 +221,8 @@ public class CacheServiceTest extends VertxTest {
         assertThat(future.failed()).isTrue();
         assertThat(future.cause()).isInstanceOf(RuntimeException.class)
                 .hasMessage("Response exception");
+        verify(errorLogger).log("cache", "RuntimeException", null,
+                "Error occurred while interacting with cache service: Response exception");
     }
 
     @Test
@@ -263,6 +280,9 @@ public class CacheServiceTest extends VertxTest {
                 "https://cache-service-host:8080/cache?uuid=",
                 eventsService,
                 metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -319,6 +339,94 @@ public class CacheServiceTest extends VertxTest {
                 .containsOnly(BidCacheResult.of("uuid1", "http://cache-service-host/cache?uuid=uuid1"));
     }
 
+    @Test
+    public void cacheBidsShouldRecordResponseTimeInRequestTimeEstimator() throws MalformedURLException {
+        // given
+        final CacheRequestTimeEstimator requestTimeEstimator = mock(CacheRequestTimeEstimator.class);
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                eventsService,
+                metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                requestTimeEstimator,
+                clock,
+                jacksonMapper);
+
+        // when
+        cacheService.cacheBids(singleBidList(), timeout, "accountId");
+
+        // then
+        verify(requestTimeEstimator).recordResponseTime(eq(0L));
+    }
+
+    @Test
+    public void cacheBidsShouldRecordAllottedTimeInRequestTimeEstimatorWhenRequestTimesOut()
+            throws MalformedURLException {
+        // given
+        final CacheRequestTimeEstimator requestTimeEstimator = new CacheRequestTimeEstimator(
+                10L, 0.9, 0L, 1000L, 60000L, 0L, 3, metrics, clock);
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                eventsService,
+                metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                requestTimeEstimator,
+                clock,
+                jacksonMapper);
+        given(httpClient.post(anyString(), any(), any(), anyLong()))
+                .willReturn(Future.failedFuture(new TimeoutException("Timeout period of 500ms has been exceeded")));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            cacheService.cacheBids(singleBidList(), timeout, "accountId");
+        }
+
+        // then
+        assertThat(requestTimeEstimator.expectedRequestTime()).isEqualTo(500L);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldRecordResponseTimeInRequestTimeEstimatorWhenRequestFails()
+            throws MalformedURLException {
+        // given
+        final CacheRequestTimeEstimator requestTimeEstimator = mock(CacheRequestTimeEstimator.class);
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                eventsService,
+                metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                requestTimeEstimator,
+                clock,
+                jacksonMapper);
+        given(httpClient.post(anyString(), any(), any(), anyLong()))
+                .willReturn(Future.failedFuture(new TimeoutException("Timeout period of 500ms has been exceeded")));
+
+        // when
+        cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidOpenrtb(identity())),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .bidderToBidIds(singletonMap("bidder", singletonList("bidId1")))
+                        .build(),
+                eventsContext);
+
+        // then
+        verify(requestTimeEstimator).recordResponseTime(eq(500L));
+    }
+
     @Test
     public void cacheBidsVideoOnlyShouldPerformHttpRequestWithExpectedBody() throws IOException {
         // when
@@ -684,6 +792,9 @@ public class CacheServiceTest extends VertxTest {
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
                 metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -716,6 +827,9 @@ public class CacheServiceTest extends VertxTest {
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
                 metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -746,6 +860,9 @@ public class CacheServiceTest extends VertxTest {
                 "http://cache-service-host/cache?uuid=",
                 eventsService,
                 metrics,
+                errorLogger,
+                stageBudgetAllocator,
+                null,
                 clock,
                 jacksonMapper);
 
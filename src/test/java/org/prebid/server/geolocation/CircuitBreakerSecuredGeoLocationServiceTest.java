@@ -49,7 +49,7 @@ public class CircuitBreakerSecuredGeoLocationServiceTest {
         vertx = Vertx.vertx();
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         geoLocationService = new CircuitBreakerSecuredGeoLocationService(vertx, wrappedGeoLocationService, metrics, 1,
-                100L, 200L, clock);
+                100L, 200L, false, clock);
     }
 
     @After
@@ -146,7 +146,7 @@ public class CircuitBreakerSecuredGeoLocationServiceTest {
     public void lookupShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds(TestContext context) {
         // given
         geoLocationService = new CircuitBreakerSecuredGeoLocationService(vertx, wrappedGeoLocationService, metrics, 2,
-                100L, 200L, clock);
+                100L, 200L, false, clock);
 
         givenWrappedGeoLocationReturning(
                 Future.failedFuture(new RuntimeException("exception1")),
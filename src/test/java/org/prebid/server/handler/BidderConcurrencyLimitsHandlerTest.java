@@ -0,0 +1,53 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
+
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class BidderConcurrencyLimitsHandlerTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerResponse httpResponse;
+    @Mock
+    private BidderConcurrencyLimiter concurrencyLimiter;
+
+    private BidderConcurrencyLimitsHandler handler;
+
+    @Before
+    public void setUp() {
+        handler = new BidderConcurrencyLimitsHandler(concurrencyLimiter, jacksonMapper);
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+    }
+
+    @Test
+    public void handleShouldRespondWithLimitsState() {
+        // given
+        given(concurrencyLimiter.limits())
+                .willReturn(singletonMap("bidder", BidderConcurrencyLimiter.LimitState.of(10, 3)));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).end("{\"bidder\":{\"limit\":10,\"in_flight\":3}}");
+    }
+}
@@ -0,0 +1,212 @@
+package org.prebid.server.handler.openrtb2;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.auction.AdmissionController;
+import org.prebid.server.metric.Metrics;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class AdmissionHandlerTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private AdmissionController admissionController;
+
+    private AdmissionHandler admissionHandler;
+
+    @Before
+    public void setUp() {
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        admissionController = new AdmissionController(1, 100L, 1.0, emptySet(), singleton("premium"), null,
+                mock(Metrics.class));
+
+        admissionHandler = new AdmissionHandler(admissionController, "/openrtb2/auction", 503, jacksonMapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldPassAdmittedRequestToNextHandlerAndReleasePermitOnceResponseIsSent() {
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(routingContext).next();
+        assertThat(admissionController.inFlight()).isEqualTo(1);
+
+        final ArgumentCaptor<Handler<Void>> bodyEndHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(routingContext).addBodyEndHandler(bodyEndHandlerCaptor.capture());
+        bodyEndHandlerCaptor.getValue().handle(null);
+
+        assertThat(admissionController.inFlight()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldReleasePermitOnceConnectionIsClosed() {
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        final ArgumentCaptor<Handler<Void>> closeHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(httpResponse).closeHandler(closeHandlerCaptor.capture());
+        closeHandlerCaptor.getValue().handle(null);
+
+        assertThat(admissionController.inFlight()).isZero();
+    }
+
+    @Test
+    public void shouldRespondWithConfiguredStatusIfRequestIsShed() {
+        // given
+        admissionController.tryAdmit("/openrtb2/auction", null);
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(503);
+        verify(httpResponse).end("Server is overloaded, please retry later");
+        verify(routingContext, never()).next();
+    }
+
+    @Test
+    public void shouldRespondWithoutBodyIfRequestIsShedWithNoContentStatus() {
+        // given
+        admissionHandler = new AdmissionHandler(admissionController, "/openrtb2/auction", 204, jacksonMapper);
+        admissionController.tryAdmit("/openrtb2/auction", null);
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(204);
+        verify(httpResponse).end("");
+    }
+
+    @Test
+    public void shouldTakeAccountFromRequestParameter() {
+        // given
+        admissionController = new AdmissionController(2, 100L, 0.5, emptySet(), singleton("premium"), null,
+                mock(Metrics.class));
+        admissionHandler = new AdmissionHandler(admissionController, "/openrtb2/auction", 503, jacksonMapper);
+        admissionController.tryAdmit("/openrtb2/auction", null);
+        given(httpRequest.getParam("account")).willReturn("premium");
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(routingContext).next();
+        verify(httpResponse, never()).end(any(String.class));
+    }
+
+    @Test
+    public void shouldTakeAccountFromSitePublisherOfRequestBody() {
+        // given
+        givenPremiumAccountsAndStandardAuctionInFlight();
+        given(routingContext.getBody()).willReturn(Buffer.buffer(
+                "{\"id\":\"1\",\"imp\":[{\"id\":\"2\"}],"
+                        + "\"site\":{\"page\":\"p\",\"publisher\":{\"id\":\"premium\"}}}"));
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(routingContext).next();
+    }
+
+    @Test
+    public void shouldPreferParentAccountOfAppPublisherOfRequestBody() {
+        // given
+        givenPremiumAccountsAndStandardAuctionInFlight();
+        given(routingContext.getBody()).willReturn(Buffer.buffer(
+                "{\"app\":{\"publisher\":{\"id\":\"standard\",\"ext\":{\"prebid\":{\"parentAccount\":\"premium\"}}}},"
+                        + "\"site\":{\"publisher\":{\"id\":\"standard\"}}}"));
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(routingContext).next();
+    }
+
+    @Test
+    public void shouldPreferAccountFromRequestParameterOverRequestBody() {
+        // given
+        givenPremiumAccountsAndStandardAuctionInFlight();
+        given(httpRequest.getParam("account")).willReturn("standard");
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(routingContext, never()).getBody();
+        verify(routingContext, never()).next();
+    }
+
+    @Test
+    public void shouldTreatRequestAsStandardIfBodyIsMalformed() {
+        // given
+        givenPremiumAccountsAndStandardAuctionInFlight();
+        given(routingContext.getBody()).willReturn(Buffer.buffer("{\"site\":{\"publisher\":{\"id\":"));
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setStatusCode(503);
+        verify(routingContext, never()).next();
+    }
+
+    @Test
+    public void shouldNotLookThroughRequestBodyIfNoPremiumAccountsConfigured() {
+        // given
+        admissionController = new AdmissionController(1, 100L, 1.0, emptySet(), emptySet(), null,
+                mock(Metrics.class));
+        admissionHandler = new AdmissionHandler(admissionController, "/openrtb2/auction", 503, jacksonMapper);
+
+        // when
+        admissionHandler.handle(routingContext);
+
+        // then
+        verify(routingContext, never()).getBody();
+        verify(routingContext).next();
+    }
+
+    private void givenPremiumAccountsAndStandardAuctionInFlight() {
+        admissionController = new AdmissionController(2, 100L, 0.5, emptySet(), singleton("premium"), null,
+                mock(Metrics.class));
+        admissionHandler = new AdmissionHandler(admissionController, "/openrtb2/auction", 503, jacksonMapper);
+        admissionController.tryAdmit("/openrtb2/auction", null);
+    }
+}
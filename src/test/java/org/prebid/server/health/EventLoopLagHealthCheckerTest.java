@@ -0,0 +1,72 @@
+package org.prebid.server.health;
+
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.health.model.StatusResponse;
+import org.prebid.server.vertx.EventLoopLagProbe;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+public class EventLoopLagHealthCheckerTest {
+
+    private static final String NAME = "eventloops";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private EventLoopLagProbe eventLoopLagProbe;
+    private Clock clock;
+
+    private EventLoopLagHealthChecker eventLoopLagHealthChecker;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        eventLoopLagHealthChecker = new EventLoopLagHealthChecker(vertx, 1L, eventLoopLagProbe, 200L, clock);
+    }
+
+    @Test
+    public void getCheckNameShouldReturnExpectedResult() {
+        assertThat(eventLoopLagHealthChecker.name()).isEqualTo(NAME);
+    }
+
+    @Test
+    public void getLastStatusShouldReturnStatusUpIfEventLoopsLagWithinLimit() {
+        // given
+        given(eventLoopLagProbe.maxLag()).willReturn(200L);
+
+        // when
+        eventLoopLagHealthChecker.updateStatus();
+
+        // then
+        final StatusResponse lastStatus = eventLoopLagHealthChecker.status();
+        assertThat(lastStatus.getStatus()).isEqualTo("UP");
+        assertThat(lastStatus.getLastUpdated()).isEqualTo(ZonedDateTime.now(clock));
+    }
+
+    @Test
+    public void getLastStatusShouldReturnStatusDownIfAnyEventLoopLagsMoreThanAllowed() {
+        // given
+        given(eventLoopLagProbe.maxLag()).willReturn(201L);
+
+        // when
+        eventLoopLagHealthChecker.updateStatus();
+
+        // then
+        assertThat(eventLoopLagHealthChecker.status().getStatus()).isEqualTo("DOWN");
+    }
+}
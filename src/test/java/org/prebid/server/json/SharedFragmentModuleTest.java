@@ -0,0 +1,110 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+
+import java.util.function.Function;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedFragmentModuleTest extends VertxTest {
+
+    @Test
+    public void encodeShouldProduceSameJsonWhenCacheIsOpen() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(Function.identity());
+        final BidRequest firstRequest = bidRequest.toBuilder()
+                .imp(singletonList(Imp.builder().id("1").build()))
+                .build();
+        final BidRequest secondRequest = bidRequest.toBuilder()
+                .imp(singletonList(Imp.builder().id("2").build()))
+                .build();
+
+        final String firstExpected = jacksonMapper.encode(firstRequest);
+        final String secondExpected = jacksonMapper.encode(secondRequest);
+
+        // when
+        final String first;
+        final String second;
+        final String third;
+        try (RequestEncodingCache ignored = RequestEncodingCache.open()) {
+            first = jacksonMapper.encode(firstRequest);
+            second = jacksonMapper.encode(secondRequest);
+            third = jacksonMapper.encodeToBuffer(firstRequest).toString();
+        }
+
+        // then
+        assertThat(first).isEqualTo(firstExpected);
+        assertThat(second).isEqualTo(secondExpected);
+        assertThat(third).isEqualTo(firstExpected);
+    }
+
+    @Test
+    public void encodeShouldReuseFragmentOfSharedObjectWhileCacheIsOpen() {
+        // given
+        final ObjectNode siteData = mapper.createObjectNode().put("field", "initial");
+        final BidRequest bidRequest = givenBidRequest(site -> site.ext(ExtSite.of(null, siteData)));
+
+        // when
+        final String cached;
+        try (RequestEncodingCache ignored = RequestEncodingCache.open()) {
+            jacksonMapper.encode(bidRequest);
+            jacksonMapper.encode(bidRequest);
+            siteData.put("field", "changed");
+            cached = jacksonMapper.encode(bidRequest);
+        }
+        final String notCached = jacksonMapper.encode(bidRequest);
+
+        // then
+        assertThat(cached).contains("\"initial\"");
+        assertThat(notCached).contains("\"changed\"");
+    }
+
+    @Test
+    public void encodeShouldNotCacheObjectsWhichAreNotShared() {
+        // given
+        final ObjectNode siteData = mapper.createObjectNode().put("field", "initial");
+        final BidRequest bidRequest = givenBidRequest(site -> site.ext(ExtSite.of(null, siteData)));
+
+        // when
+        final String result;
+        try (RequestEncodingCache ignored = RequestEncodingCache.open()) {
+            jacksonMapper.encode(bidRequest);
+            siteData.put("field", "changed");
+            result = jacksonMapper.encode(bidRequest);
+        }
+
+        // then
+        assertThat(result).contains("\"changed\"");
+    }
+
+    @Test
+    public void closeShouldRestorePreviouslyOpenedCache() {
+        // given
+        final RequestEncodingCache outer = RequestEncodingCache.open();
+
+        // when
+        RequestEncodingCache.open().close();
+
+        // then
+        assertThat(RequestEncodingCache.current()).isSameAs(outer);
+        outer.close();
+        assertThat(RequestEncodingCache.current()).isNull();
+    }
+
+    private static BidRequest givenBidRequest(Function<Site.SiteBuilder, Site.SiteBuilder> siteCustomizer) {
+        return BidRequest.builder()
+                .id("requestId")
+                .site(siteCustomizer.apply(Site.builder().page("http://example.com").domain("example.com")).build())
+                .device(Device.builder().ua("userAgent").ip("127.0.0.1").build())
+                .imp(singletonList(Imp.builder().id("impId").build()))
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package org.prebid.server.log;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AggregatedErrorLoggerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Logger logger;
+    @Mock
+    private Vertx vertx;
+
+    private Handler<Long> flushHandler;
+
+    private AggregatedErrorLogger errorLogger;
+
+    @Before
+    public void setUp() {
+        given(vertx.setPeriodic(anyLong(), any())).willAnswer(invocation -> {
+            flushHandler = invocation.getArgument(1);
+            return 1L;
+        });
+
+        errorLogger = new AggregatedErrorLogger(logger, vertx, 10000L, 2);
+        errorLogger.initialize();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AggregatedErrorLogger(logger, vertx, 0L, 2));
+    }
+
+    @Test
+    public void creationShouldNotStartFlushUntilInitialized() {
+        // when
+        new AggregatedErrorLogger(logger, vertx, 10000L, 2);
+
+        // then
+        verify(vertx, times(1)).setPeriodic(anyLong(), any());
+    }
+
+    @Test
+    public void logShouldNotLogEachErrorSeparately() {
+        // when
+        errorLogger.log("rubicon", "timeout", null, "Timeout exception");
+        errorLogger.log("rubicon", "timeout", null, "Timeout exception");
+
+        // then
+        verify(logger, never()).warn(any());
+    }
+
+    @Test
+    public void flushShouldLogOneSummaryLinePerWindow() {
+        // given
+        errorLogger.log("rubicon", "timeout", null, "Timeout exception");
+        errorLogger.log("rubicon", "timeout", null, "Timeout exception");
+        errorLogger.log("appnexus", "bad_server_response", 503, "Unexpected status code: 503");
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(logger).warn(and(startsWith("Errors occurred within last 10000ms:"),
+                and(contains(" [rubicon, timeout] x 2, e.g. \"Timeout exception\";"),
+                        contains(" [appnexus, bad_server_response, status 503] x 1,"
+                                + " e.g. \"Unexpected status code: 503\";"))));
+    }
+
+    @Test
+    public void flushShouldCapNumberOfExemplars() {
+        // given
+        errorLogger.log("rubicon", "generic", null, "first");
+        errorLogger.log("rubicon", "generic", null, "second");
+        errorLogger.log("rubicon", "generic", null, "third");
+
+        // when
+        flushHandler.handle(1L);
+
+        // then
+        verify(logger).warn(eq("Errors occurred within last 10000ms:"
+                + " [rubicon, generic] x 3, e.g. \"first\" \"second\";"));
+    }
+
+    @Test
+    public void flushShouldResetCountsAfterWindow() {
+        // given
+        errorLogger.log("rubicon", "generic", null, "error");
+        flushHandler.handle(1L);
+
+        // when
+        flushHandler.handle(1L);
+        errorLogger.log("rubicon", "generic", null, "error");
+        flushHandler.handle(1L);
+
+        // then
+        verify(logger, times(2)).warn(contains("[rubicon, generic] x 1"));
+        verify(logger, times(2)).warn(anyString());
+    }
+
+    @Test
+    public void flushShouldNotLoseErrorsCountedConcurrently() throws InterruptedException {
+        // given
+        final int threads = 4;
+        final int errorsPerThread = 10000;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < errorsPerThread; j++) {
+                    errorLogger.log("rubicon", "generic", null, "error");
+                }
+                latch.countDown();
+            }).start();
+        }
+
+        // when
+        while (latch.getCount() > 0) {
+            flushHandler.handle(1L);
+        }
+        latch.await();
+        flushHandler.handle(1L);
+
+        // then
+        final ArgumentCaptor<String> summaryCaptor = ArgumentCaptor.forClass(String.class);
+        verify(logger, atLeastOnce()).warn(summaryCaptor.capture());
+        final Pattern countPattern = Pattern.compile("x (\\d+)");
+        long loggedErrors = 0;
+        for (String summary : summaryCaptor.getAllValues()) {
+            final Matcher matcher = countPattern.matcher(summary);
+            while (matcher.find()) {
+                loggedErrors += Long.parseLong(matcher.group(1));
+            }
+        }
+        assertThat(loggedErrors).isEqualTo((long) threads * errorsPerThread);
+    }
+}
@@ -569,6 +569,111 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.UNKNOWN.requests.badinput").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterConnectionMetricShouldTrackActiveConnections() {
+        // when
+        metrics.updateAdapterConnectionMetric(RUBICON, true);
+        metrics.updateAdapterConnectionMetric(RUBICON, true);
+        metrics.updateAdapterConnectionMetric(RUBICON, false);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.active_connections").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdapterPoolWaitTimeShouldUpdateTimer() {
+        // when
+        metrics.updateAdapterPoolWaitTime(RUBICON, 5L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.pool_wait_time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdapterTimeoutBudgetMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateAdapterTimeoutBudgetMetric(RUBICON, 100L);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.timeout_budget").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdapterLateResponseMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdapterLateResponseMetric(RUBICON);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.late_responses").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdapterHedgedRequestMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdapterHedgedRequestMetric(RUBICON);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.hedged_requests").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdapterHedgeWinMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdapterHedgeWinMetric(RUBICON);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.hedge_wins").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdapterRequestCompressionMetricsShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterRequestCompressionMetrics(RUBICON, 150L, 2048L);
+
+        // then
+        assertThat(metricRegistry.histogram("adapter.rubicon.request_compression_time_us").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("adapter.rubicon.request_compression_saved_bytes").getCount())
+                .isEqualTo(2048);
+    }
+
+    @Test
+    public void updateAdapterTimeoutNotificationMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdapterTimeoutNotificationMetric(RUBICON, MetricName.sent);
+        metrics.updateAdapterTimeoutNotificationMetric(RUBICON, MetricName.dropped);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.timeout_notifications.sent").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("adapter.rubicon.timeout_notifications.dropped").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateDnsResolveTimeMetricShouldUpdateTimer() {
+        // when
+        metrics.updateDnsResolveTimeMetric("bidder.com", 15L);
+
+        // then
+        assertThat(metricRegistry.timer("dns.bidder.com.resolve_time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateDnsResolveFailedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateDnsResolveFailedMetric("bidder.com");
+
+        // then
+        assertThat(metricRegistry.counter("dns.bidder.com.resolve_failed").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAuctionEarlyClosedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAuctionEarlyClosedMetric();
+
+        // then
+        assertThat(metricRegistry.counter("early_closed_auctions").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateCookieSyncRequestMetricShouldIncrementMetric() {
         // when
@@ -847,6 +952,17 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("db_query_time").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateHttpClientCircuitBreakersMetricShouldTrackNumberOfCircuitBreakers() {
+        // when
+        metrics.updateHttpClientCircuitBreakersMetric(true);
+        metrics.updateHttpClientCircuitBreakersMetric(true);
+        metrics.updateHttpClientCircuitBreakersMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("httpclient_circuitbreakers").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void shouldIncrementDatabaseCircuitBreakerOpenMetric() {
         // when
@@ -1001,6 +1117,53 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateAuctionStageOverrunMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAuctionStageOverrunMetric("account");
+
+        // then
+        assertThat(metricRegistry.counter("stages.account.overruns").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdmissionMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdmissionMetric("premium", MetricName.admitted);
+        metrics.updateAdmissionMetric("standard", MetricName.shed);
+
+        // then
+        assertThat(metricRegistry.counter("admission.premium.admitted").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("admission.standard.shed").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdmissionQueueDelayMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateAdmissionQueueDelayMetric(15L);
+
+        // then
+        assertThat(metricRegistry.histogram("admission.queue_delay").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateEventLoopLagMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateEventLoopLagMetric("3", 15L);
+
+        // then
+        assertThat(metricRegistry.histogram("event_loops.3.lag").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCreatePrebidCacheExpectedRequestTimeGauge() {
+        // when
+        metrics.createCacheExpectedRequestTimeGauge(() -> 42L);
+
+        // then
+        assertThat(metricRegistry.gauge("prebid_cache.expected_request_time", null).getValue()).isEqualTo(42L);
+    }
+
     private void verifyCreatesConfiguredCounterType(Consumer<Metrics> metricsConsumer) {
         final EnumMap<CounterType, Class<? extends Metric>> counterTypeClasses = new EnumMap<>(CounterType.class);
         counterTypeClasses.put(CounterType.counter, Counter.class);
@@ -13,6 +13,7 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.log.AggregatedErrorLogger;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
@@ -52,6 +53,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
 
     @Mock
     private HttpClient httpClient;
+    @Mock
+    private AggregatedErrorLogger errorLogger;
 
     private HttpApplicationSettings httpApplicationSettings;
 
@@ -61,7 +64,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     @Before
     public void setUp() {
         httpApplicationSettings = new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, AMP_ENDPOINT,
-                VIDEO_ENDPOINT);
+                VIDEO_ENDPOINT, errorLogger);
 
         final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
@@ -73,7 +76,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     public void creationShouldFailsOnInvalidEndpoint() {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> new HttpApplicationSettings(httpClient, jacksonMapper, "invalid_url", AMP_ENDPOINT,
-                        VIDEO_ENDPOINT))
+                        VIDEO_ENDPOINT, errorLogger))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -81,7 +84,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     public void creationShouldFailsOnInvalidAmpEndpoint() {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, "invalid_url",
-                        VIDEO_ENDPOINT))
+                        VIDEO_ENDPOINT, errorLogger))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -89,7 +92,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
     public void creationShouldFailsOnInvalidVideoEndpoint() {
         assertThatIllegalArgumentException()
                 .isThrownBy(() -> new HttpApplicationSettings(httpClient, jacksonMapper, ENDPOINT, AMP_ENDPOINT,
-                        "invalid_url"))
+                        "invalid_url", errorLogger))
                 .withMessage("URL supplied is not valid: invalid_url");
     }
 
@@ -170,7 +173,7 @@ public class HttpApplicationSettingsTest extends VertxTest {
         // given
         givenHttpClientReturnsResponse(200, null);
         httpApplicationSettings = new HttpApplicationSettings(httpClient, jacksonMapper,
-                "http://some-domain?param1=value1", AMP_ENDPOINT, VIDEO_ENDPOINT);
+                "http://some-domain?param1=value1", AMP_ENDPOINT, VIDEO_ENDPOINT, errorLogger);
 
         // when
         httpApplicationSettings.getStoredData(singleton("id1"), singleton("id2"), timeout);
@@ -212,6 +215,8 @@ public class HttpApplicationSettingsTest extends VertxTest {
         assertThat(future.result().getStoredIdToImp()).isEmpty();
         assertThat(future.result().getErrors())
                 .containsOnly("Error fetching stored requests for ids [id1] via HTTP: HTTP status code 500");
+        verify(errorLogger).log("settings", "stored_data", 500,
+                "Error fetching stored requests for ids [id1] via HTTP: HTTP status code 500");
     }
 
     @Test
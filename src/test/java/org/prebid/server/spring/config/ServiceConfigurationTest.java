@@ -0,0 +1,49 @@
+package org.prebid.server.spring.config;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServiceConfigurationTest {
+
+    @Test
+    public void applyHttp2OptionsShouldEnableHttp2WithAlpnAndClearTextUpgrade() {
+        // when
+        final HttpClientOptions options = ServiceConfiguration.applyHttp2Options(new HttpClientOptions(), false,
+                50, 4, true);
+
+        // then
+        assertThat(options.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(options.isUseAlpn()).isTrue();
+        assertThat(options.isHttp2ClearTextUpgrade()).isTrue();
+        assertThat(options.getHttp2MultiplexingLimit()).isEqualTo(50);
+        assertThat(options.getHttp2MaxPoolSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void applyHttp2OptionsShouldDisableClearTextUpgradeForPriorKnowledge() {
+        // when
+        final HttpClientOptions options = ServiceConfiguration.applyHttp2Options(new HttpClientOptions(), true,
+                null, null, true);
+
+        // then
+        assertThat(options.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(options.isHttp2ClearTextUpgrade()).isFalse();
+        assertThat(options.getHttp2MultiplexingLimit()).isEqualTo(HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT);
+        assertThat(options.getHttp2MaxPoolSize()).isEqualTo(HttpClientOptions.DEFAULT_HTTP2_MAX_POOL_SIZE);
+    }
+
+    @Test
+    public void applyHttp2OptionsShouldKeepHttp11IfAlpnIsNotAvailable() {
+        // when
+        final HttpClientOptions options = ServiceConfiguration.applyHttp2Options(new HttpClientOptions(), false,
+                50, 4, false);
+
+        // then
+        assertThat(options.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_1_1);
+        assertThat(options.isUseAlpn()).isFalse();
+        assertThat(options.getHttp2MultiplexingLimit()).isEqualTo(HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT);
+    }
+}
@@ -0,0 +1,27 @@
+package org.prebid.server.spring.config;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class WebConfigurationTest {
+
+    @Test
+    public void httpServerNumShouldReturnNumberOfAvailableProcessorsForAuto() {
+        assertThat(WebConfiguration.httpServerNum("auto")).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void httpServerNumShouldReturnGivenNumber() {
+        assertThat(WebConfiguration.httpServerNum("3")).isEqualTo(3);
+    }
+
+    @Test
+    public void httpServerNumShouldFailOnInvalidValue() {
+        assertThatIllegalArgumentException().isThrownBy(() -> WebConfiguration.httpServerNum("many"))
+                .withMessageContaining("vertx.http-server-instances");
+        assertThatIllegalArgumentException().isThrownBy(() -> WebConfiguration.httpServerNum("0"))
+                .withMessageContaining("vertx.http-server-instances");
+    }
+}
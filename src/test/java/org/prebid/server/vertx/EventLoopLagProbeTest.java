@@ -0,0 +1,147 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class EventLoopLagProbeTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private EventLoopLagProbe eventLoopLagProbe;
+
+    @Before
+    public void setUp() {
+        eventLoopLagProbe = new EventLoopLagProbe(100L, vertx, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveInterval() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new EventLoopLagProbe(0L, vertx, metrics, clock));
+    }
+
+    @Test
+    public void eventLoopNameShouldReturnEventLoopNumber() {
+        assertThat(EventLoopLagProbe.eventLoopName("vert.x-eventloop-thread-3")).isEqualTo("3");
+    }
+
+    @Test
+    public void eventLoopNameShouldReturnThreadNameIfItHasNoNumber() {
+        assertThat(EventLoopLagProbe.eventLoopName("main")).isEqualTo("main");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void probeCurrentEventLoopShouldMeasureLagAsTimerLatenessAndReschedule() {
+        // given
+        given(clock.millis()).willReturn(1000L, 1130L);
+
+        // when
+        eventLoopLagProbe.probeCurrentEventLoop();
+
+        // then
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(100L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        final String eventLoop = EventLoopLagProbe.eventLoopName(Thread.currentThread().getName());
+        verify(metrics).updateEventLoopLagMetric(eventLoop, 30L);
+        verify(vertx, times(2)).setTimer(anyLong(), any());
+        assertThat(eventLoopLagProbe.lags()).isEqualTo(singletonMap(eventLoop, 30L));
+        assertThat(eventLoopLagProbe.maxLag()).isEqualTo(30L);
+    }
+
+    @Test
+    public void lagsShouldReportTimeSinceExpectedFireTimeWhenTimerIsOverdue() {
+        // given
+        given(clock.millis()).willReturn(1000L, 1600L);
+
+        // when
+        eventLoopLagProbe.probeCurrentEventLoop();
+
+        // then
+        final String eventLoop = EventLoopLagProbe.eventLoopName(Thread.currentThread().getName());
+        assertThat(eventLoopLagProbe.lags()).isEqualTo(singletonMap(eventLoop, 500L));
+        assertThat(eventLoopLagProbe.maxLag()).isEqualTo(500L);
+    }
+
+    @Test
+    public void lagsShouldBeSortedByEventLoopNumber() throws InterruptedException {
+        // given
+        given(clock.millis()).willReturn(1000L);
+
+        // when
+        for (String threadName : asList("vert.x-eventloop-thread-10", "vert.x-eventloop-thread-2", "main")) {
+            final Thread thread = new Thread(eventLoopLagProbe::probeCurrentEventLoop, threadName);
+            thread.start();
+            thread.join();
+        }
+
+        // then
+        assertThat(eventLoopLagProbe.lags().keySet()).containsExactly("2", "10", "main");
+    }
+
+    @Test
+    public void probeCurrentEventLoopShouldSkipAlreadyProbedEventLoop() {
+        // when
+        eventLoopLagProbe.probeCurrentEventLoop();
+        eventLoopLagProbe.probeCurrentEventLoop();
+
+        // then
+        verify(vertx).setTimer(anyLong(), any());
+    }
+
+    @Test
+    public void currentEventLoopLagShouldReturnLagOfEventLoopOfCurrentThread() throws InterruptedException {
+        // given
+        given(clock.millis()).willReturn(900L, 1000L, 1250L);
+        final Thread thread = new Thread(eventLoopLagProbe::probeCurrentEventLoop, "vert.x-eventloop-thread-7");
+        thread.start();
+        thread.join();
+        eventLoopLagProbe.probeCurrentEventLoop();
+
+        // when
+        final long lag = eventLoopLagProbe.currentEventLoopLag();
+
+        // then
+        assertThat(lag).isEqualTo(150L);
+    }
+
+    @Test
+    public void currentEventLoopLagShouldReturnZeroIfEventLoopIsNotProbed() {
+        assertThat(eventLoopLagProbe.currentEventLoopLag()).isZero();
+    }
+
+    @Test
+    public void maxLagShouldReturnZeroIfNoEventLoopIsProbed() {
+        assertThat(eventLoopLagProbe.maxLag()).isZero();
+    }
+}
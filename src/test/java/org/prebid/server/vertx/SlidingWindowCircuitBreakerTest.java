@@ -0,0 +1,170 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SlidingWindowCircuitBreakerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    private CircuitBreaker circuitBreaker;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(1000L);
+
+        circuitBreaker = new SlidingWindowCircuitBreaker(2, 100L, 200L, clock);
+    }
+
+    @Test
+    public void executeShouldSucceedIfOperationSucceeds() {
+        // when
+        final Future<String> future = circuitBreaker.execute(promise -> promise.complete("value"));
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo("value");
+    }
+
+    @Test
+    public void executeShouldFailWithOriginalExceptionIfCircuitIsClosed() {
+        // when
+        final Future<?> future = executeWithFail("exception");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception");
+    }
+
+    @Test
+    public void isClosedShouldReturnFalseOnceCircuitIsOpened() {
+        // given
+        executeWithFail("exception1");
+        final boolean closedBeforeOpening = circuitBreaker.isClosed();
+
+        // when
+        executeWithFail("exception2");
+
+        // then
+        assertThat(closedBeforeOpening).isTrue();
+        assertThat(circuitBreaker.isClosed()).isFalse();
+    }
+
+    @Test
+    public void executeShouldFailWithoutCallingOperationIfOpeningThresholdReached() {
+        // given
+        @SuppressWarnings("unchecked") final Handler<Void> openHandler = mock(Handler.class);
+        circuitBreaker.openHandler(openHandler);
+
+        executeWithFail("exception1");
+        executeWithFail("exception2");
+
+        @SuppressWarnings("unchecked") final Handler<Promise<Object>> command = mock(Handler.class);
+
+        // when
+        final Future<?> future = circuitBreaker.execute(command);
+
+        // then
+        verify(openHandler).handle(null);
+        verify(command, never()).handle(any());
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+    }
+
+    @Test
+    public void executeShouldNotOpenCircuitIfFailuresAreOutsideOfOpeningInterval() {
+        // given
+        executeWithFail("exception1");
+        given(clock.millis()).willReturn(1200L);
+        executeWithFail("exception2");
+
+        // when
+        final Future<String> future = circuitBreaker.execute(promise -> promise.complete("value"));
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+    }
+
+    @Test
+    public void executeShouldCloseCircuitIfTrialOperationSucceedsAfterClosingInterval() {
+        // given
+        @SuppressWarnings("unchecked") final Handler<Void> halfOpenHandler = mock(Handler.class);
+        @SuppressWarnings("unchecked") final Handler<Void> closeHandler = mock(Handler.class);
+        circuitBreaker.halfOpenHandler(halfOpenHandler).closeHandler(closeHandler);
+
+        executeWithFail("exception1");
+        executeWithFail("exception2");
+        given(clock.millis()).willReturn(1200L);
+
+        // when
+        final Future<String> future = circuitBreaker.execute(promise -> promise.complete("value"));
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        verify(halfOpenHandler).handle(null);
+        verify(closeHandler).handle(null);
+
+        // single failure does not open circuit again, previous ones were cleared
+        assertThat(executeWithFail("exception3").cause()).hasMessage("exception3");
+        assertThat(circuitBreaker.execute(promise -> promise.complete("value")).succeeded()).isTrue();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitAgainIfTrialOperationFails() {
+        // given
+        executeWithFail("exception1");
+        executeWithFail("exception2");
+        given(clock.millis()).willReturn(1200L);
+
+        // when
+        final Future<?> trialFuture = executeWithFail("exception3");
+        final Future<String> future = circuitBreaker.execute(promise -> promise.complete("value"));
+
+        // then
+        assertThat(trialFuture.cause()).hasMessage("exception3");
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+    }
+
+    @Test
+    public void executeShouldRejectOperationsWhileTrialOperationIsInProgress() {
+        // given
+        executeWithFail("exception1");
+        executeWithFail("exception2");
+        given(clock.millis()).willReturn(1200L);
+
+        final Promise<String> trialPromise = Promise.promise();
+        circuitBreaker.<String>execute(promise -> trialPromise.future().setHandler(promise));
+
+        // when
+        final Future<String> future = circuitBreaker.execute(promise -> promise.complete("value"));
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+    }
+
+    private Future<Object> executeWithFail(String errorMessage) {
+        return circuitBreaker.execute(promise -> promise.fail(new RuntimeException(errorMessage)));
+    }
+}
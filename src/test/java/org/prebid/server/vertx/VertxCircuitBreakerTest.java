@@ -22,7 +22,7 @@ import java.time.ZoneId;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(VertxUnitRunner.class)
-public class CircuitBreakerTest {
+public class VertxCircuitBreakerTest {
 
     @Rule
     public final MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -37,7 +37,7 @@ public class CircuitBreakerTest {
     public void setUp() {
         vertx = Vertx.vertx();
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, clock);
+        circuitBreaker = new VertxCircuitBreaker("name", vertx, 1, 100L, 200L, clock);
     }
 
     @After
@@ -121,7 +121,7 @@ public class CircuitBreakerTest {
     @Test
     public void executeShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds(TestContext context) {
         // given
-        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, clock);
+        circuitBreaker = new VertxCircuitBreaker("name", vertx, 2, 100L, 200L, clock);
 
         // when
         final Future<?> future1 = executeWithFail(context, "exception1");
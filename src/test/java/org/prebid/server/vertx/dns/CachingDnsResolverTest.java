@@ -0,0 +1,264 @@
+package org.prebid.server.vertx.dns;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class CachingDnsResolverTest {
+
+    private static final String HOST = "bidder.com";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Context context;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private CachingDnsResolver dnsResolver;
+
+    private List<String> lookedUpHosts;
+    private List<Promise<DnsAnswer>> lookupPromises;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        doAnswer(invocation -> {
+            ((Handler<Void>) invocation.getArgument(0)).handle(null);
+            return null;
+        }).when(context).runOnContext(any());
+        given(clock.millis()).willReturn(0L);
+
+        lookedUpHosts = new ArrayList<>();
+        lookupPromises = new ArrayList<>();
+
+        dnsResolver = givenDnsResolver(singletonList(HOST));
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidTtlBounds() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachingDnsResolver(vertx, this::lookup,
+                singletonList(HOST), 10L, 5L, 60L, 2000L, metrics, clock));
+    }
+
+    @Test
+    public void resolveShouldNotResolveHostNotKnownInAdvance() {
+        // when
+        final Future<String> future = dnsResolver.resolve("unknown.com");
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isNull();
+        assertThat(lookedUpHosts).isEmpty();
+        verifyZeroInteractions(metrics);
+    }
+
+    @Test
+    public void resolveShouldIgnoreCaseOfHost() {
+        // when
+        dnsResolver.resolve("Bidder.COM");
+
+        // then
+        assertThat(lookedUpHosts).containsExactly(HOST);
+    }
+
+    @Test
+    public void resolveShouldLookUpHostOnceAndServeCachedAnswer() {
+        // given
+        final Future<String> first = dnsResolver.resolve(HOST);
+        final Future<String> second = dnsResolver.resolve(HOST);
+
+        // when
+        lookupPromises.get(0).complete(DnsAnswer.of(singletonList("10.0.0.1"), 60L));
+        final Future<String> third = dnsResolver.resolve(HOST);
+
+        // then
+        assertThat(lookedUpHosts).containsExactly(HOST);
+        assertThat(first.result()).isEqualTo("10.0.0.1");
+        assertThat(second.result()).isEqualTo("10.0.0.1");
+        assertThat(third.result()).isEqualTo("10.0.0.1");
+        verify(metrics).updateDnsResolveTimeMetric(eq(HOST), anyLong());
+    }
+
+    @Test
+    public void resolveShouldRotateAddresses() {
+        // given
+        dnsResolver.resolve(HOST);
+        lookupPromises.get(0).complete(DnsAnswer.of(Arrays.asList("10.0.0.1", "10.0.0.2"), 60L));
+
+        // when and then
+        assertThat(dnsResolver.resolve(HOST).result()).isEqualTo("10.0.0.2");
+        assertThat(dnsResolver.resolve(HOST).result()).isEqualTo("10.0.0.1");
+        assertThat(dnsResolver.resolve(HOST).result()).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    public void resolveShouldServeStaleAnswerWhileRefreshIsInFlight() {
+        // given
+        dnsResolver.resolve(HOST);
+        lookupPromises.get(0).complete(DnsAnswer.of(singletonList("10.0.0.1"), 60L));
+        given(clock.millis()).willReturn(61_000L);
+
+        // when
+        final Future<String> first = dnsResolver.resolve(HOST);
+        final Future<String> second = dnsResolver.resolve(HOST);
+
+        // then
+        assertThat(first.result()).isEqualTo("10.0.0.1");
+        assertThat(second.result()).isEqualTo("10.0.0.1");
+        assertThat(lookedUpHosts).hasSize(2);
+
+        lookupPromises.get(1).complete(DnsAnswer.of(singletonList("10.0.0.2"), 60L));
+        assertThat(dnsResolver.resolve(HOST).result()).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    public void resolveShouldClampTtlToMinimum() {
+        // given
+        dnsResolver.resolve(HOST);
+        lookupPromises.get(0).complete(DnsAnswer.of(singletonList("10.0.0.1"), 1L));
+        given(clock.millis()).willReturn(9_000L);
+
+        // when
+        dnsResolver.resolve(HOST);
+
+        // then
+        assertThat(lookedUpHosts).hasSize(1);
+    }
+
+    @Test
+    public void resolveShouldClampTtlToMaximum() {
+        // given
+        dnsResolver.resolve(HOST);
+        lookupPromises.get(0).complete(DnsAnswer.of(singletonList("10.0.0.1"), 3600L));
+        given(clock.millis()).willReturn(300_000L);
+
+        // when
+        dnsResolver.resolve(HOST);
+
+        // then
+        assertThat(lookedUpHosts).hasSize(2);
+    }
+
+    @Test
+    public void resolveShouldWaitForLookupWhenAnswerIsStaleForTooLong() {
+        // given
+        dnsResolver.resolve(HOST);
+        lookupPromises.get(0).complete(DnsAnswer.of(singletonList("10.0.0.1"), 60L));
+        given(clock.millis()).willReturn(120_000L);
+
+        // when
+        final Future<String> future = dnsResolver.resolve(HOST);
+
+        // then
+        assertThat(future.isComplete()).isFalse();
+
+        lookupPromises.get(1).complete(DnsAnswer.of(singletonList("10.0.0.2"), 60L));
+        assertThat(future.result()).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    public void resolveShouldFailWhenLookupFails() {
+        // given
+        final Future<String> future = dnsResolver.resolve(HOST);
+
+        // when
+        lookupPromises.get(0).fail("no such host");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("no such host");
+        verify(metrics).updateDnsResolveFailedMetric(HOST);
+    }
+
+    @Test
+    public void resolveShouldFailWhenAnswerHasNoAddresses() {
+        // given
+        final Future<String> future = dnsResolver.resolve(HOST);
+
+        // when
+        lookupPromises.get(0).complete(DnsAnswer.of(new ArrayList<>(), 60L));
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("No addresses found for host bidder.com");
+    }
+
+    @Test
+    public void prefetchShouldLookUpHostsAndScheduleRefresh() {
+        // given
+        dnsResolver = givenDnsResolver(Arrays.asList(HOST, "cache.com"));
+
+        // when
+        dnsResolver.prefetch(1000L);
+
+        // then
+        assertThat(lookedUpHosts).containsOnly(HOST, "cache.com");
+        verify(vertx).setPeriodic(eq(1000L), any());
+    }
+
+    @Test
+    public void prefetchShouldRefreshAnswersShortlyBeforeExpiration() {
+        // given
+        final List<Handler<Long>> periodicHandlers = new ArrayList<>();
+        given(vertx.setPeriodic(anyLong(), any())).willAnswer(invocation -> {
+            periodicHandlers.add(invocation.getArgument(1));
+            return 1L;
+        });
+
+        dnsResolver.prefetch(1000L);
+        lookupPromises.get(0).complete(DnsAnswer.of(singletonList("10.0.0.1"), 60L));
+
+        // when
+        given(clock.millis()).willReturn(57_000L);
+        periodicHandlers.get(0).handle(1L);
+        given(clock.millis()).willReturn(58_000L);
+        periodicHandlers.get(0).handle(1L);
+
+        // then
+        assertThat(lookedUpHosts).hasSize(2);
+    }
+
+    private CachingDnsResolver givenDnsResolver(List<String> hosts) {
+        return new CachingDnsResolver(vertx, this::lookup, hosts, 10L, 300L, 60L, 2000L, metrics, clock);
+    }
+
+    private Future<DnsAnswer> lookup(String host) {
+        final Promise<DnsAnswer> promise = Promise.promise();
+        lookedUpHosts.add(host);
+        lookupPromises.add(promise);
+        return promise.future();
+    }
+}
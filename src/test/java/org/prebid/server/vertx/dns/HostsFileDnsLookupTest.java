@@ -0,0 +1,52 @@
+package org.prebid.server.vertx.dns;
+
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HostsFileDnsLookupTest {
+
+    private HostsFileDnsLookup dnsLookup;
+
+    @Before
+    public void setUp() {
+        dnsLookup = new HostsFileDnsLookup("# comment\n"
+                + "10.0.0.1 bidder.com cache.com # trailing comment\n"
+                + "\n"
+                + "::1 bidder.com\n"
+                + "10.0.0.2\tBidder.com\r\n", 30L);
+    }
+
+    @Test
+    public void lookupShouldReturnAllIpv4AddressesOfHost() {
+        // when
+        final Future<DnsAnswer> future = dnsLookup.lookup("BIDDER.com");
+
+        // then
+        assertThat(future.result()).isEqualTo(DnsAnswer.of(asList("10.0.0.1", "10.0.0.2"), 30L));
+    }
+
+    @Test
+    public void lookupShouldResolveEachHostOfLine() {
+        // when
+        final Future<DnsAnswer> future = dnsLookup.lookup("cache.com");
+
+        // then
+        assertThat(future.result()).isEqualTo(DnsAnswer.of(singletonList("10.0.0.1"), 30L));
+    }
+
+    @Test
+    public void lookupShouldFailForUnknownHost() {
+        // when
+        final Future<DnsAnswer> future = dnsLookup.lookup("unknown.com");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("Host unknown.com is not found in hosts file");
+    }
+}
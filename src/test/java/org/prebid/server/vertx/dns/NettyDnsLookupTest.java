@@ -0,0 +1,153 @@
+package org.prebid.server.vertx.dns;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.dns.model.DnsAnswer;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link NettyDnsLookup} against local stub DNS server, so no network access is needed.
+ */
+public class NettyDnsLookupTest {
+
+    private Vertx vertx;
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+
+    private NettyDnsLookup dnsLookup;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        vertx = Vertx.vertx();
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new Bootstrap()
+                .group(serverGroup)
+                .channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(DatagramChannel channel) {
+                        channel.pipeline().addLast(
+                                new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(), new StubDnsHandler());
+                    }
+                })
+                .bind("127.0.0.1", 0).sync().channel();
+
+        dnsLookup = givenDnsLookup(vertx);
+    }
+
+    @After
+    public void tearDown() {
+        serverChannel.close().syncUninterruptibly();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        vertx.close();
+    }
+
+    @Test
+    public void lookupShouldReturnAllAddressesWithMinimalTtl() throws Exception {
+        // when
+        final DnsAnswer answer = lookup("bidder.com");
+
+        // then
+        assertThat(answer).isEqualTo(DnsAnswer.of(asList("10.0.0.1", "10.0.0.2"), 30L));
+    }
+
+    @Test
+    public void lookupShouldWorkWithNativeTransport() throws Exception {
+        // given
+        final Vertx nativeVertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+        dnsLookup = givenDnsLookup(nativeVertx);
+
+        // when
+        final DnsAnswer answer;
+        try {
+            answer = lookup("bidder.com");
+        } finally {
+            nativeVertx.close();
+        }
+
+        // then
+        assertThat(answer).isEqualTo(DnsAnswer.of(asList("10.0.0.1", "10.0.0.2"), 30L));
+    }
+
+    @Test
+    public void lookupShouldFailWhenHostIsNotFound() {
+        assertThatThrownBy(() -> lookup("unknown.com"))
+                .hasCauseInstanceOf(PreBidException.class)
+                .hasMessageContaining("NXDomain");
+    }
+
+    private NettyDnsLookup givenDnsLookup(Vertx vertx) {
+        final int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+        return new NettyDnsLookup(vertx, singletonList("127.0.0.1:" + port), 1000L);
+    }
+
+    private DnsAnswer lookup(String host) throws InterruptedException, ExecutionException, TimeoutException {
+        final CompletableFuture<DnsAnswer> result = new CompletableFuture<>();
+        dnsLookup.lookup(host).setHandler(async -> {
+            if (async.succeeded()) {
+                result.complete(async.result());
+            } else {
+                result.completeExceptionally(async.cause());
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Answers queries for bidder.com with two A records, others with NXDOMAIN.
+     */
+    private static class StubDnsHandler extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext context, DatagramDnsQuery query) {
+            final DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            final DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(),
+                    query.id());
+            response.addRecord(DnsSection.QUESTION, question);
+
+            if (question.name().startsWith("bidder.com")) {
+                response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(question.name(), DnsRecordType.A, 60L,
+                        Unpooled.wrappedBuffer(new byte[]{10, 0, 0, 1})));
+                response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(question.name(), DnsRecordType.A, 30L,
+                        Unpooled.wrappedBuffer(new byte[]{10, 0, 0, 2})));
+            } else {
+                response.setCode(DnsResponseCode.NXDOMAIN);
+            }
+
+            context.writeAndFlush(response);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -53,7 +54,8 @@ public class CircuitBreakerSecuredHttpClientTest {
     public void setUp() {
         vertx = Vertx.vertx();
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L,
+                false, CircuitBreakerGranularity.host_path, 100, 60000L, clock);
     }
 
     @After
@@ -170,7 +172,8 @@ public class CircuitBreakerSecuredHttpClientTest {
     @Test
     public void requestShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds(TestContext context) {
         // given
-        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 2, 100L, 200L, clock);
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 2, 100L, 200L,
+                false, CircuitBreakerGranularity.host_path, 100, 60000L, clock);
 
         givenHttpClientReturning(new RuntimeException("exception1"), new RuntimeException("exception2"));
 
@@ -217,6 +220,133 @@ public class CircuitBreakerSecuredHttpClientTest {
         verify(metrics).updateHttpClientCircuitBreakerMetric(eq("www_some_host_1_com"), eq(false));
     }
 
+    @Test
+    public void requestShouldUseSameCircuitBreakerForUrlsDifferentOnlyInQueryString(TestContext context) {
+        // given
+        givenHttpClientReturning(new RuntimeException("exception"), HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://www.some-host-1.com/path?member_id=1", context);
+        final Future<?> future = doRequest("http://www.some-host-1.com/path?member_id=2", context);
+
+        // then
+        verify(wrappedHttpClient).request(any(), anyString(), any(), any(), anyLong());
+
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+    }
+
+    @Test
+    public void requestShouldUseSameCircuitBreakerForDifferentPathsIfGranularityIsHost(TestContext context) {
+        // given
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L,
+                false, CircuitBreakerGranularity.host, 100, 60000L, clock);
+
+        givenHttpClientReturning(new RuntimeException("exception"), HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://www.some-host-1.com/path1", context);
+        final Future<?> future = doRequest("http://www.some-host-1.com/path2", context);
+
+        // then
+        verify(wrappedHttpClient).request(any(), anyString(), any(), any(), anyLong());
+
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+    }
+
+    @Test
+    public void requestShouldEvictCircuitBreakersOverMaxBreakersAndReportMetrics(TestContext context) {
+        // given
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L,
+                false, CircuitBreakerGranularity.host_path, 1, 60000L, clock);
+
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null), HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://www.some-host-1.com/path", context);
+        doRequest("http://www.some-host-2.com/path", context);
+
+        // then
+        verify(metrics, times(2)).updateHttpClientCircuitBreakersMetric(eq(true));
+        verify(metrics).updateHttpClientCircuitBreakersMetric(eq(false));
+        verify(metrics, never()).updateHttpClientCircuitBreakerMetric(anyString(), eq(false));
+    }
+
+    @Test
+    public void requestShouldNotEvictCircuitBreakerWithOpenedCircuitOverMaxBreakers(TestContext context) {
+        // given
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 200L,
+                false, CircuitBreakerGranularity.host_path, 1, 60000L, clock);
+
+        givenHttpClientReturning(new RuntimeException("exception"), HttpClientResponse.of(200, null, null),
+                HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://www.some-host-1.com/path", context);
+        doRequest("http://www.some-host-2.com/path", context);
+        doRequest("http://www.some-host-3.com/path", context);
+        final Future<?> future = doRequest("http://www.some-host-1.com/path", context);
+
+        // then
+        verify(wrappedHttpClient, times(3)).request(any(), anyString(), any(), any(), anyLong());
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("open circuit");
+        verify(metrics, never()).updateHttpClientCircuitBreakerMetric(eq("www_some_host_1_com"), eq(false));
+    }
+
+    @Test
+    public void requestShouldWithdrawOpenedCircuitFromMetricsWhenItsCircuitBreakerExpires(TestContext context) {
+        // given
+        httpClient = new CircuitBreakerSecuredHttpClient(vertx, wrappedHttpClient, metrics, 1, 100L, 1000L,
+                false, CircuitBreakerGranularity.host_path, 1, 100L, clock);
+
+        givenHttpClientReturning(new RuntimeException("exception"), HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest("http://www.some-host-1.com/path", context);
+        doWaitForOpeningInterval(context);
+        doRequest("http://www.some-host-2.com/path", context);
+
+        // then
+        verify(metrics).updateHttpClientCircuitBreakerMetric(eq("www_some_host_1_com"), eq(true));
+        verify(metrics).updateHttpClientCircuitBreakerMetric(eq("www_some_host_1_com"), eq(false));
+        verify(metrics).updateHttpClientCircuitBreakersMetric(eq(false));
+    }
+
+    @Test
+    public void unwrapShouldReturnUnwrappedWrappedHttpClient() {
+        // given
+        given(wrappedHttpClient.unwrap()).willReturn(wrappedHttpClient);
+
+        // when and then
+        assertThat(httpClient.unwrap()).isSameAs(wrappedHttpClient);
+    }
+
+    @Test
+    public void nameFromShouldReturnUrlPrefixAccordingToGranularity() {
+        assertThat(CircuitBreakerSecuredHttpClient.nameFrom("https://host.com:8080/path?query#fragment",
+                CircuitBreakerGranularity.host_path)).isEqualTo("https://host.com:8080/path");
+        assertThat(CircuitBreakerSecuredHttpClient.nameFrom("https://host.com:8080/path?query#fragment",
+                CircuitBreakerGranularity.host)).isEqualTo("https://host.com:8080");
+        assertThat(CircuitBreakerSecuredHttpClient.nameFrom("https://host.com?query",
+                CircuitBreakerGranularity.host_path)).isEqualTo("https://host.com");
+    }
+
+    @Test
+    public void isNameOfShouldMatchUrlContinuingWithPrefixTerminator() {
+        assertThat(CircuitBreakerSecuredHttpClient.isNameOf("https://host.com/path", "https://host.com/path?query",
+                CircuitBreakerGranularity.host_path)).isTrue();
+        assertThat(CircuitBreakerSecuredHttpClient.isNameOf("https://host.com/path", "https://host.com/path/other",
+                CircuitBreakerGranularity.host_path)).isFalse();
+        assertThat(CircuitBreakerSecuredHttpClient.isNameOf("https://host.com", "https://host.com/path",
+                CircuitBreakerGranularity.host)).isTrue();
+        assertThat(CircuitBreakerSecuredHttpClient.isNameOf("https://host.com", "https://host.com.evil/path",
+                CircuitBreakerGranularity.host)).isFalse();
+        assertThat(CircuitBreakerSecuredHttpClient.isNameOf("https://host.com", "https://host.com",
+                CircuitBreakerGranularity.host)).isTrue();
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void givenHttpClientReturning(T... results) {
         BDDMockito.BDDMyOngoingStubbing<Future<HttpClientResponse>> stubbing =
@@ -0,0 +1,108 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class HttpConnectionWarmerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private HttpClient otherHttpClient;
+
+    private HttpConnectionWarmer httpConnectionWarmer;
+
+    @Before
+    public void setUp() {
+        given(httpClient.unwrap()).willReturn(httpClient);
+        given(otherHttpClient.unwrap()).willReturn(otherHttpClient);
+        given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+        given(otherHttpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.failedFuture(new RuntimeException("connection refused")));
+
+        httpConnectionWarmer = new HttpConnectionWarmer(vertx, asList(
+                HttpConnectionWarmer.WarmUpEndpoint.of("http://bidder.com/", () -> httpClient),
+                HttpConnectionWarmer.WarmUpEndpoint.of("https://cache.com/", () -> otherHttpClient)),
+                3, 500L, 0L);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveConnections() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> new HttpConnectionWarmer(vertx, singletonList(
+                        HttpConnectionWarmer.WarmUpEndpoint.of("http://bidder.com/", () -> httpClient)), 0, 500L, 0L));
+    }
+
+    @Test
+    public void warmUpAndKeepShouldSendConcurrentRequestsToEachEndpointAndSucceedDespiteFailures() {
+        // when
+        final Future<Void> future = httpConnectionWarmer.warmUpAndKeep();
+
+        // then
+        verify(httpClient, times(3))
+                .request(eq(HttpMethod.HEAD), eq("http://bidder.com/"), isNull(), isNull(), eq(500L));
+        verify(otherHttpClient, times(3))
+                .request(eq(HttpMethod.HEAD), eq("https://cache.com/"), isNull(), isNull(), eq(500L));
+        assertThat(future.succeeded()).isTrue();
+        verify(vertx, never()).setPeriodic(anyLong(), any());
+    }
+
+    @Test
+    public void warmUpShouldSendRequestsWithUnwrappedHttpClient() {
+        // given
+        final HttpClient wrappingHttpClient = mock(HttpClient.class);
+        given(wrappingHttpClient.unwrap()).willReturn(httpClient);
+
+        httpConnectionWarmer = new HttpConnectionWarmer(vertx, singletonList(
+                HttpConnectionWarmer.WarmUpEndpoint.of("http://bidder.com/", () -> wrappingHttpClient)), 1, 500L, 0L);
+
+        // when
+        httpConnectionWarmer.warmUp();
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.HEAD), eq("http://bidder.com/"), isNull(), isNull(), eq(500L));
+        verify(wrappingHttpClient, never()).request(any(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void warmUpAndKeepShouldScheduleKeeperIfKeepIntervalIsConfigured() {
+        // given
+        httpConnectionWarmer = new HttpConnectionWarmer(vertx, singletonList(
+                HttpConnectionWarmer.WarmUpEndpoint.of("http://bidder.com/", () -> httpClient)), 1, 500L, 10000L);
+
+        // when
+        httpConnectionWarmer.warmUpAndKeep();
+
+        // then
+        verify(vertx).setPeriodic(eq(10000L), any());
+    }
+}